@@ -0,0 +1,113 @@
+package com.example.employee_management_api.benchmark;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.mapper.ExplicitEmployeeMapper;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.repository.EmployeeRepositoryCustomImpl;
+import com.example.employee_management_api.service.EmployeeCache;
+import com.example.employee_management_api.service.EmployeeCountCache;
+import com.example.employee_management_api.service.EmployeeEmailFilter;
+import com.example.employee_management_api.service.EmployeeMetrics;
+import com.example.employee_management_api.service.EmployeeService;
+import com.example.employee_management_api.service.SequenceBlockAllocator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating 1,000 employees with one create per employee (email check and insert each) versus one batch
+ * create (one $in email lookup, one reserved ID range and one unordered bulk insert). Every invocation creates
+ * new employees; the collection is emptied before each iteration. Requires MongoDB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class BatchCreateMongoBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final Department[] DEPARTMENTS = Department.values();
+
+    @Param({"per-item", "batch"})
+    public String path;
+
+    private MongoTemplate mongoTemplate;
+    private EmployeeRepository repository;
+    private EmployeeService employeeService;
+    private int sequence;
+
+    @Setup
+    public void setUp() {
+        // A database of its own: the collection is emptied between iterations
+        mongoTemplate = BenchmarkFixtures.mongoTemplate(0);
+        BenchmarkFixtures.seed(mongoTemplate, 0);
+        EmployeeRepositoryCustomImpl custom = new EmployeeRepositoryCustomImpl(mongoTemplate);
+
+        // save and the email lookups run the same commands as SimpleMongoRepository and the derived queries;
+        // the rest goes to the custom fragment
+        repository = (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "save" -> mongoTemplate.save(args[0]);
+                    case "findEmployeeByEmail" -> mongoTemplate.findOne(Query.query(Criteria.where("email").is(args[0])), Employee.class);
+                    case "findByEmailIn" -> mongoTemplate.find(Query.query(Criteria.where("email").in((Collection<?>) args[0])), Employee.class);
+                    default -> method.invoke(custom, args);
+                });
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyCollection() {
+        mongoTemplate.remove(new Query(), Employee.class);
+        // A fresh email filter per iteration, so its false positive rate does not grow with the created employees
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator(BenchmarkFixtures.inMemoryCounterService(), "employeeId", 50, 0, Runnable::run);
+        employeeService = new EmployeeService(repository, allocator, new ExplicitEmployeeMapper(), new EmployeeCache(10_000, Duration.ZERO),
+                new EmployeeCountCache(1_000, Duration.ofSeconds(30)), new EmployeeEmailFilter(1_000_000, 0.01),
+                BenchmarkFixtures.noOpStatsService(), BenchmarkFixtures.noOpChangeFeed(),
+                new EmployeeMetrics(new SimpleMeterRegistry(), BATCH_SIZE), BATCH_SIZE);
+    }
+
+    @Benchmark
+    public int createEmployees() {
+        List<EmployeeDTO> employees = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            sequence++;
+            employees.add(new EmployeeDTO(null, "Batch Employee " + sequence, "batch" + sequence + "@example.com",
+                    DEPARTMENTS[sequence % DEPARTMENTS.length]));
+        }
+
+        int created = 0;
+        if (path.equals("per-item")) {
+            for (EmployeeDTO employee : employees) {
+                created += employeeService.createEmployee(employee).getStatusCode() == 201 ? 1 : 0;
+            }
+        } else {
+            created = (int) employeeService.createEmployees(employees).getData().stream()
+                    .filter(result -> result.getStatusCode() == 201)
+                    .count();
+        }
+        return created;
+    }
+}
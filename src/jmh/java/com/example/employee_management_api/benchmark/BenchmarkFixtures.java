@@ -0,0 +1,182 @@
+package com.example.employee_management_api.benchmark;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.service.CounterService;
+import com.example.employee_management_api.service.EmployeeChangeFeed;
+import com.example.employee_management_api.service.EmployeeStatsService;
+import com.example.employee_management_api.util.SearchTokens;
+import com.mongodb.ConnectionString;
+import com.mongodb.client.MongoClients;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.SimpleMongoClientDatabaseFactory;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.util.unit.DataSize;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared test data and in-memory stand-ins for MongoDB used by the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    private static final Department[] DEPARTMENTS = Department.values();
+    private static final String[] FIRST_NAMES = {"Alice", "Bruno", "Chen", "Dilani", "Emma", "Farah", "George", "Hiro", "Ines", "Jonas",
+            "Kavya", "Liam", "Maya", "Nuwan", "Olga", "Pedro", "Quinn", "Rosa", "Sami", "Tara"};
+    private static final String[] LAST_NAMES = {"Anderson", "Brown", "Costa", "Dias", "Evans", "Fernando", "Garcia", "Hughes", "Ivanova", "Johnson",
+            "Kim", "Lopez", "Martin", "Nakamura", "Okafor", "Perera", "Quintero", "Rossi", "Silva", "Taylor"};
+
+    private BenchmarkFixtures() {
+    }
+
+    static Employee employee(int sequence) {
+        String fullName = FIRST_NAMES[sequence % FIRST_NAMES.length] + " " + LAST_NAMES[(sequence / FIRST_NAMES.length) % LAST_NAMES.length];
+        Employee employee = new Employee(String.format("%024x", sequence), String.format("EM%04d", sequence), fullName,
+                "employee" + sequence + "@example.com", DEPARTMENTS[sequence % DEPARTMENTS.length], LocalDateTime.now(), LocalDateTime.now());
+        // A standalone MongoTemplate runs no entity callbacks, so derive the search tokens here
+        employee.setNameTokens(SearchTokens.tokenize(fullName));
+        return employee;
+    }
+
+    static List<Employee> employees(int count) {
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            employees.add(employee(i));
+        }
+        return employees;
+    }
+
+    /**
+     * MongoTemplate for the *MongoBenchmark classes, connected to the mongo.uri system property.
+     * Each data set size gets its own database so benchmarks do not reseed each other's data.
+     */
+    static MongoTemplate mongoTemplate(int count) {
+        ConnectionString uri = new ConnectionString(System.getProperty("mongo.uri", "mongodb://localhost:27017/employee_benchmark"));
+        String database = (uri.getDatabase() == null ? "employee_benchmark" : uri.getDatabase()) + "_" + count;
+        return new MongoTemplate(new SimpleMongoClientDatabaseFactory(MongoClients.create(uri), database));
+    }
+
+    /**
+     * Seeds the employees collection with the given number of documents unless it already holds them,
+     * and creates the indexes declared on Employee.
+     */
+    static void seed(MongoTemplate mongoTemplate, int count) {
+        if (mongoTemplate.estimatedCount(Employee.class) != count) {
+            mongoTemplate.dropCollection(Employee.class);
+            for (int from = 1; from <= count; from += 10_000) {
+                List<Employee> batch = new ArrayList<>(10_000);
+                for (int i = from; i < from + 10_000 && i <= count; i++) {
+                    batch.add(employee(i));
+                }
+                mongoTemplate.insert(batch, Employee.class);
+            }
+        }
+
+        IndexOperations indexOperations = mongoTemplate.indexOps(Employee.class);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+                .resolveIndexFor(Employee.class)
+                .forEach(indexOperations::ensureIndex);
+    }
+
+    /**
+     * Counter stand-in that hands out sequence blocks from memory.
+     */
+    static CounterService inMemoryCounterService() {
+        AtomicInteger sequence = new AtomicInteger(1_000_000);
+        return new CounterService() {
+            @Override
+            public int reserveBlock(String counterName, int blockSize) {
+                return sequence.addAndGet(blockSize);
+            }
+        };
+    }
+
+    /**
+     * Statistics stand-in that drops all counter updates.
+     */
+    static EmployeeStatsService noOpStatsService() {
+        return new EmployeeStatsService(null) {
+            @Override
+            public void recordCreated(Collection<Employee> employees) {
+            }
+
+            @Override
+            public void recordDepartmentChanged(Department previous, Department current) {
+            }
+
+            @Override
+            public void recordDepartmentsChanged(List<Employee> previous, List<Employee> current) {
+            }
+
+            @Override
+            public void recordDeleted(Employee employee) {
+            }
+
+            @Override
+            public void recordDeleted(Collection<Employee> employees) {
+            }
+        };
+    }
+
+    /**
+     * Change feed stand-in that drops all events.
+     */
+    static EmployeeChangeFeed noOpChangeFeed() {
+        return new EmployeeChangeFeed(null, null, new SimpleMeterRegistry(), 1, 1, DataSize.ofKilobytes(4), false) {
+            @Override
+            public void publish(String type, List<EmployeeDTO> employees) {
+            }
+        };
+    }
+
+    /**
+     * Repository stand-in backed by maps. Only the methods used on the benchmarked paths are supported.
+     */
+    static EmployeeRepository inMemoryRepository(List<Employee> seed) {
+        Map<String, Employee> byId = new ConcurrentHashMap<>();
+        Map<String, Employee> byEmployeeId = new ConcurrentHashMap<>();
+        Map<String, Employee> byEmail = new ConcurrentHashMap<>();
+        List<Employee> ordered = new ArrayList<>(seed);
+        for (Employee employee : seed) {
+            byId.put(employee.getId(), employee);
+            byEmployeeId.put(employee.getEmployeeId(), employee);
+            byEmail.put(employee.getEmail(), employee);
+        }
+
+        return (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(byId.get((String) args[0]));
+                    case "findByEmployeeId" -> byEmployeeId.get((String) args[0]);
+                    case "findEmployeeByEmail" -> byEmail.get((String) args[0]);
+                    case "findSlice" -> slice(ordered, (Pageable) args[0]);
+                    case "save" -> args[0];
+                    case "findLatestLastModifiedAt" -> null;
+                    case "count", "estimatedCount" -> (long) byId.size();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryEmployeeRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static Slice<Employee> slice(List<Employee> employees, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), employees.size());
+        int to = Math.min(from + pageable.getPageSize(), employees.size());
+        return new SliceImpl<>(employees.subList(from, to), pageable, to < employees.size());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.employee_management_api.benchmark;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.mapper.ExplicitEmployeeMapper;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.repository.EmployeeRepositoryCustomImpl;
+import com.example.employee_management_api.service.EmployeeCache;
+import com.example.employee_management_api.service.EmployeeCountCache;
+import com.example.employee_management_api.service.EmployeeEmailFilter;
+import com.example.employee_management_api.service.EmployeeMetrics;
+import com.example.employee_management_api.service.EmployeeService;
+import com.example.employee_management_api.service.SequenceBlockAllocator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moving 10,000 employees to another department with one patch per employee versus batch updates of
+ * BATCH_SIZE employees, each one $in read and one unordered bulk write. Every invocation moves all employees,
+ * alternating between two departments so that each update changes the document. Requires MongoDB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class BulkUpdateMongoBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"per-item", "bulk"})
+    public String path;
+
+    private EmployeeService employeeService;
+    private List<String> employeeIds;
+    private Department target = Department.SALES;
+
+    @Setup
+    public void setUp() {
+        MongoTemplate mongoTemplate = BenchmarkFixtures.mongoTemplate(EMPLOYEES);
+        BenchmarkFixtures.seed(mongoTemplate, EMPLOYEES);
+        EmployeeRepositoryCustomImpl custom = new EmployeeRepositoryCustomImpl(mongoTemplate);
+
+        // findByEmployeeIdIn runs the same $in query as the derived query; the rest goes to the custom fragment
+        EmployeeRepository repository = (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findByEmployeeIdIn")) {
+                        return mongoTemplate.find(Query.query(Criteria.where("employeeId").in((Collection<?>) args[0])), Employee.class);
+                    }
+                    return method.invoke(custom, args);
+                });
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator(BenchmarkFixtures.inMemoryCounterService(), "employeeId", 50, 0, Runnable::run);
+        employeeService = new EmployeeService(repository, allocator, new ExplicitEmployeeMapper(), new EmployeeCache(10_000, Duration.ZERO),
+                new EmployeeCountCache(1_000, Duration.ofSeconds(30)), new EmployeeEmailFilter(100_000, 0.01),
+                BenchmarkFixtures.noOpStatsService(), BenchmarkFixtures.noOpChangeFeed(),
+                new EmployeeMetrics(new SimpleMeterRegistry(), BATCH_SIZE), BATCH_SIZE);
+
+        employeeIds = new ArrayList<>(EMPLOYEES);
+        for (int i = 1; i <= EMPLOYEES; i++) {
+            employeeIds.add(BenchmarkFixtures.employee(i).getEmployeeId());
+        }
+    }
+
+    @Benchmark
+    public int moveAllEmployees() {
+        target = target == Department.SALES ? Department.MARKETING : Department.SALES;
+        int updated = 0;
+        if (path.equals("per-item")) {
+            for (String employeeId : employeeIds) {
+                EmployeeDTO changes = new EmployeeDTO(null, null, null, target);
+                updated += employeeService.patchEmployee(employeeId, changes, null).getStatusCode() == 200 ? 1 : 0;
+            }
+        } else {
+            for (int from = 0; from < employeeIds.size(); from += BATCH_SIZE) {
+                List<EmployeeDTO> changes = new ArrayList<>(BATCH_SIZE);
+                for (String employeeId : employeeIds.subList(from, Math.min(from + BATCH_SIZE, employeeIds.size()))) {
+                    changes.add(new EmployeeDTO(employeeId, null, null, target));
+                }
+                updated += (int) employeeService.updateEmployees(changes).getData().getModifiedCount();
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.employee_management_api.benchmark;
+
+import com.example.employee_management_api.controller.EmployeeController;
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.mapper.ExplicitEmployeeMapper;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.service.EmployeeCache;
+import com.example.employee_management_api.service.EmployeeCountCache;
+import com.example.employee_management_api.service.EmployeeEmailFilter;
+import com.example.employee_management_api.service.EmployeeMetrics;
+import com.example.employee_management_api.service.EmployeeService;
+import com.example.employee_management_api.service.SequenceBlockAllocator;
+import com.example.employee_management_api.util.APIResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full controller calls against an in-memory repository stand-in, measuring the per-request CPU work
+ * of the controller and service without MongoDB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeControllerBenchmark {
+
+    private EmployeeController employeeController;
+    private Pageable firstPage;
+    private String mongoId;
+    private int nextEmail;
+
+    @Setup
+    public void setUp() {
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator(BenchmarkFixtures.inMemoryCounterService(), "employeeId", 50, 0, Runnable::run);
+        EmployeeService employeeService = new EmployeeService(BenchmarkFixtures.inMemoryRepository(BenchmarkFixtures.employees(10_000)),
+                allocator, new ExplicitEmployeeMapper(), new EmployeeCache(10_000, Duration.ZERO),
+                new EmployeeCountCache(1_000, Duration.ofSeconds(30)), new EmployeeEmailFilter(100_000, 0.01),
+                BenchmarkFixtures.noOpStatsService(), BenchmarkFixtures.noOpChangeFeed(),
+                new EmployeeMetrics(new SimpleMeterRegistry(), 2_000), 1_000);
+        // Export, import and statistics are not benchmarked here, so their services are not needed
+        employeeController = new EmployeeController(employeeService, null, null, null, null, null);
+        firstPage = PageRequest.of(0, 20);
+        mongoId = BenchmarkFixtures.employee(42).getId();
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<?>> getEmployeeByEmployeeId() {
+        return employeeController.getAllEmployeesOrEmployeeByEmployeeId("EM0042", null, null, null, firstPage, newRequest());
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<EmployeeDTO>> getEmployeeById() {
+        return employeeController.getEmployeeById(mongoId);
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<?>> getAllEmployeesFirstPage() {
+        return employeeController.getAllEmployeesOrEmployeeByEmployeeId(null, null, null, null, firstPage, newRequest());
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<EmployeeDTO>> createEmployee() {
+        EmployeeDTO employeeDTO = new EmployeeDTO(null, "Benchmark Employee", "bench" + (nextEmail++) + "@example.com", Department.ENGINEERING);
+        return employeeController.createEmployee(employeeDTO);
+    }
+
+    private static WebRequest newRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/employees"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.employee_management_api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Employee ID formatting: String.format versus manual zero padding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeIdFormatBenchmark {
+
+    @Param({"7", "4321", "1234567"})
+    public int sequence;
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format("EM%04d", sequence);
+    }
+
+    @Benchmark
+    public String manualPadding() {
+        String digits = Integer.toString(sequence);
+        StringBuilder builder = new StringBuilder(2 + Math.max(4, digits.length())).append("EM");
+        for (int i = digits.length(); i < 4; i++) {
+            builder.append('0');
+        }
+        return builder.append(digits).toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.employee_management_api.benchmark;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.mapper.EmployeeMapper;
+import com.example.employee_management_api.mapper.ExplicitEmployeeMapper;
+import com.example.employee_management_api.mapper.ModelMapperEmployeeMapper;
+import com.example.employee_management_api.model.Employee;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Employee to EmployeeDTO mapping per object and per 1,000-row page for each EmployeeMapper implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeMapperBenchmark {
+
+    @Param({"explicit", "modelmapper"})
+    public String mapper;
+
+    private EmployeeMapper employeeMapper;
+    private Employee employee;
+    private EmployeeDTO employeeDTO;
+    private List<Employee> page;
+
+    @Setup
+    public void setUp() {
+        employeeMapper = "explicit".equals(mapper) ? new ExplicitEmployeeMapper() : new ModelMapperEmployeeMapper(new ModelMapper());
+        employee = BenchmarkFixtures.employee(42);
+        employeeDTO = employeeMapper.toDto(employee);
+        page = BenchmarkFixtures.employees(1_000);
+    }
+
+    @Benchmark
+    public EmployeeDTO toDto() {
+        return employeeMapper.toDto(employee);
+    }
+
+    @Benchmark
+    public Employee toEntity() {
+        return employeeMapper.toEntity(employeeDTO);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> toDtoPageOf1000() {
+        return page.stream().map(employeeMapper::toDto).toList();
+    }
+}
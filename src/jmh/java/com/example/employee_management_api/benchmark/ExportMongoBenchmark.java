@@ -0,0 +1,65 @@
+package com.example.employee_management_api.benchmark;
+
+import com.example.employee_management_api.mapper.ExplicitEmployeeMapper;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.repository.EmployeeRepositoryCustomImpl;
+import com.example.employee_management_api.service.EmployeeExportService;
+import com.example.employee_management_api.service.EmployeeMetrics;
+import com.example.employee_management_api.util.FileFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full export of 1M employees into a discarding stream. The fork runs with a 64 MB heap, far smaller than
+ * the exported data, so completing at all shows that memory use does not grow with the collection size.
+ * Run with -prof gc to see allocation per run. Requires MongoDB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+public class ExportMongoBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+
+    @Param({"NDJSON", "CSV"})
+    public FileFormat format;
+
+    private EmployeeExportService exportService;
+
+    @Setup
+    public void setUp() {
+        var mongoTemplate = BenchmarkFixtures.mongoTemplate(EMPLOYEES);
+        BenchmarkFixtures.seed(mongoTemplate, EMPLOYEES);
+        EmployeeRepositoryCustomImpl custom = new EmployeeRepositoryCustomImpl(mongoTemplate);
+
+        // Only streamEmployees is used by the export
+        EmployeeRepository repository = (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class}, (proxy, method, args) -> method.invoke(custom, args));
+        exportService = new EmployeeExportService(repository, new ExplicitEmployeeMapper(), new ObjectMapper(),
+                new EmployeeMetrics(new SimpleMeterRegistry(), 2_000));
+    }
+
+    @Benchmark
+    public long exportAll() throws IOException {
+        return exportService.exportEmployees(format, null, null, null, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.employee_management_api.benchmark;
+
+import com.example.employee_management_api.controller.EmployeeController;
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.mapper.ExplicitEmployeeMapper;
+import com.example.employee_management_api.service.EmployeeCache;
+import com.example.employee_management_api.service.EmployeeCountCache;
+import com.example.employee_management_api.service.EmployeeEmailFilter;
+import com.example.employee_management_api.service.EmployeeMetrics;
+import com.example.employee_management_api.service.EmployeeService;
+import com.example.employee_management_api.service.SequenceBlockAllocator;
+import com.example.employee_management_api.util.APIResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Found versus not found through the controller against an in-memory repository stand-in: single lookups of a
+ * cached employee and of an unknown ID, and the first page versus a page past the end. Misses and empty pages
+ * are 404 responses built without an exception, so they should cost no more than hits; compare the
+ * gc.alloc.rate.norm (bytes per operation) reported by the gc profiler as well as the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupMissBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+
+    private EmployeeController employeeController;
+    private String mongoId;
+    private Pageable firstPage;
+    private Pageable pastLastPage;
+
+    @Setup
+    public void setUp() {
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator(BenchmarkFixtures.inMemoryCounterService(), "employeeId", 50, 0, Runnable::run);
+        EmployeeService employeeService = new EmployeeService(BenchmarkFixtures.inMemoryRepository(BenchmarkFixtures.employees(EMPLOYEES)),
+                allocator, new ExplicitEmployeeMapper(), new EmployeeCache(EMPLOYEES, Duration.ZERO),
+                new EmployeeCountCache(1_000, Duration.ofSeconds(30)), new EmployeeEmailFilter(100_000, 0.01),
+                BenchmarkFixtures.noOpStatsService(), BenchmarkFixtures.noOpChangeFeed(),
+                new EmployeeMetrics(new SimpleMeterRegistry(), 2_000), 1_000);
+        employeeController = new EmployeeController(employeeService, null, null, null, null, null);
+        mongoId = BenchmarkFixtures.employee(42).getId();
+        firstPage = PageRequest.of(0, 20);
+        pastLastPage = PageRequest.of(EMPLOYEES / 20, 20);
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<EmployeeDTO>> lookupHit() {
+        return employeeController.getEmployeeById(mongoId);
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<EmployeeDTO>> lookupMiss() {
+        return employeeController.getEmployeeById("000000000000000000000000");
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<?>> pageHit() {
+        return employeeController.getAllEmployeesOrEmployeeByEmployeeId(null, null, null, null, firstPage, newRequest());
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<?>> pageMiss() {
+        return employeeController.getAllEmployeesOrEmployeeByEmployeeId(null, null, null, null, pastLastPage, newRequest());
+    }
+
+    private static WebRequest newRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/employees"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.employee_management_api.benchmark;
+
+import com.example.employee_management_api.mapper.ExplicitEmployeeMapper;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.repository.EmployeeRepositoryCustomImpl;
+import com.example.employee_management_api.service.EmployeeCache;
+import com.example.employee_management_api.service.EmployeeCountCache;
+import com.example.employee_management_api.service.EmployeeEmailFilter;
+import com.example.employee_management_api.service.EmployeeMetrics;
+import com.example.employee_management_api.service.EmployeeService;
+import com.example.employee_management_api.service.SequenceBlockAllocator;
+import com.example.employee_management_api.util.APIResponse;
+import com.example.employee_management_api.util.TotalCount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The first list and search page at 1M employees without a total, with an approximate total (collection
+ * metadata for the listing, the count cache for the search) and with an exact total (a count per request).
+ * Requires MongoDB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageTotalMongoBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+
+    // Empty for no total
+    @Param({"", "approximate", "exact"})
+    public String total;
+
+    private EmployeeService employeeService;
+    private TotalCount totalCount;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        MongoTemplate mongoTemplate = BenchmarkFixtures.mongoTemplate(EMPLOYEES);
+        BenchmarkFixtures.seed(mongoTemplate, EMPLOYEES);
+        EmployeeRepositoryCustomImpl custom = new EmployeeRepositoryCustomImpl(mongoTemplate);
+
+        // count() runs the same count as SimpleMongoRepository; the rest goes to the custom fragment
+        EmployeeRepository repository = (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("count") && method.getParameterCount() == 0) {
+                        return mongoTemplate.count(new Query(), Employee.class);
+                    }
+                    return method.invoke(custom, args);
+                });
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator(BenchmarkFixtures.inMemoryCounterService(), "employeeId", 50, 0, Runnable::run);
+        employeeService = new EmployeeService(repository, allocator, new ExplicitEmployeeMapper(), new EmployeeCache(10_000, Duration.ZERO),
+                new EmployeeCountCache(1_000, Duration.ofSeconds(30)), new EmployeeEmailFilter(100_000, 0.01),
+                BenchmarkFixtures.noOpStatsService(), BenchmarkFixtures.noOpChangeFeed(),
+                new EmployeeMetrics(new SimpleMeterRegistry(), 2_000), 1_000);
+        totalCount = TotalCount.parse(total);
+        pageable = PageRequest.of(0, 20);
+    }
+
+    @Benchmark
+    public APIResponse<?> listPage() {
+        if (totalCount == null) {
+            return employeeService.getAllEmployees(pageable);
+        }
+        return employeeService.getAllEmployees(pageable, totalCount);
+    }
+
+    @Benchmark
+    public APIResponse<?> searchPage() {
+        if (totalCount == null) {
+            return employeeService.getAllEmployeesByFullNameOrDepartment("kavya", "HR", pageable);
+        }
+        return employeeService.getAllEmployeesByFullNameOrDepartment("kavya", "HR", pageable, totalCount);
+    }
+}
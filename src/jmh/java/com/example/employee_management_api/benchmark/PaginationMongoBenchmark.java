@@ -0,0 +1,78 @@
+package com.example.employee_management_api.benchmark;
+
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepositoryCustomImpl;
+import com.example.employee_management_api.util.PageCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Offset (skip + count) versus keyset pagination at shallow and deep pages.
+ * Requires MongoDB; seeds 200,020 employees on first run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaginationMongoBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "9999"})
+    public int page;
+
+    private MongoTemplate mongoTemplate;
+    private EmployeeRepositoryCustomImpl repository;
+    private PageRequest pageRequest;
+    private PageCursor cursor;
+
+    @Setup
+    public void setUp() {
+        mongoTemplate = BenchmarkFixtures.mongoTemplate(10_001 * PAGE_SIZE);
+        BenchmarkFixtures.seed(mongoTemplate, 10_001 * PAGE_SIZE);
+        repository = new EmployeeRepositoryCustomImpl(mongoTemplate);
+        pageRequest = PageRequest.of(page, PAGE_SIZE, Sort.by("id"));
+
+        // Position the cursor after the last document of the previous page
+        cursor = new PageCursor("id", Sort.Direction.ASC, null, null);
+        if (page > 0) {
+            Query previous = new Query().with(PageRequest.of(page - 1, PAGE_SIZE, Sort.by("id")));
+            List<Employee> previousPage = mongoTemplate.find(previous, Employee.class);
+            cursor = cursor.next(null, previousPage.get(previousPage.size() - 1).getId());
+        }
+    }
+
+    @Benchmark
+    public Page<Employee> offsetPage() {
+        Query query = new Query().with(pageRequest);
+        List<Employee> employees = mongoTemplate.find(query, Employee.class);
+        return PageableExecutionUtils.getPage(employees, pageRequest,
+                () -> mongoTemplate.count(new Query(), Employee.class));
+    }
+
+    @Benchmark
+    public Slice<Employee> keysetPage() {
+        return repository.findAllAfter(cursor, PAGE_SIZE, null);
+    }
+}
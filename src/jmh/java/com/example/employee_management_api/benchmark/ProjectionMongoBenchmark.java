@@ -0,0 +1,87 @@
+package com.example.employee_management_api.benchmark;
+
+import com.example.employee_management_api.mapper.EmployeeProjection;
+import com.example.employee_management_api.mapper.ExplicitEmployeeMapper;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.repository.EmployeeRepositoryCustomImpl;
+import com.example.employee_management_api.service.EmployeeCache;
+import com.example.employee_management_api.service.EmployeeCountCache;
+import com.example.employee_management_api.service.EmployeeEmailFilter;
+import com.example.employee_management_api.service.EmployeeMetrics;
+import com.example.employee_management_api.service.EmployeeService;
+import com.example.employee_management_api.service.SequenceBlockAllocator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading, mapping and serializing a 1,000-employee list page with whole documents versus a sparse fieldset.
+ * The JSON payload size of one page is printed during setup. Requires MongoDB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionMongoBenchmark {
+
+    private static final int EMPLOYEES = 10_000;
+    private static final int PAGE_SIZE = 1_000;
+
+    // Empty for whole employees
+    @Param({"", "employeeId,fullName"})
+    public String fields;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EmployeeService employeeService;
+    private EmployeeProjection projection;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        MongoTemplate mongoTemplate = BenchmarkFixtures.mongoTemplate(EMPLOYEES);
+        BenchmarkFixtures.seed(mongoTemplate, EMPLOYEES);
+        EmployeeRepositoryCustomImpl custom = new EmployeeRepositoryCustomImpl(mongoTemplate);
+
+        // Paged listings read slices from the custom fragment; the derived queries are not on this path
+        EmployeeRepository repository = (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class}, (proxy, method, args) -> method.invoke(custom, args));
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator(BenchmarkFixtures.inMemoryCounterService(), "employeeId", 50, 0, Runnable::run);
+        employeeService = new EmployeeService(repository, allocator, new ExplicitEmployeeMapper(), new EmployeeCache(10_000, Duration.ZERO),
+                new EmployeeCountCache(1_000, Duration.ofSeconds(30)), new EmployeeEmailFilter(100_000, 0.01),
+                BenchmarkFixtures.noOpStatsService(), BenchmarkFixtures.noOpChangeFeed(),
+                new EmployeeMetrics(new SimpleMeterRegistry(), PAGE_SIZE), 1_000);
+        projection = EmployeeProjection.parse(fields);
+        pageable = PageRequest.of(0, PAGE_SIZE);
+
+        System.out.printf("%nfields=%s: %,d bytes per %d-employee page%n", fields.isEmpty() ? "(all)" : fields,
+                listPage().length, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public byte[] listPage() throws JsonProcessingException {
+        if (projection == null) {
+            return objectMapper.writeValueAsBytes(employeeService.getAllEmployees(pageable));
+        }
+        return objectMapper.writeValueAsBytes(employeeService.getAllEmployees(pageable, projection));
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.employee_management_api.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.example.employee_management_api.controller.EmployeeController;
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.logging.RequestLogger;
+import com.example.employee_management_api.mapper.ExplicitEmployeeMapper;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.service.EmployeeCache;
+import com.example.employee_management_api.service.EmployeeCountCache;
+import com.example.employee_management_api.service.EmployeeEmailFilter;
+import com.example.employee_management_api.service.EmployeeMetrics;
+import com.example.employee_management_api.service.EmployeeService;
+import com.example.employee_management_api.service.SequenceBlockAllocator;
+import com.example.employee_management_api.util.APIResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Request throughput of the controller and service with the previous and the current logging setup, writing
+ * to a flushed log file in place of the console.
+ * <p>
+ * sync: the per-call controller and service log lines (now DEBUG, previously INFO) are enabled and written
+ * synchronously by the calling thread, as before. async-sampled: only the request summary is logged, sampled
+ * at 1%, through the non-blocking AsyncAppender configured in logback-spring.xml.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+    @Param({"sync", "async-sampled"})
+    public String logging;
+
+    private EmployeeController employeeController;
+    private RequestLogger requestLogger;
+    private Pageable firstPage;
+    private Path logFile;
+    private Appender<ILoggingEvent> appender;
+    private final AtomicInteger nextEmail = new AtomicInteger();
+
+    @Setup
+    public void setUp() throws IOException {
+        SequenceBlockAllocator allocator = new SequenceBlockAllocator(BenchmarkFixtures.inMemoryCounterService(), "employeeId", 50, 0, Runnable::run);
+        EmployeeService employeeService = new EmployeeService(BenchmarkFixtures.inMemoryRepository(BenchmarkFixtures.employees(10_000)),
+                allocator, new ExplicitEmployeeMapper(), new EmployeeCache(10_000, Duration.ZERO),
+                new EmployeeCountCache(1_000, Duration.ofSeconds(30)), new EmployeeEmailFilter(100_000, 0.01),
+                BenchmarkFixtures.noOpStatsService(), BenchmarkFixtures.noOpChangeFeed(),
+                new EmployeeMetrics(new SimpleMeterRegistry(), 2_000), 1_000);
+        employeeController = new EmployeeController(employeeService, null, null, null, null, null);
+        requestLogger = new RequestLogger(0.01, Duration.ofMillis(500));
+        firstPage = PageRequest.of(0, 20);
+
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        logFile = Files.createTempFile("request-logging-benchmark", ".log");
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%X{requestId:-}] --- [%t] %-40.40logger{39} : %m%n");
+        encoder.start();
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(logFile.toString());
+        fileAppender.setEncoder(encoder);
+        fileAppender.setImmediateFlush(true);
+        fileAppender.start();
+
+        Logger applicationLogger = context.getLogger("com.example.employee_management_api");
+        Logger requestLog = context.getLogger("employee.requests");
+        if ("sync".equals(logging)) {
+            appender = fileAppender;
+            applicationLogger.setLevel(Level.DEBUG);
+            requestLog.setLevel(Level.OFF);
+        } else {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+            applicationLogger.setLevel(Level.INFO);
+            requestLog.setLevel(Level.INFO);
+        }
+        for (Logger logger : new Logger[]{applicationLogger, requestLog}) {
+            logger.setAdditive(false);
+            logger.addAppender(appender);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        appender.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<?>> getEmployeeByEmployeeId() {
+        long start = System.nanoTime();
+        ResponseEntity<APIResponse<?>> response = employeeController.getAllEmployeesOrEmployeeByEmployeeId("EM0042", null, null, null, firstPage, newRequest());
+        logRequest("GET", "/api/employees", response.getStatusCode().value(), start);
+        return response;
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<?>> getAllEmployeesFirstPage() {
+        long start = System.nanoTime();
+        ResponseEntity<APIResponse<?>> response = employeeController.getAllEmployeesOrEmployeeByEmployeeId(null, null, null, null, firstPage, newRequest());
+        logRequest("GET", "/api/employees", response.getStatusCode().value(), start);
+        return response;
+    }
+
+    @Benchmark
+    public ResponseEntity<APIResponse<EmployeeDTO>> createEmployee() {
+        long start = System.nanoTime();
+        EmployeeDTO employeeDTO = new EmployeeDTO(null, "Benchmark Employee", "bench" + nextEmail.getAndIncrement() + "@example.com", Department.ENGINEERING);
+        ResponseEntity<APIResponse<EmployeeDTO>> response = employeeController.createEmployee(employeeDTO);
+        logRequest("POST", "/api/employees", response.getStatusCode().value(), start);
+        return response;
+    }
+
+    private void logRequest(String method, String route, int status, long start) {
+        if (!"sync".equals(logging)) {
+            requestLogger.log(requestLogger.requestId(null), method, route, null, status, System.nanoTime() - start, 1, null);
+        }
+    }
+
+    private static WebRequest newRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/employees"));
+    }
+}
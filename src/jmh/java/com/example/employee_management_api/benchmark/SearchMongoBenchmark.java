@@ -0,0 +1,79 @@
+package com.example.employee_management_api.benchmark;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepositoryCustomImpl;
+import com.example.employee_management_api.util.SearchTokens;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unanchored case-insensitive regex search versus the indexed token/department search at 1M employees.
+ * Setup fails if the indexed search plan contains a collection scan. Requires MongoDB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchMongoBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+    private static final String LEGACY_QUERY = "{'$or': [ {'fullName': {$regex: 'kavya jo', $options: 'i'}}, {'department': {$regex: '', $options: 'i'}} ]}";
+
+    private MongoTemplate mongoTemplate;
+    private EmployeeRepositoryCustomImpl repository;
+    private List<String> nameTokens;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        mongoTemplate = BenchmarkFixtures.mongoTemplate(EMPLOYEES);
+        BenchmarkFixtures.seed(mongoTemplate, EMPLOYEES);
+        repository = new EmployeeRepositoryCustomImpl(mongoTemplate);
+        nameTokens = SearchTokens.tokenize("kavya jo");
+        pageable = PageRequest.of(0, 20);
+
+        Document filter = new Document("$or", List.of(
+                new Document("nameTokens", new Document("$regex", "^kavya")),
+                new Document("department", Department.HR.name())));
+        Document explain = mongoTemplate.getDb().runCommand(new Document("explain",
+                new Document("find", mongoTemplate.getCollectionName(Employee.class)).append("filter", filter))
+                .append("verbosity", "queryPlanner"));
+        if (explain.toJson().contains("COLLSCAN")) {
+            throw new IllegalStateException("Indexed search plan uses a collection scan: " + explain.toJson());
+        }
+    }
+
+    @Benchmark
+    public List<Employee> legacyRegexSearch() {
+        return mongoTemplate.find(new BasicQuery(LEGACY_QUERY).with(pageable), Employee.class);
+    }
+
+    @Benchmark
+    public List<Employee> indexedNameSearch() {
+        return repository.searchByNameTokensOrDepartment(nameTokens, null, pageable, null).getContent();
+    }
+
+    @Benchmark
+    public List<Employee> indexedNameOrDepartmentSearch() {
+        return repository.searchByNameTokensOrDepartment(nameTokens, Department.HR, pageable, null).getContent();
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.employee_management_api.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load generator for comparing platform-thread and virtual-thread server modes.
+ * Each of the concurrent clients sends requests back to back for the given duration;
+ * throughput, error count, latency percentiles and response body bytes are printed at the end.
+ * <p>
+ * Usage: HttpLoadTest [url] [concurrency] [durationSeconds] [warmupSeconds] [conditional]
+ * </p>
+ * <p>
+ * With conditional set to true, each client polls like a cache would: it remembers the last ETag it received
+ * and sends it back in If-None-Match, so unchanged resources are answered with 304 and no body. Pages are only
+ * tagged for requests carrying If-None-Match, so the first request sends a placeholder tag.
+ * </p>
+ */
+public final class HttpLoadTest {
+
+    // Matches no page, so it only asks the server to tag the response
+    private static final String FIRST_POLL_ETAG = "W/\"0\"";
+
+    private HttpLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/api/employees?page=0&size=20");
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 60);
+        Duration warmup = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 10);
+        boolean conditional = args.length > 4 && Boolean.parseBoolean(args[4]);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+        System.out.printf("Warming up %s with %d %sclients for %ds%n", uri, concurrency,
+                conditional ? "conditional " : "", warmup.toSeconds());
+        run(client, request, concurrency, warmup, conditional);
+
+        System.out.printf("Measuring for %ds%n", duration.toSeconds());
+        Result result = run(client, request, concurrency, duration, conditional);
+        long[] latencies = result.latenciesNanos;
+        Arrays.sort(latencies);
+
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                latencies.length, result.errors, latencies.length / (double) duration.toSeconds());
+        System.out.printf("latency ms: p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99), percentile(latencies, 99.9),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+        System.out.printf("body bytes: total=%d avg=%.1f per request, not modified=%d%n",
+                result.bodyBytes, latencies.length == 0 ? 0 : result.bodyBytes / (double) latencies.length, result.notModified);
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration,
+                              boolean conditional) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Result>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    long errors = 0;
+                    long bodyBytes = 0;
+                    long notModified = 0;
+                    String etag = conditional ? FIRST_POLL_ETAG : null;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest next = etag == null ? request
+                                : HttpRequest.newBuilder(request, (name, value) -> true).header("If-None-Match", etag).build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<byte[]> response = client.send(next, HttpResponse.BodyHandlers.ofByteArray());
+                            if (response.statusCode() >= 500) {
+                                errors++;
+                                continue;
+                            }
+                            bodyBytes += response.body().length;
+                            if (response.statusCode() == 304) {
+                                notModified++;
+                            } else if (conditional) {
+                                etag = response.headers().firstValue("ETag").orElse(FIRST_POLL_ETAG);
+                            }
+                        } catch (Exception e) {
+                            errors++;
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return new Result(Arrays.copyOf(latencies, count), errors, bodyBytes, notModified);
+                }));
+            }
+        }
+
+        long errors = 0;
+        long bodyBytes = 0;
+        long notModified = 0;
+        List<long[]> parts = new ArrayList<>(concurrency);
+        int total = 0;
+        for (Future<Result> future : futures) {
+            Result part = future.get();
+            parts.add(part.latenciesNanos);
+            total += part.latenciesNanos.length;
+            errors += part.errors;
+            bodyBytes += part.bodyBytes;
+            notModified += part.notModified;
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, merged, offset, part.length);
+            offset += part.length;
+        }
+        return new Result(merged, errors, bodyBytes, notModified);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+
+    private record Result(long[] latenciesNanos, long errors, long bodyBytes, long notModified) {
+    }
+}
@@ -3,10 +3,12 @@ package com.example.employee_management_api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @SpringBootApplication
 @EnableMongoAuditing
+@EnableReactiveMongoAuditing
 public class EmployeeManagementApiApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,40 @@
+package com.example.employee_management_api.config;
+
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.service.EmployeeEmailFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Loads all stored employee emails into the email filter at startup.
+ * Writes that arrive while loading only skip their lookup and are still checked by the unique email index.
+ */
+@Component
+public class EmployeeEmailFilterLoader implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeEmailFilterLoader.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeEmailFilter employeeEmailFilter;
+
+    @Autowired
+    public EmployeeEmailFilterLoader(EmployeeRepository employeeRepository, EmployeeEmailFilter employeeEmailFilter) {
+        this.employeeRepository = employeeRepository;
+        this.employeeEmailFilter = employeeEmailFilter;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long loaded;
+        try (Stream<String> emails = employeeRepository.streamEmails()) {
+            loaded = employeeEmailFilter.load(emails);
+        }
+        logger.info("Loaded {} employee emails into the email filter", loaded);
+    }
+}
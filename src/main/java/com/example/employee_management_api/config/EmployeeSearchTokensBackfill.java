@@ -0,0 +1,66 @@
+package com.example.employee_management_api.config;
+
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.util.SearchTokens;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Populates nameTokens for employees saved before indexed search existed.
+ * Runs once at startup and only touches documents that have no nameTokens yet.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.storage", havingValue = "mongo", matchIfMissing = true)
+public class EmployeeSearchTokensBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSearchTokensBackfill.class);
+    private static final int BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public EmployeeSearchTokensBackfill(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Query missingTokens = Query.query(Criteria.where("nameTokens").exists(false));
+        missingTokens.fields().include("id", "fullName");
+
+        int updated = 0;
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class);
+        int pending = 0;
+        try (Stream<Employee> employees = mongoTemplate.stream(missingTokens, Employee.class)) {
+            for (Employee employee : (Iterable<Employee>) employees::iterator) {
+                bulkOperations.updateOne(Query.query(Criteria.where("id").is(employee.getId())),
+                        Update.update("nameTokens", SearchTokens.tokenize(employee.getFullName())));
+                if (++pending == BATCH_SIZE) {
+                    bulkOperations.execute();
+                    updated += pending;
+                    pending = 0;
+                    bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class);
+                }
+            }
+        }
+        if (pending > 0) {
+            bulkOperations.execute();
+            updated += pending;
+        }
+        if (updated > 0) {
+            logger.info("Backfilled search tokens for {} employees", updated);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.employee_management_api.config;
+
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.model.EmployeeStat;
+import com.example.employee_management_api.service.EmployeeStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the employee statistics at startup when the statistics collection is empty but employees exist,
+ * e.g. on a database that predates the statistics. Later writes only adjust the counters, so without this
+ * the headcounts would stay wrong until the statistics are rebuilt by hand.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.storage", havingValue = "mongo", matchIfMissing = true)
+public class EmployeeStatsLoader implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeStatsLoader.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final EmployeeStatsService employeeStatsService;
+
+    @Autowired
+    public EmployeeStatsLoader(MongoTemplate mongoTemplate, EmployeeStatsService employeeStatsService) {
+        this.mongoTemplate = mongoTemplate;
+        this.employeeStatsService = employeeStatsService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (mongoTemplate.estimatedCount(EmployeeStat.class) > 0 || mongoTemplate.estimatedCount(Employee.class) == 0) {
+            return;
+        }
+        logger.info("Employee statistics are empty; building them from the stored employees");
+        employeeStatsService.rebuildStats();
+    }
+}
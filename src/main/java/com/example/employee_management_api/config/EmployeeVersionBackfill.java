@@ -0,0 +1,42 @@
+package com.example.employee_management_api.config;
+
+import com.example.employee_management_api.model.Employee;
+import com.mongodb.client.result.UpdateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sets version 0 on employees saved before optimistic locking existed.
+ * Without a version Spring Data treats a loaded employee as new, and saving it would try to insert it again.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.storage", havingValue = "mongo", matchIfMissing = true)
+public class EmployeeVersionBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeVersionBackfill.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public EmployeeVersionBackfill(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        UpdateResult result = mongoTemplate.updateMulti(Query.query(Criteria.where("version").exists(false)),
+                Update.update("version", 0L), Employee.class);
+        if (result.getModifiedCount() > 0) {
+            logger.info("Backfilled version for {} employees", result.getModifiedCount());
+        }
+    }
+}
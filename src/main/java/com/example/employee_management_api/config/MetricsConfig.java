@@ -0,0 +1,83 @@
+package com.example.employee_management_api.config;
+
+import com.example.employee_management_api.service.SequenceBlockAllocator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers the application meters that Spring Boot does not provide.
+ * <p>
+ * Request latency per route (http.server.requests), repository invocations and MongoDB driver commands are
+ * timed by Spring Boot; their histograms are enabled in application.properties. This configuration adds
+ * the response serialization timer and the hi/lo allocator refill statistics. Work done per employee is timed
+ * once per response or export rather than per row, so recording stays off the per-row path.
+ * All meters are served by the local /actuator/prometheus scrape endpoint.
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Exposes how often callers wait for the employee ID allocator to refill its block, how long they wait,
+     * and how often the refill lock is contended. The allocator keeps the counts; the meters only read them.
+     */
+    @Bean
+    public MeterBinder employeeIdAllocatorMetrics(SequenceBlockAllocator employeeIdAllocator) {
+        String counter = employeeIdAllocator.getCounterName();
+        return registry -> {
+            FunctionTimer.builder("employee.id.refill.wait", employeeIdAllocator,
+                            SequenceBlockAllocator::getRefillWaitCount, SequenceBlockAllocator::getRefillWaitNanos, TimeUnit.NANOSECONDS)
+                    .description("Time next() callers waited for a sequence block refill")
+                    .tag("counter", counter)
+                    .register(registry);
+            FunctionCounter.builder("employee.id.refill.contended", employeeIdAllocator, SequenceBlockAllocator::getContendedRefillCount)
+                    .description("Refill waits that found the refill lock held by another thread")
+                    .tag("counter", counter)
+                    .register(registry);
+            FunctionCounter.builder("employee.id.blocks", employeeIdAllocator, SequenceBlockAllocator::getPrefetchedBlockCount)
+                    .description("Sequence blocks swapped in by the allocator")
+                    .tags("counter", counter, "source", "prefetch")
+                    .register(registry);
+            FunctionCounter.builder("employee.id.blocks", employeeIdAllocator, SequenceBlockAllocator::getFetchedBlockCount)
+                    .description("Sequence blocks swapped in by the allocator")
+                    .tags("counter", counter, "source", "fetch")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Replaces Spring Boot's JSON message converter with one that times writing each response body.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public MappingJackson2HttpMessageConverter timedJacksonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        Timer serializationTimer = Timer.builder("employee.response.serialization")
+                .description("Time spent writing JSON response bodies")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        return new MappingJackson2HttpMessageConverter(objectMapper) {
+            @Override
+            protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+                long start = System.nanoTime();
+                try {
+                    super.writeInternal(object, type, outputMessage);
+                } finally {
+                    serializationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        };
+    }
+}
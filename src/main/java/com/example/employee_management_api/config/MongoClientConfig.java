@@ -0,0 +1,36 @@
+package com.example.employee_management_api.config;
+
+import com.example.employee_management_api.logging.MongoCommandCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the MongoDB connection pool and command listeners.
+ * Defaults match the driver; the virtual-threads profile raises them because request concurrency
+ * is then bounded by the pool rather than by the Tomcat thread pool.
+ */
+@Configuration
+public class MongoClientConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(@Value("${employee.mongo.max-pool-size:100}") int maxPoolSize,
+                                                                         @Value("${employee.mongo.max-connecting:2}") int maxConnecting,
+                                                                         @Value("${employee.mongo.max-wait-ms:120000}") long maxWaitMillis) {
+        return settings -> settings.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxPoolSize)
+                .maxConnecting(maxConnecting)
+                .maxWaitTime(maxWaitMillis, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Counts the MongoDB commands of each request for the request log.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer commandCounterCustomizer() {
+        return settings -> settings.addCommandListener(new MongoCommandCounter());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.employee_management_api.config;
+
+import com.example.employee_management_api.service.CounterService;
+import com.example.employee_management_api.service.ReactiveCounterService;
+import com.example.employee_management_api.service.ReactiveSequenceBlockAllocator;
+import com.example.employee_management_api.service.SequenceBlockAllocator;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Configures the block allocator used for generating employee IDs.
+ * Block size and prefetch threshold are set via the employee.id.* properties.
+ */
+@Configuration
+public class SequenceAllocatorConfig {
+
+    // Not exposed as a bean: an Executor bean would replace Spring Boot's applicationTaskExecutor
+    private final ExecutorService prefetchExecutor;
+
+    public SequenceAllocatorConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("sequence-prefetch-", 0).factory()
+                : Thread.ofPlatform().name("sequence-prefetch").daemon(true).factory();
+        this.prefetchExecutor = Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @Bean
+    public SequenceBlockAllocator employeeIdAllocator(CounterService counterService,
+                                                      @Value("${employee.id.block-size:50}") int blockSize,
+                                                      @Value("${employee.id.prefetch-threshold:10}") int prefetchThreshold) {
+        return new SequenceBlockAllocator(counterService, "employeeId", blockSize, prefetchThreshold, prefetchExecutor);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveSequenceBlockAllocator reactiveEmployeeIdAllocator(ReactiveCounterService reactiveCounterService,
+                                                                      @Value("${employee.id.block-size:50}") int blockSize) {
+        return new ReactiveSequenceBlockAllocator(reactiveCounterService, "employeeId", blockSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.shutdown();
+    }
+}
@@ -1,31 +1,82 @@
 package com.example.employee_management_api.controller;
 
+import com.example.employee_management_api.dto.BatchItemResultDTO;
+import com.example.employee_management_api.dto.BulkWriteResultDTO;
+import com.example.employee_management_api.dto.CacheStatsDTO;
+import com.example.employee_management_api.dto.CursorPageDTO;
+import com.example.employee_management_api.dto.EmailFilterStatsDTO;
 import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.dto.EmployeeStatsDTO;
+import com.example.employee_management_api.dto.ImportJobDTO;
+import com.example.employee_management_api.dto.ImportRowErrorDTO;
+import com.example.employee_management_api.dto.PageDTO;
+import com.example.employee_management_api.exception.PreconditionFailedException;
+import com.example.employee_management_api.mapper.EmployeeProjection;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.service.EmployeeChangeFeed;
+import com.example.employee_management_api.service.EmployeeExportService;
+import com.example.employee_management_api.service.EmployeeImportService;
 import com.example.employee_management_api.service.EmployeeService;
+import com.example.employee_management_api.service.EmployeeStatsService;
 import com.example.employee_management_api.util.APIResponse;
+import com.example.employee_management_api.util.FileFormat;
+import com.example.employee_management_api.util.TotalCount;
+import com.example.employee_management_api.util.VersionETags;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controller for handling employee-related HTTP requests.
  * Provides endpoints for CRUD operations on employees.
+ * Active on the servlet stack; the reactive profile serves the same routes from ReactiveEmployeeController.
  */
 @RestController
 @RequestMapping("/api/employees")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class EmployeeController {
     private final EmployeeService employeeService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeStatsService employeeStatsService;
+    private final EmployeeChangeFeed employeeChangeFeed;
+    private final ObjectMapper objectMapper;
     private static final Logger logger = LoggerFactory.getLogger(EmployeeController.class);
 
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeExportService employeeExportService,
+                              EmployeeImportService employeeImportService, EmployeeStatsService employeeStatsService,
+                              EmployeeChangeFeed employeeChangeFeed, ObjectMapper objectMapper) {
         this.employeeService = employeeService;
+        this.employeeExportService = employeeExportService;
+        this.employeeImportService = employeeImportService;
+        this.employeeStatsService = employeeStatsService;
+        this.employeeChangeFeed = employeeChangeFeed;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -36,11 +87,90 @@ public class EmployeeController {
      */
     @PostMapping
     public ResponseEntity<APIResponse<EmployeeDTO>> createEmployee (@Valid @RequestBody EmployeeDTO employeeDTO) {
-        logger.info("Received the request to create new employee");
+        logger.debug("Received the request to create new employee");
         APIResponse<EmployeeDTO> apiResponse = employeeService.createEmployee(employeeDTO);
         return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
     }
 
+    /**
+     * Creates a batch of employees in one request.
+     * Items are validated individually so that invalid items do not fail the whole batch.
+     *
+     * @return a ResponseEntity containing an ApiResponse with per-item results and a 201, 207 or 400 status
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<APIResponse<List<BatchItemResultDTO>>> createEmployees (@RequestBody List<EmployeeDTO> employeeDTOs) {
+        logger.debug("Received the request to create a batch of {} employees", employeeDTOs.size());
+        APIResponse<List<BatchItemResultDTO>> apiResponse = employeeService.createEmployees(employeeDTOs);
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
+    /**
+     * Partially updates a batch of employees in one bulk write. Each item names the employee by employeeId and
+     * carries only the fields to change.
+     *
+     * @return a ResponseEntity containing an ApiResponse with the matched and modified counts, per-item results
+     * and a 200, 207 or 400 status
+     */
+    @PatchMapping("/batch")
+    public ResponseEntity<APIResponse<BulkWriteResultDTO>> updateEmployees (@RequestBody List<EmployeeDTO> changes) {
+        logger.debug("Received the request to update a batch of {} employees", changes.size());
+        APIResponse<BulkWriteResultDTO> apiResponse = employeeService.updateEmployees(changes);
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
+    /**
+     * Applies the fields of the body to every employee of the department given as query parameter,
+     * e.g. PATCH /api/employees?department=MARKETING with {"department": "SALES"}.
+     *
+     * @return a ResponseEntity containing an ApiResponse with the matched and modified counts, per-employee results
+     * and a 200, 207 or 400 status
+     */
+    @PatchMapping(params = "department")
+    public ResponseEntity<APIResponse<BulkWriteResultDTO>> updateEmployeesByDepartment (@RequestParam String department, @RequestBody EmployeeDTO changes) {
+        logger.debug("Received the request to update all employees of department: {}", department);
+        APIResponse<BulkWriteResultDTO> apiResponse = employeeService.updateEmployeesByDepartment(Department.parse(department), changes);
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
+    /**
+     * Deletes a batch of employees, given as a JSON array of employee IDs, in one bulk write.
+     *
+     * @return a ResponseEntity containing an ApiResponse with the deleted count, per-item results and a 200, 207 or 400 status
+     */
+    @PostMapping("/batch/delete")
+    public ResponseEntity<APIResponse<BulkWriteResultDTO>> deleteEmployees (@RequestBody List<String> employeeIds) {
+        logger.debug("Received the request to delete a batch of {} employees", employeeIds.size());
+        APIResponse<BulkWriteResultDTO> apiResponse = employeeService.deleteEmployees(employeeIds);
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
+    /**
+     * Finds many employees by employee ID, e.g. ?employeeIds=EM0001,EM0002, in one database query.
+     *
+     * @return a ResponseEntity containing an ApiResponse with one result per requested ID, in request order,
+     * and a 200, 207 or 404 status
+     */
+    @GetMapping(params = "employeeIds")
+    public ResponseEntity<APIResponse<List<BatchItemResultDTO>>> getEmployeesByEmployeeIds (@RequestParam List<String> employeeIds) {
+        logger.debug("Received the request to find {} employees by employee id", employeeIds.size());
+        APIResponse<List<BatchItemResultDTO>> apiResponse = employeeService.getEmployeesByEmployeeIds(employeeIds);
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
+    /**
+     * Finds many employees by employee ID like the employeeIds query parameter, for ID lists too long for a URL.
+     *
+     * @return a ResponseEntity containing an ApiResponse with one result per requested ID, in request order,
+     * and a 200, 207 or 404 status
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<APIResponse<List<BatchItemResultDTO>>> lookupEmployees (@RequestBody List<String> employeeIds) {
+        logger.debug("Received the request to look up {} employees by employee id", employeeIds.size());
+        APIResponse<List<BatchItemResultDTO>> apiResponse = employeeService.getEmployeesByEmployeeIds(employeeIds);
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
     /**
      * Updates an existing employee object.
      *
@@ -49,11 +179,38 @@ public class EmployeeController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<APIResponse<EmployeeDTO>> updateEmployee(@PathVariable String id, @Valid @RequestBody EmployeeDTO employeeDTO) {
-        logger.info("Received request to update employee with ID: {}", id);
+        logger.debug("Received request to update employee with ID: {}", id);
         APIResponse<EmployeeDTO> apiResponse = employeeService.updateEmployee(id, employeeDTO);
         return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
     }
 
+    /**
+     * Partially updates an existing employee: only the fields present in the body are changed.
+     * With an If-Match header holding the ETag of a previous response, the update only applies to that version.
+     *
+     * @param id  employee ID of the employee to be updated
+     * @return a ResponseEntity containing an ApiResponse with the updated Employee object and its ETag, a 404 status if not found
+     * or a 412 status if the employee was changed since the given version
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<APIResponse<EmployeeDTO>> patchEmployee(@PathVariable String id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                                  @RequestBody EmployeeDTO employeeDTO) {
+        logger.debug("Received request to patch employee with ID: {}", id);
+        Long expectedVersion;
+        try {
+            expectedVersion = VersionETags.parse(ifMatch);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not hold a known employee version: " + ifMatch);
+        }
+
+        APIResponse<EmployeeDTO> apiResponse = employeeService.patchEmployee(id, employeeDTO, expectedVersion);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(apiResponse.getStatusCode());
+        if (apiResponse.getData() != null && apiResponse.getData().getVersion() != null) {
+            response.eTag(VersionETags.format(apiResponse.getData().getVersion()));
+        }
+        return response.body(apiResponse);
+    }
+
     /**
      * Deletes an employee by ID.
      *
@@ -62,39 +219,87 @@ public class EmployeeController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<APIResponse<EmployeeDTO>> deleteEmployee(@PathVariable String id) {
-        logger.info("Received request to delete employee with ID: {}", id);
+        logger.debug("Received request to delete employee with ID: {}", id);
         APIResponse<EmployeeDTO> apiResponse = employeeService.deleteEmployee(id);
         return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
     }
 
     /**
      * Find an employee by ID.
+     * The response carries the employee version as ETag and its lastModifiedAt as Last-Modified; a matching
+     * If-None-Match or If-Modified-Since is answered with 304 and no body.
      *
      * @param id the _ID of the employee record in the mongodb
-     * @return a ResponseEntity containing an ApiResponse with the Employee object or a 404 status if not found
+     * @return a ResponseEntity containing an ApiResponse with the Employee object, a 304 status if unchanged or a 404 status if not found
      */
     @GetMapping("/{id}")
     public ResponseEntity<APIResponse<EmployeeDTO>> getEmployeeById (@PathVariable String id) {
-        logger.info("Received request to find employee with _id: {}", id);
+        logger.debug("Received request to find employee with _id: {}", id);
         APIResponse<EmployeeDTO> apiResponse = employeeService.getEmployeeById(id);
-        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+        return withValidators(apiResponse);
     }
 
     /**
      * Find an employee by employee ID or get all employees.
+     * When the cursor query parameter is present (empty for the first page) keyset pagination is used
+     * and the response carries the next cursor instead of relying on page numbers.
+     * With If-None-Match, pages are tagged with a weak ETag of the whole collection and the query, and are
+     * answered with 304 and no body, without being read, while it still matches.
+     * The fields query parameter (e.g. fields=employeeId,fullName) limits each employee to the given fields;
+     * list pages then read only those fields from MongoDB.
+     * Pages are read without counting the collection. The total query parameter (exact or approximate) adds the
+     * total number of employees, and the response then carries the page with its total and whether it is exact.
      *
-     * @return a ResponseEntity containing an ApiResponse with the Employee object (query parameter is given)/ employee list or a 404 status if not found
+     * @return a ResponseEntity containing an ApiResponse with the Employee object (query parameter is given)/ employee list,
+     * a 304 status if unchanged or a 404 status if not found
      */
     @GetMapping()
-    public ResponseEntity<APIResponse<?>> getAllEmployeesOrEmployeeByEmployeeId (@RequestParam(required = false) String employeeId, Pageable pageable) {
+    public ResponseEntity<APIResponse<?>> getAllEmployeesOrEmployeeByEmployeeId (@RequestParam(required = false) String employeeId, @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(required = false) String fields, @RequestParam(required = false) String total,
+                                                                                  Pageable pageable, WebRequest webRequest) {
+        EmployeeProjection projection = EmployeeProjection.parse(fields);
+        TotalCount totalCount = TotalCount.parse(total);
+        if (cursor != null) {
+            rejectTotal(totalCount);
+        }
 
         if (employeeId != null) {
-            logger.info("Received request to find employee with employee id: {}", employeeId);
+            logger.debug("Received request to find employee with employee id: {}", employeeId);
+            // Single lookups stay cache-backed; the cached employee serves every field selection
             APIResponse<EmployeeDTO> apiResponse = employeeService.getEmployeeByEmployeeId(employeeId);
+            if (projection != null) {
+                return validators(apiResponse).body(new APIResponse<>(apiResponse.getMessage(), projection.toView(apiResponse.getData()), apiResponse.getStatusCode()));
+            }
+            return validators(apiResponse).body(apiResponse);
+        }
+
+        if (isCollectionNotModified(webRequest)) {
+            return null;
+        }
+        if (cursor != null) {
+            logger.debug("Received request to find employees after cursor");
+            if (projection != null) {
+                APIResponse<CursorPageDTO<Map<String, Object>>> apiResponse = employeeService.getAllEmployeesAfter(cursor, pageable, projection);
+                return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+            }
+            APIResponse<CursorPageDTO<EmployeeDTO>> apiResponse = employeeService.getAllEmployeesAfter(cursor, pageable);
+            return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+
+        } else if (totalCount != null) {
+            logger.debug("Received request to find all employees with their {} total", totalCount);
+            if (projection != null) {
+                APIResponse<PageDTO<Map<String, Object>>> apiResponse = employeeService.getAllEmployees(pageable, projection, totalCount);
+                return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+            }
+            APIResponse<PageDTO<EmployeeDTO>> apiResponse = employeeService.getAllEmployees(pageable, totalCount);
             return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
 
         } else {
-            logger.info("Received request to find all employees");
+            logger.debug("Received request to find all employees");
+            if (projection != null) {
+                APIResponse<List<Map<String, Object>>> apiResponse = employeeService.getAllEmployees(pageable, projection);
+                return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+            }
             APIResponse<List<EmployeeDTO>> apiResponse = employeeService.getAllEmployees(pageable);
             return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
         }
@@ -102,14 +307,262 @@ public class EmployeeController {
 
     /**
      * Find an employees by employee name or department.
+     * Supports keyset pagination through the cursor query parameter, field selection through the fields
+     * query parameter and totals through the total query parameter like the listing endpoint. Approximate
+     * totals of a search come from a short-lived count cache.
      *
      * @return a ResponseEntity containing an ApiResponse with the Employees having the given name or department or a 404 status if not found
      */
     @GetMapping("/search")
-    public ResponseEntity<APIResponse<List<EmployeeDTO>>> getEmployeesByFullNameOrDepartment(@RequestParam(required = false) String fullName, @RequestParam(required = false) String department, Pageable pageable) {
-        logger.info("Received request to search all employees with name: {} and department: {}", fullName, department);
+    public ResponseEntity<APIResponse<?>> getEmployeesByFullNameOrDepartment(@RequestParam(required = false) String fullName, @RequestParam(required = false) String department, @RequestParam(required = false) String cursor,
+                                                                             @RequestParam(required = false) String fields, @RequestParam(required = false) String total,
+                                                                             Pageable pageable, WebRequest webRequest) {
+        logger.debug("Received request to search all employees with name: {} and department: {}", fullName, department);
+        EmployeeProjection projection = EmployeeProjection.parse(fields);
+        TotalCount totalCount = TotalCount.parse(total);
+        if (cursor != null) {
+            rejectTotal(totalCount);
+        }
+        if (isCollectionNotModified(webRequest)) {
+            return null;
+        }
+        if (totalCount != null) {
+            if (projection != null) {
+                APIResponse<PageDTO<Map<String, Object>>> apiResponse = employeeService.getAllEmployeesByFullNameOrDepartment(fullName, department, pageable,
+                        projection, totalCount);
+                return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+            }
+            APIResponse<PageDTO<EmployeeDTO>> apiResponse = employeeService.getAllEmployeesByFullNameOrDepartment(fullName, department, pageable, totalCount);
+            return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+        }
+        if (projection != null) {
+            if (cursor != null) {
+                APIResponse<CursorPageDTO<Map<String, Object>>> apiResponse = employeeService.getAllEmployeesByFullNameOrDepartmentAfter(fullName, department, cursor, pageable, projection);
+                return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+            }
+            APIResponse<List<Map<String, Object>>> apiResponse = employeeService.getAllEmployeesByFullNameOrDepartment(fullName, department, pageable, projection);
+            return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+        }
+        if (cursor != null) {
+            APIResponse<CursorPageDTO<EmployeeDTO>> apiResponse = employeeService.getAllEmployeesByFullNameOrDepartmentAfter(fullName, department, cursor, pageable);
+            return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+        }
         APIResponse<List<EmployeeDTO>> apiResponse = employeeService.getAllEmployeesByFullNameOrDepartment(fullName, department, pageable);
         return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
     }
 
+    /**
+     * Get statistics of the in-process employee lookup cache.
+     *
+     * @return a ResponseEntity containing an ApiResponse with the cache size and hit, miss and eviction counts
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<APIResponse<CacheStatsDTO>> getCacheStats() {
+        APIResponse<CacheStatsDTO> apiResponse = employeeService.getCacheStats();
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
+    /**
+     * Get statistics of the in-memory email filter used to skip duplicate-email lookups.
+     *
+     * @return a ResponseEntity containing an ApiResponse with the check, skipped lookup and false-positive counts
+     */
+    @GetMapping("/email-filter/stats")
+    public ResponseEntity<APIResponse<EmailFilterStatsDTO>> getEmailFilterStats() {
+        APIResponse<EmailFilterStatsDTO> apiResponse = employeeService.getEmailFilterStats();
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
+    /**
+     * Get the headcount per department and the number of employees created per day or month.
+     * Served from incrementally maintained counters, so the cost does not grow with the number of employees.
+     *
+     * @param from   first day (yyyy-MM-dd) of the creation range, defaults to 30 days before to
+     * @param to     last day (yyyy-MM-dd) of the creation range, defaults to today
+     * @param period day or month
+     * @return a ResponseEntity containing an ApiResponse with the statistics or a 400 status if the range or period is invalid
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<APIResponse<EmployeeStatsDTO>> getStats(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                  @RequestParam(defaultValue = "day") String period) {
+        APIResponse<EmployeeStatsDTO> apiResponse = employeeStatsService.getStats(from, to, period);
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
+    /**
+     * Recompute the statistics from all employees, e.g. after restoring a backup or a failed counter update.
+     *
+     * @return a ResponseEntity containing an ApiResponse with the rebuilt statistics for the last 30 days
+     */
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<APIResponse<EmployeeStatsDTO>> rebuildStats() {
+        logger.info("Received request to rebuild employee statistics");
+        APIResponse<EmployeeStatsDTO> apiResponse = employeeStatsService.rebuildStats();
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
+    /**
+     * Stream employee creates, updates and deletes as server-sent events named created, updated and deleted.
+     * Each event carries its ID; a client reconnecting with the Last-Event-ID header continues after that event.
+     * A resync event means events were missed: the client should reload the employees and reconnect without
+     * Last-Event-ID.
+     *
+     * @param lastEventId ID of the last event the client received, sent by EventSource on reconnect
+     * @return an SseEmitter that stays open until the client disconnects or the async request times out
+     */
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        logger.debug("Received request to stream employee changes after event: {}", lastEventId);
+        return employeeChangeFeed.subscribe(lastEventId);
+    }
+
+    /**
+     * Export employees as NDJSON or CSV, streamed from a database cursor.
+     * Filters by department and by an inclusive range of creation dates (yyyy-MM-dd).
+     *
+     * @param gzip compress the response body with gzip (sent with Content-Encoding: gzip)
+     * @return a ResponseEntity streaming one record per line, or a 400 status if the format or department is invalid
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(defaultValue = "ndjson") String format,
+                                                                 @RequestParam(required = false) String department,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+                                                                 @RequestParam(defaultValue = "false") boolean gzip) {
+        logger.info("Received request to export employees as {}", format);
+        FileFormat exportFormat = FileFormat.parse(format);
+        Department departmentFilter = Department.parse(department);
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 64 * 1024);
+                employeeExportService.exportEmployees(exportFormat, departmentFilter, createdFrom, createdTo, gzipOutputStream);
+                gzipOutputStream.finish();
+            } else {
+                employeeExportService.exportEmployees(exportFormat, departmentFilter, createdFrom, createdTo, outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees." + exportFormat.getFileExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Import employees from a CSV (with a fullName,email,department header) or NDJSON request body.
+     * By default the response streams one NDJSON line per rejected row while the import runs, followed by a summary line.
+     * With async=true the upload is stored and imported in the background, and a job is returned for polling.
+     *
+     * @return a ResponseEntity streaming the per-row error report, or a 202 status with the import job
+     */
+    @PostMapping("/import")
+    public ResponseEntity<?> importEmployees(@RequestParam(defaultValue = "csv") String format,
+                                             @RequestParam(defaultValue = "false") boolean async,
+                                             HttpServletRequest request) throws IOException {
+        logger.info("Received request to import employees from {}", format);
+        FileFormat importFormat = FileFormat.parse(format);
+
+        if (async) {
+            ImportJobDTO job = employeeImportService.startImportJob(importFormat, request.getInputStream());
+            APIResponse<ImportJobDTO> apiResponse = new APIResponse<>("Employee import started.", job, 202);
+            return ResponseEntity.accepted().location(URI.create("/api/employees/import/" + job.getJobId())).body(apiResponse);
+        }
+
+        InputStream inputStream = request.getInputStream();
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                EmployeeImportService.ImportListener listener = new EmployeeImportService.ImportListener() {
+                    @Override
+                    public void onRowError(ImportRowErrorDTO error) throws IOException {
+                        generator.writeObject(error);
+                        generator.writeRaw('\n');
+                    }
+
+                    @Override
+                    public void onChunkWritten(long processedRows, long createdRows, long failedRows) throws IOException {
+                        generator.flush();
+                    }
+                };
+                try {
+                    ImportJobDTO summary = employeeImportService.importEmployees(importFormat, inputStream, listener);
+                    summary.setErrors(null);
+                    generator.writeObject(summary);
+                } catch (RuntimeException e) {
+                    // The status line is already sent, so report the failure as the last line
+                    generator.writeObject(new APIResponse<>(e.getMessage(), null, 500));
+                }
+                generator.writeRaw('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(FileFormat.NDJSON.getContentType())).body(body);
+    }
+
+    /**
+     * Get the progress of a background employee import.
+     *
+     * @param jobId the job ID returned when the import was started
+     * @return a ResponseEntity containing an ApiResponse with the import job or a 404 status if not found
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<APIResponse<ImportJobDTO>> getImportJob(@PathVariable String jobId) {
+        APIResponse<ImportJobDTO> apiResponse = new APIResponse<>("Import job retrieved successfully.", employeeImportService.getImportJob(jobId), 200);
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
+    /**
+     * Adds the version ETag and Last-Modified of a single employee. Spring answers matching conditional GETs
+     * with 304 from these headers before the body is serialized.
+     */
+    static ResponseEntity<APIResponse<EmployeeDTO>> withValidators(APIResponse<EmployeeDTO> apiResponse) {
+        return validators(apiResponse).body(apiResponse);
+    }
+
+    private static ResponseEntity.BodyBuilder validators(APIResponse<EmployeeDTO> apiResponse) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(apiResponse.getStatusCode());
+        EmployeeDTO employeeDTO = apiResponse.getData();
+        if (employeeDTO != null && employeeDTO.getVersion() != null) {
+            response.eTag(VersionETags.format(employeeDTO.getVersion()));
+        }
+        if (employeeDTO != null && employeeDTO.getLastModifiedAt() != null) {
+            response.lastModified(employeeDTO.getLastModifiedAt().atZone(ZoneId.systemDefault()));
+        }
+        return response;
+    }
+
+    /**
+     * Cursor pages carry the next cursor instead of a total, so a total cannot be requested with a cursor.
+     */
+    private static void rejectTotal(TotalCount totalCount) {
+        if (totalCount != null) {
+            throw new IllegalArgumentException("The total is only available for page-numbered listings, not with a cursor");
+        }
+    }
+
+    /**
+     * Checks If-None-Match against the ETag of the collection and the query parameters, which is read before the
+     * page so a page is never tagged newer than its content. Requests without If-None-Match skip it, so plain
+     * reads cost no extra lookups. On a match the 304 status is set and the caller returns no body; otherwise the
+     * ETag header is already set on the full response.
+     */
+    private boolean isCollectionNotModified(WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            return false;
+        }
+        return webRequest.checkNotModified(employeeService.getEmployeesETag(queryKey(webRequest.getParameterMap())));
+    }
+
+    /**
+     * The query parameters in a canonical order, so the same page asked for with reordered parameters shares its tag.
+     */
+    static String queryKey(Map<String, String[]> parameters) {
+        StringBuilder key = new StringBuilder();
+        new TreeMap<>(parameters).forEach((name, values) -> key.append(name).append('=').append(String.join(",", values)).append('&'));
+        return key.toString();
+    }
 }
@@ -0,0 +1,198 @@
+package com.example.employee_management_api.controller;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.dto.EmployeeStatsDTO;
+import com.example.employee_management_api.service.EmployeeStatsService;
+import com.example.employee_management_api.service.ReactiveEmployeeService;
+import com.example.employee_management_api.util.APIResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Reactive controller for handling employee-related HTTP requests, active when the application runs on WebFlux.
+ * Serves the same routes and APIResponse envelope as EmployeeController for CRUD, listing and search.
+ */
+@RestController
+@RequestMapping("/api/employees")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeController {
+    private final ReactiveEmployeeService employeeService;
+    private final EmployeeStatsService employeeStatsService;
+    private final ObjectMapper objectMapper;
+    private final DataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeController.class);
+
+    @Autowired
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService, EmployeeStatsService employeeStatsService, ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        this.employeeStatsService = employeeStatsService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Creates a new employee object.
+     *
+     * @return a Mono of ResponseEntity containing an ApiResponse with the created Employee object or a 400 or 409 status if creation fails
+     */
+    @PostMapping
+    public Mono<ResponseEntity<APIResponse<EmployeeDTO>>> createEmployee(@Valid @RequestBody EmployeeDTO employeeDTO) {
+        logger.debug("Received the request to create new employee");
+        return employeeService.createEmployee(employeeDTO).map(ReactiveEmployeeController::toResponseEntity);
+    }
+
+    /**
+     * Updates an existing employee object.
+     *
+     * @param id  employee ID of the employee to be updated
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<APIResponse<EmployeeDTO>>> updateEmployee(@PathVariable String id, @Valid @RequestBody EmployeeDTO employeeDTO) {
+        logger.debug("Received request to update employee with ID: {}", id);
+        return employeeService.updateEmployee(id, employeeDTO).map(ReactiveEmployeeController::toResponseEntity);
+    }
+
+    /**
+     * Deletes an employee by ID.
+     *
+     * @param id  employee ID of the employee to delete
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<APIResponse<EmployeeDTO>>> deleteEmployee(@PathVariable String id) {
+        logger.debug("Received request to delete employee with ID: {}", id);
+        return employeeService.deleteEmployee(id).map(ReactiveEmployeeController::toResponseEntity);
+    }
+
+    /**
+     * Find an employee by ID, with the same ETag and Last-Modified validators and 304 responses as EmployeeController.
+     *
+     * @param id the _ID of the employee record in the mongodb
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<APIResponse<EmployeeDTO>>> getEmployeeById(@PathVariable String id) {
+        logger.debug("Received request to find employee with _id: {}", id);
+        return employeeService.getEmployeeById(id).map(EmployeeController::withValidators);
+    }
+
+    /**
+     * Find an employee by employee ID.
+     */
+    @GetMapping(params = "employeeId")
+    public Mono<ResponseEntity<APIResponse<EmployeeDTO>>> getEmployeeByEmployeeId(@RequestParam String employeeId) {
+        logger.debug("Received request to find employee with employee id: {}", employeeId);
+        return employeeService.getEmployeeByEmployeeId(employeeId).map(EmployeeController::withValidators);
+    }
+
+    /**
+     * Get all employees.
+     * The APIResponse is streamed: each employee is written as soon as it is read from MongoDB.
+     *
+     * @return the streamed ApiResponse with the employee list or a 404 status if not found
+     */
+    @GetMapping(params = "!employeeId", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<DataBuffer> getAllEmployees(@RequestParam(required = false) String cursor, Pageable pageable) {
+        logger.debug("Received request to find all employees");
+        rejectCursor(cursor);
+        return streamResponse(employeeService.getAllEmployees(pageable));
+    }
+
+    /**
+     * Find employees by employee name or department.
+     *
+     * @return the streamed ApiResponse with the Employees having the given name or department or a 404 status if not found
+     */
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<DataBuffer> getEmployeesByFullNameOrDepartment(@RequestParam(required = false) String fullName, @RequestParam(required = false) String department,
+                                                               @RequestParam(required = false) String cursor, Pageable pageable) {
+        logger.debug("Received request to search all employees with name: {} and department: {}", fullName, department);
+        rejectCursor(cursor);
+        return streamResponse(employeeService.getAllEmployeesByFullNameOrDepartment(fullName, department, pageable));
+    }
+
+    /**
+     * Get the headcount per department and the number of employees created per day or month, like EmployeeController.
+     * The statistics are read with the blocking MongoTemplate, off the event loop.
+     */
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<APIResponse<EmployeeStatsDTO>>> getStats(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                        @RequestParam(defaultValue = "day") String period) {
+        return Mono.fromCallable(() -> employeeStatsService.getStats(from, to, period))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ReactiveEmployeeController::toResponseEntity);
+    }
+
+    /**
+     * Recompute the statistics from all employees.
+     */
+    @PostMapping("/stats/rebuild")
+    public Mono<ResponseEntity<APIResponse<EmployeeStatsDTO>>> rebuildStats() {
+        logger.info("Received request to rebuild employee statistics");
+        return Mono.fromCallable(employeeStatsService::rebuildStats)
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ReactiveEmployeeController::toResponseEntity);
+    }
+
+    private static void rejectCursor(String cursor) {
+        if (cursor != null) {
+            throw new IllegalArgumentException("Cursor pagination is not available in the reactive profile");
+        }
+    }
+
+    private static <T> ResponseEntity<APIResponse<T>> toResponseEntity(APIResponse<T> apiResponse) {
+        return ResponseEntity.status(apiResponse.getStatusCode()).body(apiResponse);
+    }
+
+    /**
+     * Writes an APIResponse whose data is a Flux as the same JSON document EmployeeController produces,
+     * without collecting the data into a list. The envelope prefix goes out with the first element, so an
+     * error raised before it (e.g. an empty page) is still rendered by the exception handler.
+     */
+    private Flux<DataBuffer> streamResponse(APIResponse<Flux<EmployeeDTO>> apiResponse) {
+        byte[] prefix;
+        try {
+            prefix = ("{\"message\":" + objectMapper.writeValueAsString(apiResponse.getMessage()) + ",\"data\":[").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            return Flux.error(e);
+        }
+        byte[] suffix = ("],\"statusCode\":" + apiResponse.getStatusCode() + "}").getBytes(StandardCharsets.UTF_8);
+
+        Flux<DataBuffer> elements = apiResponse.getData().index().handle((element, sink) -> {
+            byte[] json;
+            try {
+                json = objectMapper.writeValueAsBytes(element.getT2());
+            } catch (JsonProcessingException e) {
+                sink.error(e);
+                return;
+            }
+            boolean first = element.getT1() == 0;
+            DataBuffer buffer = bufferFactory.allocateBuffer((first ? prefix.length : 1) + json.length);
+            if (first) {
+                buffer.write(prefix);
+            } else {
+                buffer.write((byte) ',');
+            }
+            buffer.write(json);
+            sink.next(buffer);
+        });
+        return elements.concatWith(Mono.fromSupplier(() -> bufferFactory.wrap(suffix)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.employee_management_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single item in a batch request.
+ * The index refers to the position of the item in the request payload.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchItemResultDTO {
+    private int index;
+    private int statusCode;
+    private String message;
+    private EmployeeDTO employee;
+}
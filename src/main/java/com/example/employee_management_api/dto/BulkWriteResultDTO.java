@@ -0,0 +1,21 @@
+package com.example.employee_management_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk update or delete: the counts reported by the database for the whole write and the
+ * result of each item.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkWriteResultDTO {
+    private long matchedCount;
+    private long modifiedCount;
+    private long deletedCount;
+    private List<BatchItemResultDTO> items;
+}
@@ -0,0 +1,22 @@
+package com.example.employee_management_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of results for keyset (cursor) pagination.
+ * Carries the continuation token for the next page instead of a total count.
+ *
+ * @param <T> The type of the page items.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,22 @@
+package com.example.employee_management_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object (DTO) for email filter statistics.
+ * Used to check that the filter is sized for the number of stored emails.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmailFilterStatsDTO {
+    private long approximateEmailCount;
+    private long checkCount;
+    private long skippedLookupCount;
+    private long falsePositiveCount;
+    // falsePositiveCount / (skippedLookupCount + falsePositiveCount): share of new emails that still needed a lookup
+    private double observedFalsePositiveRate;
+    private double expectedFalsePositiveRate;
+}
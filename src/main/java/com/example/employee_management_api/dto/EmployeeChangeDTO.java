@@ -0,0 +1,21 @@
+package com.example.employee_management_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object (DTO) for one event of the employee change feed.
+ * Carries the employee as written, or as it was before a delete.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeChangeDTO {
+    private String type;
+    private String employeeId;
+    private EmployeeDTO employee;
+    private LocalDateTime occurredAt;
+}
@@ -1,6 +1,7 @@
 package com.example.employee_management_api.dto;
 
 import com.example.employee_management_api.model.Department;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -8,10 +9,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * Data Transfer Object (DTO) for Employee.
  * For transferring employee data avoiding direct exposure of entity fields.
- * This excludes database metadata fields like id, createdAt, and lastModifiedAt.
+ * This excludes database metadata fields like id and createdAt; version and lastModifiedAt are read-only.
  */
 @Data
 @AllArgsConstructor
@@ -30,4 +33,23 @@ public class EmployeeDTO {
 
     @NotBlank(message = "{employee.department.blank}")
     private Department department;
+
+    // Read-only: set from the stored document, never copied back onto an entity
+    private Long version;
+
+    // Read-only like version: sent as the Last-Modified header of single-employee reads, not in the body
+    @JsonIgnore
+    private LocalDateTime lastModifiedAt;
+
+    public EmployeeDTO(String employeeId, String fullName, String email, Department department) {
+        this.employeeId = employeeId;
+        this.fullName = fullName;
+        this.email = email;
+        this.department = department;
+    }
+
+    public EmployeeDTO(String employeeId, String fullName, String email, Department department, Long version) {
+        this(employeeId, fullName, email, department);
+        this.version = version;
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.employee_management_api.dto;
+
+import com.example.employee_management_api.model.Department;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) for employee statistics.
+ * Holds the headcount per department and the number of hires per day or month of the requested range.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeStatsDTO {
+    private long totalEmployees;
+    private Map<Department, Long> headcountByDepartment;
+    private String period;
+    private Map<String, Long> hiresByPeriod;
+}
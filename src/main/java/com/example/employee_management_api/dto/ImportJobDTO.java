@@ -0,0 +1,27 @@
+package com.example.employee_management_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress and outcome of an employee import.
+ * Only the first rejected rows are kept in errors; failedRows holds the full count.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportJobDTO {
+    private String jobId;
+    private String status;
+    private long processedRows;
+    private long createdRows;
+    private long failedRows;
+    private List<ImportRowErrorDTO> errors;
+    private String failureMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
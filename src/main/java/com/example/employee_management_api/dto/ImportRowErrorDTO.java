@@ -0,0 +1,18 @@
+package com.example.employee_management_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A rejected row of an employee import.
+ * Row numbers start at 1 and do not count the CSV header.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportRowErrorDTO {
+    private long row;
+    private int statusCode;
+    private String message;
+}
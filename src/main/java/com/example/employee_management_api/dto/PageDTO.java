@@ -0,0 +1,25 @@
+package com.example.employee_management_api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of results for offset pagination together with the total number of results.
+ * The total is exact when it was counted for this page, otherwise it is estimated or cached.
+ *
+ * @param <T> The type of the page items.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PageDTO<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private long totalElements;
+    private boolean totalExact;
+}
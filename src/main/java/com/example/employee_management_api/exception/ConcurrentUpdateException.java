@@ -0,0 +1,10 @@
+package com.example.employee_management_api.exception;
+
+/**
+ * Custom exception when a resource was changed by another request between read and write.
+ */
+public class ConcurrentUpdateException extends RuntimeException{
+    public ConcurrentUpdateException(String message) {
+        super(message, null, false, false);
+    }
+}
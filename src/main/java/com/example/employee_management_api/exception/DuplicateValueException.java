@@ -5,6 +5,6 @@ package com.example.employee_management_api.exception;
  */
 public class DuplicateValueException extends RuntimeException{
     public DuplicateValueException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -1,6 +1,9 @@
 package com.example.employee_management_api.exception;
 
 import com.example.employee_management_api.util.APIResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -9,37 +12,85 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 /**
  * Global exception handler for the application.
+ * Each handler counts its exceptions in the employee.api.exceptions counter, tagged with the handled type.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final Counter illegalArgumentExceptions;
+    private final Counter generalExceptions;
+    private final Counter runtimeExceptions;
+    private final Counter duplicateValueExceptions;
+    private final Counter concurrentUpdateExceptions;
+    private final Counter preconditionFailedExceptions;
+    private final Counter resourceNotFoundExceptions;
+    private final Counter dataAccessResourceFailureExceptions;
+
+    @Autowired
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.illegalArgumentExceptions = exceptionCounter(meterRegistry, IllegalArgumentException.class, HttpStatus.BAD_REQUEST);
+        this.generalExceptions = exceptionCounter(meterRegistry, Exception.class, HttpStatus.INTERNAL_SERVER_ERROR);
+        this.runtimeExceptions = exceptionCounter(meterRegistry, RuntimeException.class, HttpStatus.INTERNAL_SERVER_ERROR);
+        this.duplicateValueExceptions = exceptionCounter(meterRegistry, DuplicateValueException.class, HttpStatus.CONFLICT);
+        this.concurrentUpdateExceptions = exceptionCounter(meterRegistry, ConcurrentUpdateException.class, HttpStatus.CONFLICT);
+        this.preconditionFailedExceptions = exceptionCounter(meterRegistry, PreconditionFailedException.class, HttpStatus.PRECONDITION_FAILED);
+        this.resourceNotFoundExceptions = exceptionCounter(meterRegistry, ResourceNotFoundException.class, HttpStatus.NOT_FOUND);
+        this.dataAccessResourceFailureExceptions = exceptionCounter(meterRegistry, DataAccessResourceFailureException.class, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<APIResponse<String>> handleIllegalArgumentException(IllegalArgumentException e) {
+        illegalArgumentExceptions.increment();
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new APIResponse<>(e.getMessage(), null, 400));
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<APIResponse<String>> handleGeneralException(Exception e) {
+        generalExceptions.increment();
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new APIResponse<>("Something went wrong!", null, 500));
     }
 
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<APIResponse<String>> handleRuntimeException(RuntimeException e) {
+        runtimeExceptions.increment();
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new APIResponse<>("Unexpected error occurred!", null, 500));
     }
 
     @ExceptionHandler(DuplicateValueException.class)
     public ResponseEntity<APIResponse<String>> handleDuplicateValueException(DuplicateValueException e) {
+        duplicateValueExceptions.increment();
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new APIResponse<>(e.getMessage(), null, 409));
+    }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<APIResponse<String>> handleConcurrentUpdateException(ConcurrentUpdateException e) {
+        concurrentUpdateExceptions.increment();
         return ResponseEntity.status(HttpStatus.CONFLICT).body(new APIResponse<>(e.getMessage(), null, 409));
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<APIResponse<String>> handlePreconditionFailedException(PreconditionFailedException e) {
+        preconditionFailedExceptions.increment();
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(new APIResponse<>(e.getMessage(), null, 412));
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<APIResponse<String>> handleResourceNotFoundException(ResourceNotFoundException e) {
+        resourceNotFoundExceptions.increment();
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new APIResponse<>(e.getMessage(), null, 404));
     }
 
     @ExceptionHandler(DataAccessResourceFailureException.class)
     public ResponseEntity<APIResponse<String>> handleDataAccessResourceFailureException (DataAccessResourceFailureException e) {
+        dataAccessResourceFailureExceptions.increment();
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(new APIResponse<>(e.getMessage(), null, 500));
     }
+
+    private static Counter exceptionCounter(MeterRegistry meterRegistry, Class<? extends Exception> exceptionType, HttpStatus status) {
+        return Counter.builder("employee.api.exceptions")
+                .description("Exceptions turned into error responses by GlobalExceptionHandler")
+                .tag("exception", exceptionType.getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,10 @@
+package com.example.employee_management_api.exception;
+
+/**
+ * Custom exception when a conditional request (If-Match) does not match the current resource version.
+ */
+public class PreconditionFailedException extends RuntimeException{
+    public PreconditionFailedException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -5,6 +5,7 @@ package com.example.employee_management_api.exception;
  */
 public class ResourceNotFoundException extends RuntimeException{
     public ResourceNotFoundException(String message) {
-        super(message);
+        // The message is all GlobalExceptionHandler returns, so no stack trace is captured
+        super(message, null, false, false);
     }
 }
@@ -0,0 +1,41 @@
+package com.example.employee_management_api.logging;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+/**
+ * MongoDB driver listener counting the commands issued by the current request.
+ * <p>
+ * The blocking driver notifies listeners on the calling thread, so the count is kept in a thread local that
+ * RequestLogFilter opens and closes around each request. Commands issued outside a request, on other threads
+ * or by the reactive driver are not counted.
+ * </p>
+ */
+public class MongoCommandCounter implements CommandListener {
+
+    private static final ThreadLocal<int[]> currentCount = new ThreadLocal<>();
+
+    /**
+     * Starts counting the commands issued by the current thread.
+     */
+    public static void start() {
+        currentCount.set(new int[1]);
+    }
+
+    /**
+     * Stops counting and returns the number of commands issued since start, or -1 if counting was not started.
+     */
+    public static int stop() {
+        int[] count = currentCount.get();
+        currentCount.remove();
+        return count == null ? -1 : count[0];
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        int[] count = currentCount.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
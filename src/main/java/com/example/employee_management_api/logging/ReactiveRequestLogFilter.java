@@ -0,0 +1,50 @@
+package com.example.employee_management_api.logging;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of RequestLogFilter. MongoDB commands are not counted, because reactive driver
+ * callbacks do not run on the request's thread.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRequestLogFilter implements WebFilter {
+
+    private final RequestLogger requestLogger;
+
+    @Autowired
+    public ReactiveRequestLogFilter(RequestLogger requestLogger) {
+        this.requestLogger = requestLogger;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        long start = System.nanoTime();
+        String requestId = requestLogger.requestId(exchange.getRequest().getHeaders().getFirst(RequestLogger.REQUEST_ID_HEADER));
+        exchange.getResponse().getHeaders().set(RequestLogger.REQUEST_ID_HEADER, requestId);
+        return chain.filter(exchange)
+                .doOnError(error -> log(exchange, requestId, start, error))
+                .doOnSuccess(ignored -> log(exchange, requestId, start, null));
+    }
+
+    private void log(ServerWebExchange exchange, String requestId, long start, Throwable error) {
+        Object route = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        HttpStatusCode status = exchange.getResponse().getStatusCode();
+        requestLogger.log(requestId, exchange.getRequest().getMethod().name(),
+                route != null ? route.toString() : exchange.getRequest().getPath().value(),
+                exchange.getRequest().getURI().getRawQuery(),
+                error != null ? 500 : status != null ? status.value() : 200,
+                System.nanoTime() - start, -1, error);
+    }
+}
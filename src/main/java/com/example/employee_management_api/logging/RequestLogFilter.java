@@ -0,0 +1,91 @@
+package com.example.employee_management_api.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Servlet filter that times each request, counts its MongoDB commands and hands the summary to RequestLogger.
+ * The request ID is taken from the X-Request-Id header or generated, echoed in the response and put in the
+ * MDC, so every log line written while serving the request can be correlated with its summary.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestLogFilter extends OncePerRequestFilter {
+
+    private final RequestLogger requestLogger;
+
+    @Autowired
+    public RequestLogFilter(RequestLogger requestLogger) {
+        this.requestLogger = requestLogger;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        String requestId = requestLogger.requestId(request.getHeader(RequestLogger.REQUEST_ID_HEADER));
+        response.setHeader(RequestLogger.REQUEST_ID_HEADER, requestId);
+        MDC.put(RequestLogger.REQUEST_ID_MDC_KEY, requestId);
+        MongoCommandCounter.start();
+        Throwable error = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            int mongoCommands = MongoCommandCounter.stop();
+            MDC.remove(RequestLogger.REQUEST_ID_MDC_KEY);
+            if (request.isAsyncStarted()) {
+                // Streamed responses finish on another thread; log when the async request completes
+                Throwable initialError = error;
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        log(request, response, requestId, start, mongoCommands, initialError);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                log(request, response, requestId, start, mongoCommands, error);
+            }
+        }
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, String requestId, long start,
+                     int mongoCommands, Throwable error) {
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object handledError = request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE);
+        requestLogger.log(requestId, request.getMethod(), route != null ? route.toString() : request.getRequestURI(),
+                request.getQueryString(), error != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+                System.nanoTime() - start, mongoCommands,
+                error != null ? error : handledError instanceof Throwable throwable ? throwable : null);
+    }
+}
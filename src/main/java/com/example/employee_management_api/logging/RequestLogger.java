@@ -0,0 +1,91 @@
+package com.example.employee_management_api.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Writes one summary event per request to the employee.requests logger.
+ * <p>
+ * Successful requests are sampled with employee.request-log.sample-rate. Failed requests (5xx or an exception)
+ * and requests slower than employee.request-log.slow-threshold are always logged, at WARN and with the query
+ * string and exception. Events carry their fields as key/value pairs, so structured log formats get them as
+ * separate fields.
+ * </p>
+ */
+@Component
+public class RequestLogger {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+    private static final Logger requestLog = LoggerFactory.getLogger("employee.requests");
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    @Autowired
+    public RequestLogger(@Value("${employee.request-log.sample-rate:0.01}") double sampleRate,
+                         @Value("${employee.request-log.slow-threshold:500ms}") Duration slowThreshold) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Request log sample rate must be between 0 and 1");
+        }
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    /**
+     * Returns the caller's request ID if it is usable in logs, otherwise a new random one.
+     */
+    public String requestId(String requestIdHeader) {
+        if (requestIdHeader != null && VALID_REQUEST_ID.matcher(requestIdHeader).matches()) {
+            return requestIdHeader;
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Logs the summary of a finished request, if it is sampled, failed or slow.
+     *
+     * @param route         the matched route pattern, or the path if no route matched
+     * @param mongoCommands MongoDB commands issued by the request, or -1 if not counted
+     * @param error         exception handled while serving the request, may be null
+     */
+    public void log(String requestId, String method, String route, String query, int status, long durationNanos,
+                    int mongoCommands, Throwable error) {
+        boolean failed = status >= 500 || error != null;
+        boolean slow = durationNanos >= slowThresholdNanos;
+        if (failed || slow) {
+            requestLog.atWarn()
+                    .addKeyValue("requestId", requestId)
+                    .addKeyValue("method", method)
+                    .addKeyValue("route", route)
+                    .addKeyValue("query", query)
+                    .addKeyValue("status", status)
+                    .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                    .addKeyValue("mongoCommands", mongoCommands)
+                    .addKeyValue("error", error == null ? null : error.getClass().getName())
+                    .log("{} request {} {} -> {} in {} ms with {} MongoDB commands{}", failed ? "Failed" : "Slow",
+                            method, query == null ? route : route + "?" + query, status, TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                            mongoCommands, error == null ? "" : ": " + error);
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && requestLog.isInfoEnabled()) {
+            requestLog.atInfo()
+                    .addKeyValue("requestId", requestId)
+                    .addKeyValue("method", method)
+                    .addKeyValue("route", route)
+                    .addKeyValue("status", status)
+                    .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                    .addKeyValue("mongoCommands", mongoCommands)
+                    .log("{} {} -> {} in {} ms with {} MongoDB commands", method, route, status,
+                            TimeUnit.NANOSECONDS.toMillis(durationNanos), mongoCommands);
+        }
+    }
+}
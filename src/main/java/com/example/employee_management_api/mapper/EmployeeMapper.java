@@ -0,0 +1,21 @@
+package com.example.employee_management_api.mapper;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Employee;
+
+/**
+ * Maps between the Employee entity and EmployeeDTO.
+ * The implementation is selected with the employee.mapper property (explicit or modelmapper).
+ */
+public interface EmployeeMapper {
+
+    /**
+     * Maps an entity to a DTO. The id and createdAt are dropped; version and lastModifiedAt are kept as read-only fields.
+     */
+    EmployeeDTO toDto(Employee employee);
+
+    /**
+     * Maps a DTO to a new entity. Database metadata fields are left empty.
+     */
+    Employee toEntity(EmployeeDTO employeeDTO);
+}
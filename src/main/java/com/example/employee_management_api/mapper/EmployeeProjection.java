@@ -0,0 +1,103 @@
+package com.example.employee_management_api.mapper;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Employee;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse fieldset requested with the fields query parameter, e.g. "employeeId,fullName".
+ * <p>
+ * The selected fields are read with a MongoDB projection, and each employee is written field by field into a map
+ * holding only those fields, so the trimmed JSON needs neither a full DTO nor reflection per row.
+ * </p>
+ */
+public final class EmployeeProjection {
+
+    /**
+     * Fields of EmployeeDTO that can be selected, in response order.
+     */
+    public static final List<String> FIELDS = List.of("employeeId", "fullName", "email", "department", "version");
+
+    private final List<String> fields;
+
+    private EmployeeProjection(List<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parses a comma-separated field list.
+     *
+     * @return the projection, or null if no fields are given (whole employees)
+     * @throws IllegalArgumentException if a field is not one of FIELDS
+     */
+    public static EmployeeProjection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        List<String> requested = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Unknown field: " + name + ". Supported fields are " + FIELDS);
+            }
+            if (!requested.contains(name)) {
+                requested.add(name);
+            }
+        }
+        if (requested.isEmpty()) {
+            return null;
+        }
+        // Response order follows FIELDS, not the order in the request
+        return new EmployeeProjection(FIELDS.stream().filter(requested::contains).toList());
+    }
+
+    /**
+     * Document fields to read, as entity property names.
+     */
+    public List<String> fields() {
+        return fields;
+    }
+
+    public Map<String, Object> toView(Employee employee) {
+        if (employee == null) {
+            return null;
+        }
+        Map<String, Object> view = new LinkedHashMap<>(fields.size() * 2);
+        for (String field : fields) {
+            switch (field) {
+                case "employeeId" -> view.put(field, employee.getEmployeeId());
+                case "fullName" -> view.put(field, employee.getFullName());
+                case "email" -> view.put(field, employee.getEmail());
+                case "department" -> view.put(field, employee.getDepartment());
+                case "version" -> view.put(field, employee.getVersion());
+                default -> throw new IllegalStateException("Unexpected field: " + field);
+            }
+        }
+        return view;
+    }
+
+    public Map<String, Object> toView(EmployeeDTO employeeDTO) {
+        if (employeeDTO == null) {
+            return null;
+        }
+        Map<String, Object> view = new LinkedHashMap<>(fields.size() * 2);
+        for (String field : fields) {
+            switch (field) {
+                case "employeeId" -> view.put(field, employeeDTO.getEmployeeId());
+                case "fullName" -> view.put(field, employeeDTO.getFullName());
+                case "email" -> view.put(field, employeeDTO.getEmail());
+                case "department" -> view.put(field, employeeDTO.getDepartment());
+                case "version" -> view.put(field, employeeDTO.getVersion());
+                default -> throw new IllegalStateException("Unexpected field: " + field);
+            }
+        }
+        return view;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.employee_management_api.mapper;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Employee;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hand-written field-by-field mapper.
+ * Uses no reflection and allocates nothing beyond the target object.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.mapper", havingValue = "explicit", matchIfMissing = true)
+public class ExplicitEmployeeMapper implements EmployeeMapper {
+
+    @Override
+    public EmployeeDTO toDto(Employee employee) {
+        if (employee == null) {
+            return null;
+        }
+        return new EmployeeDTO(employee.getEmployeeId(), employee.getFullName(), employee.getEmail(), employee.getDepartment(),
+                employee.getVersion(), employee.getLastModifiedAt());
+    }
+
+    @Override
+    public Employee toEntity(EmployeeDTO employeeDTO) {
+        if (employeeDTO == null) {
+            return null;
+        }
+        return new Employee(null, employeeDTO.getEmployeeId(), employeeDTO.getFullName(), employeeDTO.getEmail(), employeeDTO.getDepartment(), null, null);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.employee_management_api.mapper;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Employee;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reflective mapper backed by ModelMapper.
+ * Kept for comparison with ExplicitEmployeeMapper.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.mapper", havingValue = "modelmapper")
+public class ModelMapperEmployeeMapper implements EmployeeMapper {
+
+    private final ModelMapper modelMapper;
+
+    @Autowired
+    public ModelMapperEmployeeMapper(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public EmployeeDTO toDto(Employee employee) {
+        return employee == null ? null : modelMapper.map(employee, EmployeeDTO.class);
+    }
+
+    @Override
+    public Employee toEntity(EmployeeDTO employeeDTO) {
+        if (employeeDTO == null) {
+            return null;
+        }
+        Employee employee = modelMapper.map(employeeDTO, Employee.class);
+        // The version and audit dates are owned by the database; ExplicitEmployeeMapper leaves them unset as well
+        employee.setVersion(null);
+        employee.setLastModifiedAt(null);
+        return employee;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.employee_management_api.model;
 
+import java.util.Locale;
+
 /**
  * Enum representing the various departments within the organization
  * to ensures only valid department names are used.
@@ -8,5 +10,22 @@ public enum Department {
     HR,
     ENGINEERING,
     MARKETING,
-    SALES
+    SALES;
+
+    /**
+     * Resolves a department name case-insensitively.
+     *
+     * @return the department, or null if the value is null or blank
+     * @throws IllegalArgumentException if the value is not a known department
+     */
+    public static Department parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Department.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid department: " + value);
+        }
+    }
 }
@@ -7,10 +7,14 @@ import lombok.Data;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Mapped to a MongoDB collection and includes validation rules
@@ -18,6 +22,11 @@ import java.time.LocalDateTime;
  */
 @Data
 @Document(collection = "employees")
+@CompoundIndexes({
+        // Keyset pagination indexes: (sort key, _id)
+        @CompoundIndex(name = "fullName_id", def = "{'fullName': 1, '_id': 1}"),
+        @CompoundIndex(name = "createdAt_id", def = "{'createdAt': 1, '_id': 1}")
+})
 public class Employee {
     @Id
     private String id;
@@ -31,17 +40,29 @@ public class Employee {
 
     @NotBlank(message = "{employee.email.blank}")
     @Email(message = "{employee.email.format}")
+    @Indexed(unique = true)
     private String email;
 
     @NotBlank(message = "{employee.department.blank}")
+    @Indexed
     private Department department;
 
+    // Normalized fullName tokens for indexed prefix search, derived on save
+    @Indexed
+    private List<String> nameTokens;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
+    // Indexed so the latest change, used for collection ETags, is one index lookup
     @LastModifiedDate
+    @Indexed
     private LocalDateTime lastModifiedAt;
 
+    // Optimistic locking: incremented on every write, save fails if the stored version has moved on
+    @Version
+    private Long version;
+
     public Employee() {
     }
 
@@ -0,0 +1,31 @@
+package com.example.employee_management_api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the employee change log, kept in a capped collection so clients can resume the change feed
+ * after a restart. The id is the event ID sent to clients; data is the event payload as sent, in JSON.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "employee_changes")
+public class EmployeeChange {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    @Id
+    private long id;
+    private String type;
+    private String employeeId;
+    private LocalDateTime occurredAt;
+    private String data;
+}
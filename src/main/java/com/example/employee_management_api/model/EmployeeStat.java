@@ -0,0 +1,26 @@
+package com.example.employee_management_api.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * One counter of the materialized employee statistics.
+ * Either the headcount of a department (type "department", key the department name)
+ * or the number of employees created on a day (type "day", key the ISO date).
+ */
+@Data
+@Document(collection = "employee_stats")
+@CompoundIndex(name = "type_key", def = "{'type': 1, 'key': 1}")
+public class EmployeeStat {
+
+    public static final String DEPARTMENT = "department";
+    public static final String DAY = "day";
+
+    @Id
+    private String id;
+    private String type;
+    private String key;
+    private long count;
+}
@@ -0,0 +1,28 @@
+package com.example.employee_management_api.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Result of an unordered bulk write.
+ * MongoDB reports write errors by operation index but only counts the operations that matched, so when some
+ * operations matched nothing and others did, it cannot tell which; those operations are reported as uncertain.
+ *
+ * @param matchedCount  number of update operations that matched an employee
+ * @param modifiedCount number of employees changed by the updates
+ * @param deletedCount  number of employees removed by delete operations
+ * @param errors        MongoDB write error codes keyed by the index of the failed operation (empty when all succeed)
+ * @param unmatched     indexes of the version-checked operations known to have matched no employee, because it was
+ *                      modified or deleted since it was read (empty when all matched or when this is not known)
+ * @param uncertain     indexes of the operations that may or may not have matched (empty when every outcome is known)
+ */
+public record BulkWriteOutcome(int matchedCount, int modifiedCount, int deletedCount, Map<Integer, Integer> errors,
+                               Set<Integer> unmatched, Set<Integer> uncertain) {
+
+    /**
+     * Whether the operation at the index is known to have matched its employee.
+     */
+    public boolean matched(int index) {
+        return !errors.containsKey(index) && !unmatched.contains(index) && !uncertain.contains(index);
+    }
+}
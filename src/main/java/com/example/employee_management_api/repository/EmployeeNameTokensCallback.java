@@ -0,0 +1,20 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.util.SearchTokens;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the indexed nameTokens field in sync with fullName on every save, insert and bulk insert.
+ * Writes that bypass entity conversion (e.g. $set updates) must set nameTokens themselves.
+ */
+@Component
+public class EmployeeNameTokensCallback implements BeforeConvertCallback<Employee> {
+
+    @Override
+    public Employee onBeforeConvert(Employee employee, String collection) {
+        employee.setNameTokens(SearchTokens.tokenize(employee.getFullName()));
+        return employee;
+    }
+}
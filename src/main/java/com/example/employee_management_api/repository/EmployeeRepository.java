@@ -1,12 +1,12 @@
 package com.example.employee_management_api.repository;
 
 import com.example.employee_management_api.model.Employee;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repository interface for Employee entity
  * <p>
@@ -15,10 +15,9 @@ import org.springframework.stereotype.Repository;
  * </p>
  */
 @Repository
-public interface EmployeeRepository extends MongoRepository<Employee, String> {
+public interface EmployeeRepository extends MongoRepository<Employee, String>, EmployeeRepositoryCustom {
     Employee findByEmployeeId(String employeeId);
     Employee findEmployeeByEmail(String email);
-
-    @Query("{'$or': [ {'fullName': {$regex: ?0, $options: 'i'}}, {'department': {$regex: ?1, $options: 'i'}} ]}")
-    Page<Employee> findByFullNameOrDepartment(String fullName, String department, Pageable pageable);
+    List<Employee> findByEmailIn(Collection<String> emails);
+    List<Employee> findByEmployeeIdIn(Collection<String> employeeIds);
 }
@@ -0,0 +1,126 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.util.PageCursor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository operations for Employee entity that are not covered by derived queries.
+ * Implemented with MongoTemplate in EmployeeRepositoryCustomImpl.
+ */
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Inserts all given employees in a single unordered bulk write.
+     * A failing document does not stop the remaining inserts.
+     *
+     * @param employees employees to insert
+     * @return MongoDB write error codes keyed by the index of the failed employee in the given list (empty when all succeed)
+     */
+    Map<Integer, Integer> insertAllUnordered(List<Employee> employees);
+
+    /**
+     * Applies a partial update to one employee with a single findAndModify and increments its version.
+     * Returns the document as it was before the update, so the caller can both derive the new state and
+     * see what the update replaced.
+     *
+     * @param expectedVersion only update if the stored version matches, may be null to update any version
+     * @return the employee before the update, or null if no employee matched the employee ID (and version)
+     */
+    Employee updateByEmployeeId(String employeeId, Long expectedVersion, Update update);
+
+    /**
+     * Applies one partial update per employee in a single unordered bulk write and increments each version.
+     * An update only matches while the employee still has the _id and version of the given employee, so a
+     * concurrently modified or deleted employee is left unchanged and reported in BulkWriteOutcome.unmatched,
+     * or in BulkWriteOutcome.uncertain when the backend only counts the matched updates.
+     *
+     * @param employees the employees as read before the write
+     * @param updates   the update of each employee, at the same index
+     */
+    BulkWriteOutcome updateAllByIdAndVersion(List<Employee> employees, List<Update> updates);
+
+    /**
+     * Deletes the given employees in a single unordered bulk write. Like updateAllByIdAndVersion, an employee is
+     * only deleted while it still has the given version, and deletedCount only counts the employees this call
+     * removed.
+     */
+    BulkWriteOutcome deleteAllByIdAndVersion(List<Employee> employees);
+
+    /**
+     * Returns the employees of an offset page without counting the collection; one extra document is read to
+     * tell whether a next page exists. With fields, only those are read and the other properties of the returned
+     * employees, including id, are null.
+     *
+     * @param fields entity properties to read, or null for whole documents
+     */
+    Slice<Employee> findSlice(Pageable pageable, Collection<String> fields);
+
+    /**
+     * Returns the employees after the cursor position using keyset pagination.
+     * Seeks on the (sort key, _id) index instead of skipping documents and runs no count query.
+     *
+     * @param cursor cursor holding the sort key and the last returned (sort value, _id)
+     * @param size   maximum number of employees to return
+     * @param fields entity properties to read, or null for whole documents; the sort key and id are always read
+     */
+    Slice<Employee> findAllAfter(PageCursor cursor, int size, Collection<String> fields);
+
+    /**
+     * Searches employees whose name tokens start with all given tokens, or who belong to the department.
+     * Both conditions are served by indexes. Unless the pageable is sorted, results are ranked by relevance:
+     * exact token matches score above prefix matches, and matching both name and department ranks highest.
+     * Like findSlice, no count query is run; countByNameTokensOrDepartment returns the total on its own.
+     *
+     * @param nameTokens normalized search tokens, may be empty
+     * @param department department to match exactly, may be null
+     * @param fields     entity properties to return, or null for whole documents
+     */
+    Slice<Employee> searchByNameTokensOrDepartment(List<String> nameTokens, Department department, Pageable pageable, Collection<String> fields);
+
+    /**
+     * Counts the employees searchByNameTokensOrDepartment matches, from the same indexes.
+     */
+    long countByNameTokensOrDepartment(List<String> nameTokens, Department department);
+
+    /**
+     * Keyset pagination variant of searchByNameTokensOrDepartment, ordered by the cursor sort key instead of relevance.
+     */
+    Slice<Employee> searchByNameTokensOrDepartmentAfter(List<String> nameTokens, Department department, PageCursor cursor, int size,
+                                                        Collection<String> fields);
+
+    /**
+     * Streams employees from a MongoDB cursor in _id order without loading the result set into memory.
+     * The returned stream holds an open cursor and must be closed.
+     *
+     * @param department    department to match, may be null
+     * @param createdFrom   inclusive lower bound of createdAt, may be null
+     * @param createdBefore exclusive upper bound of createdAt, may be null
+     */
+    Stream<Employee> streamEmployees(Department department, LocalDateTime createdFrom, LocalDateTime createdBefore);
+
+    /**
+     * Streams the emails of all employees, reading only the email field.
+     * The returned stream holds an open cursor and must be closed.
+     */
+    Stream<String> streamEmails();
+
+    /**
+     * Returns the latest lastModifiedAt of all employees from the lastModifiedAt index, or null if there is none.
+     */
+    LocalDateTime findLatestLastModifiedAt();
+
+    /**
+     * Returns the number of employees from the collection metadata, without scanning documents or indexes.
+     */
+    long estimatedCount();
+}
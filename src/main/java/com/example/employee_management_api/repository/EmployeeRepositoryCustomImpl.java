@@ -0,0 +1,294 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.util.PageCursor;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate based implementation of EmployeeRepositoryCustom.
+ */
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private static final int STREAM_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public EmployeeRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Map<Integer, Integer> insertAllUnordered(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class);
+        bulkOperations.insert(employees);
+        try {
+            bulkOperations.execute();
+            return Collections.emptyMap();
+        } catch (BulkOperationException e) {
+            return failures(e);
+        }
+    }
+
+    @Override
+    public Employee updateByEmployeeId(String employeeId, Long expectedVersion, Update update) {
+        Query query = Query.query(Criteria.where("employeeId").is(employeeId));
+        if (expectedVersion != null) {
+            query.addCriteria(Criteria.where("version").is(expectedVersion));
+        }
+        update.inc("version", 1);
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(false), Employee.class);
+    }
+
+    @Override
+    public BulkWriteOutcome updateAllByIdAndVersion(List<Employee> employees, List<Update> updates) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class);
+        for (int i = 0; i < employees.size(); i++) {
+            bulkOperations.updateOne(idAndVersion(employees.get(i)), updates.get(i).inc("version", 1));
+        }
+        return execute(bulkOperations, employees.size(), false);
+    }
+
+    @Override
+    public BulkWriteOutcome deleteAllByIdAndVersion(List<Employee> employees) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Employee.class);
+        for (Employee employee : employees) {
+            bulkOperations.remove(idAndVersion(employee));
+        }
+        return execute(bulkOperations, employees.size(), true);
+    }
+
+    private static Query idAndVersion(Employee employee) {
+        return Query.query(Criteria.where("id").is(employee.getId()).and("version").is(employee.getVersion()));
+    }
+
+    /**
+     * Runs the version-checked operations in one unordered round trip. Failed operations are known by index; of the
+     * others, all matched when the matched (or deleted) count covers them and none did when it is zero. In between,
+     * the result does not say which ones matched, so they are all uncertain.
+     */
+    private static BulkWriteOutcome execute(BulkOperations bulkOperations, int operationCount, boolean deletes) {
+        if (operationCount == 0) {
+            return new BulkWriteOutcome(0, 0, 0, Collections.emptyMap(), Collections.emptySet(), Collections.emptySet());
+        }
+
+        BulkWriteResult result;
+        Map<Integer, Integer> failures = Collections.emptyMap();
+        try {
+            result = bulkOperations.execute();
+        } catch (BulkOperationException e) {
+            result = e.getResult();
+            failures = failures(e);
+        }
+
+        int matched = deletes ? result.getDeletedCount() : result.getMatchedCount();
+        int succeeded = operationCount - failures.size();
+        Set<Integer> unmatched = Collections.emptySet();
+        Set<Integer> uncertain = Collections.emptySet();
+        if (matched < succeeded) {
+            Set<Integer> withoutError = new HashSet<>();
+            for (int i = 0; i < operationCount; i++) {
+                if (!failures.containsKey(i)) {
+                    withoutError.add(i);
+                }
+            }
+            if (matched == 0) {
+                unmatched = withoutError;
+            } else {
+                uncertain = withoutError;
+            }
+        }
+        return deletes
+                ? new BulkWriteOutcome(0, 0, matched, failures, unmatched, uncertain)
+                : new BulkWriteOutcome(matched, result.getModifiedCount(), 0, failures, unmatched, uncertain);
+    }
+
+    private static Map<Integer, Integer> failures(BulkOperationException e) {
+        Map<Integer, Integer> failures = new HashMap<>();
+        for (BulkWriteError error : e.getErrors()) {
+            failures.put(error.getIndex(), error.getCode());
+        }
+        return failures;
+    }
+
+    @Override
+    public Slice<Employee> findSlice(Pageable pageable, Collection<String> fields) {
+        Query query = new Query().with(pageable);
+        if (pageable.isPaged()) {
+            // Fetch one extra document to know whether a next page exists without counting
+            query.limit(pageable.getPageSize() + 1);
+        }
+        if (fields != null) {
+            query.fields().include(fields.toArray(String[]::new)).exclude("id");
+        }
+        return toSlice(mongoTemplate.find(query, Employee.class), pageable);
+    }
+
+    @Override
+    public Slice<Employee> findAllAfter(PageCursor cursor, int size, Collection<String> fields) {
+        return findAfter(null, cursor, size, fields);
+    }
+
+    @Override
+    public Slice<Employee> searchByNameTokensOrDepartment(List<String> nameTokens, Department department, Pageable pageable,
+                                                          Collection<String> fields) {
+        Criteria criteria = EmployeeSearchQueries.searchCriteria(nameTokens, department);
+        Aggregation aggregation = EmployeeSearchQueries.searchSlice(criteria, nameTokens, department, pageable, fields);
+        return toSlice(mongoTemplate.aggregate(aggregation, Employee.class, Employee.class).getMappedResults(), pageable);
+    }
+
+    @Override
+    public long countByNameTokensOrDepartment(List<String> nameTokens, Department department) {
+        return mongoTemplate.count(new Query(EmployeeSearchQueries.searchCriteria(nameTokens, department)), Employee.class);
+    }
+
+    /**
+     * Trims the extra document read past a page and reports it as the next page.
+     */
+    private static Slice<Employee> toSlice(List<Employee> employees, Pageable pageable) {
+        boolean hasNext = pageable.isPaged() && employees.size() > pageable.getPageSize();
+        if (hasNext) {
+            employees = employees.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(employees, pageable, hasNext);
+    }
+
+    @Override
+    public Slice<Employee> searchByNameTokensOrDepartmentAfter(List<String> nameTokens, Department department, PageCursor cursor, int size,
+                                                               Collection<String> fields) {
+        return findAfter(EmployeeSearchQueries.searchCriteria(nameTokens, department), cursor, size, fields);
+    }
+
+    private Slice<Employee> findAfter(Criteria filter, PageCursor cursor, int size, Collection<String> fields) {
+        Query query = new Query();
+        if (cursor.isFirstPage()) {
+            if (filter != null) {
+                query.addCriteria(filter);
+            }
+        } else {
+            query.addCriteria(filter == null ? seekCriteria(cursor) : new Criteria().andOperator(filter, seekCriteria(cursor)));
+        }
+        if (isUniqueSortKey(cursor.sortField())) {
+            query.with(Sort.by(cursor.direction(), cursor.sortField()));
+        } else {
+            query.with(Sort.by(cursor.direction(), cursor.sortField(), "id"));
+        }
+        // Fetch one extra document to know whether a next page exists without counting
+        query.limit(size + 1);
+        if (fields != null) {
+            // The next cursor is built from the last employee's sort value and _id, which is included by default
+            query.fields().include(fields.toArray(String[]::new)).include(cursor.sortField());
+        }
+
+        List<Employee> employees = mongoTemplate.find(query, Employee.class);
+        boolean hasNext = employees.size() > size;
+        if (hasNext) {
+            employees = employees.subList(0, size);
+        }
+        return new SliceImpl<>(employees, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * Builds the keyset condition: documents strictly after (lastValue, lastId) in sort order.
+     * A null or missing value sorts before every other value, as in MongoDB's sort, and $gt / $lt never match it,
+     * so documents without the sort key are matched explicitly.
+     */
+    private static Criteria seekCriteria(PageCursor cursor) {
+        boolean ascending = cursor.direction().isAscending();
+        if (isUniqueSortKey(cursor.sortField())) {
+            Object lastValue = "id".equals(cursor.sortField()) ? cursor.lastId() : cursor.lastValue();
+            return ascending ? Criteria.where(cursor.sortField()).gt(lastValue) : Criteria.where(cursor.sortField()).lt(lastValue);
+        }
+
+        Object lastValue = "createdAt".equals(cursor.sortField()) ? cursor.lastDateTime() : cursor.lastValue();
+        Criteria sameValuePastId = ascending
+                ? Criteria.where(cursor.sortField()).is(lastValue).and("id").gt(cursor.lastId())
+                : Criteria.where(cursor.sortField()).is(lastValue).and("id").lt(cursor.lastId());
+        if (lastValue == null) {
+            // Ascending, every document with a value comes next; descending, only the rest of the missing ones
+            return ascending ? new Criteria().orOperator(Criteria.where(cursor.sortField()).ne(null), sameValuePastId) : sameValuePastId;
+        }
+        if (ascending) {
+            return new Criteria().orOperator(Criteria.where(cursor.sortField()).gt(lastValue), sameValuePastId);
+        }
+        return new Criteria().orOperator(Criteria.where(cursor.sortField()).lt(lastValue), sameValuePastId,
+                Criteria.where(cursor.sortField()).is(null));
+    }
+
+    /**
+     * Unique keys need no _id tie-breaker, so their single-field index serves both the seek and the sort.
+     */
+    private static boolean isUniqueSortKey(String sortField) {
+        return "id".equals(sortField) || "employeeId".equals(sortField);
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees(Department department, LocalDateTime createdFrom, LocalDateTime createdBefore) {
+        Query query = new Query().with(Sort.by("id")).cursorBatchSize(STREAM_BATCH_SIZE);
+        if (department != null) {
+            query.addCriteria(Criteria.where("department").is(department));
+        }
+        if (createdFrom != null || createdBefore != null) {
+            Criteria createdAt = Criteria.where("createdAt");
+            if (createdFrom != null) {
+                createdAt.gte(createdFrom);
+            }
+            if (createdBefore != null) {
+                createdAt.lt(createdBefore);
+            }
+            query.addCriteria(createdAt);
+        }
+        return mongoTemplate.stream(query, Employee.class);
+    }
+
+    @Override
+    public Stream<String> streamEmails() {
+        Query query = new Query().cursorBatchSize(STREAM_BATCH_SIZE);
+        query.fields().include("email").exclude("id");
+        return mongoTemplate.stream(query, Employee.class).map(Employee::getEmail);
+    }
+
+    @Override
+    public LocalDateTime findLatestLastModifiedAt() {
+        // Missing values sort last in descending order, so this only returns null when no employee has the field
+        Query query = new Query().with(Sort.by(Sort.Direction.DESC, "lastModifiedAt")).limit(1);
+        query.fields().include("lastModifiedAt").exclude("id");
+        Employee latest = mongoTemplate.findOne(query, Employee.class);
+        return latest == null ? null : latest.getLastModifiedAt();
+    }
+
+    @Override
+    public long estimatedCount() {
+        return mongoTemplate.estimatedCount(Employee.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Department;
+import org.bson.Document;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Name/department search criteria and ranking shared by the blocking and reactive repositories.
+ */
+final class EmployeeSearchQueries {
+
+    private EmployeeSearchQueries() {
+    }
+
+    /**
+     * Name tokens are matched with anchored regexes on the multikey nameTokens index, department by equality
+     * on its own index; the two are combined with $or so each branch keeps its index.
+     */
+    static Criteria searchCriteria(List<String> nameTokens, Department department) {
+        List<Criteria> clauses = new ArrayList<>();
+        if (!nameTokens.isEmpty()) {
+            List<Criteria> tokenCriteria = nameTokens.stream()
+                    .map(token -> Criteria.where("nameTokens").regex("^" + token))
+                    .toList();
+            clauses.add(tokenCriteria.size() == 1 ? tokenCriteria.get(0) : new Criteria().andOperator(tokenCriteria));
+        }
+        if (department != null) {
+            clauses.add(Criteria.where("department").is(department));
+        }
+        if (clauses.isEmpty()) {
+            throw new IllegalArgumentException("Either a name or a department is required for search");
+        }
+        return clauses.size() == 1 ? clauses.get(0) : new Criteria().orOperator(clauses);
+    }
+
+    /**
+     * Aggregation pipeline for one search page: match, then the pageable sort or relevance ranking, then skip/limit.
+     */
+    static Aggregation searchPage(Criteria criteria, List<String> nameTokens, Department department, Pageable pageable) {
+        return search(criteria, nameTokens, department, pageable, pageable.getPageSize(), null);
+    }
+
+    /**
+     * Search page pipeline that reads one document past the page, so the caller can tell whether a next page
+     * exists without counting, and ends with a $project of the given fields. The projection is applied after
+     * the limit so ranking still sees whole documents. Null fields return whole documents.
+     */
+    static Aggregation searchSlice(Criteria criteria, List<String> nameTokens, Department department, Pageable pageable,
+                                   Collection<String> fields) {
+        return search(criteria, nameTokens, department, pageable, pageable.getPageSize() + 1, fields);
+    }
+
+    private static Aggregation search(Criteria criteria, List<String> nameTokens, Department department, Pageable pageable, int limit,
+                                      Collection<String> fields) {
+        List<AggregationOperation> stages = new ArrayList<>();
+        stages.add(Aggregation.match(criteria));
+        if (pageable.getSort().isSorted()) {
+            stages.add(Aggregation.sort(pageable.getSort().and(Sort.by("id"))));
+        } else {
+            Document score = scoreExpression(nameTokens, department);
+            stages.add(context -> new Document("$addFields", new Document("score", score)));
+            stages.add(context -> new Document("$sort", new Document("score", -1).append("_id", 1)));
+        }
+        stages.add(Aggregation.skip(pageable.getOffset()));
+        stages.add(Aggregation.limit(limit));
+        if (fields != null) {
+            stages.add(Aggregation.project(fields.toArray(String[]::new)).andExclude("_id"));
+        }
+        return Aggregation.newAggregation(stages);
+    }
+
+    /**
+     * Relevance score: 2 per exact token match, 1 per prefix-only token match, 1 for a department match.
+     */
+    private static Document scoreExpression(List<String> nameTokens, Department department) {
+        Document tokens = new Document("$ifNull", List.of("$nameTokens", List.of()));
+        List<Object> parts = new ArrayList<>();
+        for (String token : nameTokens) {
+            Document prefixMatch = new Document("$anyElementTrue", List.of(new Document("$map", new Document("input", tokens)
+                    .append("as", "token")
+                    .append("in", new Document("$eq", List.of(new Document("$indexOfCP", List.of("$$token", token)), 0))))));
+            parts.add(new Document("$cond", List.of(new Document("$in", List.of(token, tokens)), 2,
+                    new Document("$cond", List.of(prefixMatch, 1, 0)))));
+        }
+        if (department != null) {
+            parts.add(new Document("$cond", List.of(new Document("$eq", List.of("$department", department.name())), 1, 0)));
+        }
+        return new Document("$add", parts);
+    }
+}
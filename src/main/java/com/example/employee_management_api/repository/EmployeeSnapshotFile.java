@@ -0,0 +1,249 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.util.SearchTokens;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot of the in-memory employee store, written and read through a memory-mapped file.
+ * <p>
+ * Layout: a header (magic, format version, payload length, CRC32 of the payload), then the sequence counters and
+ * the employees. Strings are length-prefixed UTF-8 and dates are UTC epoch seconds plus nanos. The exact size is
+ * computed first, so the file is mapped once and filled without intermediate buffers. A snapshot is written to a
+ * temporary file and moved over the previous one, so a crash while writing leaves the last snapshot intact.
+ * Name tokens are not stored; they are derived from the full name when the snapshot is read.
+ * </p>
+ */
+final class EmployeeSnapshotFile {
+
+    private static final int MAGIC = 0x454D5053;
+    private static final int FORMAT_VERSION = 1;
+    // magic, format version, payload length, CRC32
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+    private static final int NULL_LENGTH = -1;
+
+    /**
+     * Contents of a snapshot.
+     *
+     * @param counters  sequence counter values by counter name
+     * @param employees stored employees, with name tokens derived from their full names
+     */
+    record Snapshot(Map<String, Integer> counters, List<Employee> employees) {
+    }
+
+    private EmployeeSnapshotFile() {
+    }
+
+    /**
+     * Writes a snapshot, replacing the file at path. Neither the counters nor the employees may change while written.
+     */
+    static void write(Path path, Map<String, Integer> counters, Collection<Employee> employees) throws IOException {
+        long payloadSize = 4 + 4;
+        for (String name : counters.keySet()) {
+            payloadSize += sizeOf(name) + 4;
+        }
+        for (Employee employee : employees) {
+            payloadSize += sizeOf(employee);
+        }
+        if (HEADER_SIZE + payloadSize > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot of " + employees.size() + " employees exceeds the 2 GB mapping limit");
+        }
+
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + payloadSize);
+            buffer.position(HEADER_SIZE);
+            buffer.putInt(counters.size());
+            for (Map.Entry<String, Integer> counter : counters.entrySet()) {
+                putString(buffer, counter.getKey());
+                buffer.putInt(counter.getValue());
+            }
+            buffer.putInt(employees.size());
+            for (Employee employee : employees) {
+                putEmployee(buffer, employee);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(HEADER_SIZE, (int) payloadSize));
+            buffer.putInt(0, MAGIC)
+                    .putInt(4, FORMAT_VERSION)
+                    .putLong(8, payloadSize)
+                    .putInt(16, (int) crc.getValue());
+            buffer.force();
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the snapshot at path.
+     *
+     * @throws IOException if the file cannot be read, or is not a complete snapshot of a supported format
+     */
+    static Snapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+                throw corrupt(path, "unexpected file size " + fileSize);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (buffer.getInt(0) != MAGIC) {
+                throw corrupt(path, "not an employee snapshot");
+            }
+            if (buffer.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("Unsupported employee snapshot format " + buffer.getInt(4) + " in " + path);
+            }
+            long payloadSize = buffer.getLong(8);
+            if (payloadSize != fileSize - HEADER_SIZE) {
+                throw corrupt(path, "truncated");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(HEADER_SIZE, (int) payloadSize));
+            if ((int) crc.getValue() != buffer.getInt(16)) {
+                throw corrupt(path, "checksum mismatch");
+            }
+
+            buffer.position(HEADER_SIZE);
+            int counterCount = buffer.getInt();
+            Map<String, Integer> counters = new HashMap<>(counterCount * 2);
+            for (int i = 0; i < counterCount; i++) {
+                counters.put(getString(buffer), buffer.getInt());
+            }
+            int employeeCount = buffer.getInt();
+            List<Employee> employees = new ArrayList<>(employeeCount);
+            for (int i = 0; i < employeeCount; i++) {
+                employees.add(getEmployee(buffer));
+            }
+            return new Snapshot(counters, employees);
+        }
+    }
+
+    private static IOException corrupt(Path path, String reason) {
+        return new IOException("Corrupt employee snapshot " + path + ": " + reason);
+    }
+
+    private static long sizeOf(Employee employee) {
+        return sizeOf(employee.getId()) + sizeOf(employee.getEmployeeId()) + sizeOf(employee.getFullName())
+                + sizeOf(employee.getEmail()) + sizeOf(employee.getDepartment() == null ? null : employee.getDepartment().name())
+                + sizeOf(employee.getCreatedAt()) + sizeOf(employee.getLastModifiedAt())
+                + 1 + (employee.getVersion() == null ? 0 : 8);
+    }
+
+    private static void putEmployee(MappedByteBuffer buffer, Employee employee) {
+        putString(buffer, employee.getId());
+        putString(buffer, employee.getEmployeeId());
+        putString(buffer, employee.getFullName());
+        putString(buffer, employee.getEmail());
+        putString(buffer, employee.getDepartment() == null ? null : employee.getDepartment().name());
+        putDateTime(buffer, employee.getCreatedAt());
+        putDateTime(buffer, employee.getLastModifiedAt());
+        if (employee.getVersion() == null) {
+            buffer.put((byte) 0);
+        } else {
+            buffer.put((byte) 1).putLong(employee.getVersion());
+        }
+    }
+
+    private static Employee getEmployee(MappedByteBuffer buffer) {
+        String id = getString(buffer);
+        String employeeId = getString(buffer);
+        String fullName = getString(buffer);
+        String email = getString(buffer);
+        String department = getString(buffer);
+        LocalDateTime createdAt = getDateTime(buffer);
+        LocalDateTime lastModifiedAt = getDateTime(buffer);
+        Employee employee = new Employee(id, employeeId, fullName, email, department == null ? null : Department.valueOf(department),
+                createdAt, lastModifiedAt);
+        employee.setNameTokens(SearchTokens.tokenize(fullName));
+        employee.setVersion(buffer.get() == 0 ? null : buffer.getLong());
+        return employee;
+    }
+
+    private static int sizeOf(String value) {
+        return 4 + (value == null ? 0 : utf8Length(value));
+    }
+
+    /**
+     * Encoded length of String.getBytes(UTF_8), computed without encoding.
+     */
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (!Character.isSurrogate(c)) {
+                length += 3;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                // Unpaired surrogates are encoded as '?'
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private static void putString(MappedByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(MappedByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int sizeOf(LocalDateTime value) {
+        return 1 + (value == null ? 0 : 8 + 4);
+    }
+
+    private static void putDateTime(MappedByteBuffer buffer, LocalDateTime value) {
+        if (value == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        buffer.put((byte) 1).putLong(value.toEpochSecond(ZoneOffset.UTC)).putInt(value.getNano());
+    }
+
+    private static LocalDateTime getDateTime(MappedByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        long epochSecond = buffer.getLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, buffer.getInt(), ZoneOffset.UTC);
+    }
+}
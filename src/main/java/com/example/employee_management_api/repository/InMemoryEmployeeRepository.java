@@ -0,0 +1,1040 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.util.PageCursor;
+import com.example.employee_management_api.util.SearchTokens;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * EmployeeRepository held in memory, used instead of MongoDB when employee.storage is in-memory (see the in-memory
+ * profile), e.g. for edge deployments and CI runs without a database.
+ * <p>
+ * Employees are kept in a map sorted by id, with unique indexes on employeeId and email and secondary indexes on
+ * department and name tokens. Reads take no lock: they go from an index to the primary map and re-check the
+ * employee they find, since writers replace stored employees instead of modifying them. Writes, including the
+ * sequence counters, are serialized by one lock that also guards the unique indexes, and fail with the same
+ * exceptions as the MongoDB repository. Returned employees are copies, so callers may modify them, and dates are
+ * kept at millisecond precision like BSON dates.
+ * </p>
+ * <p>
+ * The store is written to a snapshot file (EmployeeSnapshotFile) every employee.storage.snapshot-interval if it
+ * has changed, and on shutdown, and recovered from it at startup. Writes after the last snapshot are lost if the
+ * process dies.
+ * </p>
+ */
+@Repository
+@ConditionalOnProperty(name = "employee.storage", havingValue = "in-memory")
+public class InMemoryEmployeeRepository implements EmployeeRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryEmployeeRepository.class);
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+    private final ConcurrentSkipListMap<String, Employee> employeesById = new ConcurrentSkipListMap<>();
+    private final Map<String, String> idsByEmployeeId = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByEmail = new ConcurrentHashMap<>();
+    private final Map<Department, Set<String>> idsByDepartment = new EnumMap<>(Department.class);
+    // Sorted, so the tokens starting with a prefix are one range of keys
+    private final ConcurrentSkipListMap<String, Set<String>> idsByNameToken = new ConcurrentSkipListMap<>();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // Guarded by writeLock
+    private final Map<String, Integer> counters = new HashMap<>();
+    // Written under writeLock
+    private volatile int count;
+    private volatile long modifications;
+    private volatile LocalDateTime latestLastModifiedAt;
+
+    private final Path snapshotPath;
+    private final Duration snapshotInterval;
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final ScheduledExecutorService snapshotExecutor;
+    // Guarded by snapshotLock
+    private long snapshotModifications;
+
+    /**
+     * @param snapshotPath     snapshot file, or null to keep the employees in memory only
+     * @param snapshotInterval how often to snapshot a changed store, zero to snapshot only on shutdown
+     */
+    @Autowired
+    public InMemoryEmployeeRepository(@Value("${employee.storage.snapshot-path:data/employees.snapshot}") Path snapshotPath,
+                                      @Value("${employee.storage.snapshot-interval:30s}") Duration snapshotInterval) {
+        this.snapshotPath = snapshotPath;
+        this.snapshotInterval = snapshotInterval;
+        this.snapshotExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("employee-snapshot").daemon(true).factory());
+        for (Department department : Department.values()) {
+            idsByDepartment.put(department, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Loads the last snapshot, if there is one, and schedules the periodic snapshots.
+     * A snapshot that cannot be read fails startup rather than being overwritten by an empty store.
+     */
+    @PostConstruct
+    public void recover() throws IOException {
+        if (snapshotPath == null) {
+            return;
+        }
+        if (Files.exists(snapshotPath)) {
+            long start = System.nanoTime();
+            EmployeeSnapshotFile.Snapshot snapshot = EmployeeSnapshotFile.read(snapshotPath);
+            writeLock.lock();
+            try {
+                for (Employee employee : snapshot.employees()) {
+                    store(null, employee);
+                }
+                counters.putAll(snapshot.counters());
+                snapshotModifications = modifications;
+            } finally {
+                writeLock.unlock();
+            }
+            logger.info("Recovered {} employees from {} in {} ms", snapshot.employees().size(), snapshotPath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } else {
+            logger.info("No employee snapshot at {}; starting empty", snapshotPath);
+        }
+        if (snapshotInterval.isPositive()) {
+            snapshotExecutor.scheduleWithFixedDelay(this::snapshot, snapshotInterval.toMillis(), snapshotInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Lets a running snapshot finish; the final one below waits for it
+        snapshotExecutor.shutdown();
+        if (snapshotPath != null) {
+            snapshot();
+        }
+    }
+
+    /**
+     * Writes a snapshot if the store changed since the last one. Writers only wait while the employees are
+     * copied, not while the file is written.
+     */
+    void snapshot() {
+        snapshotLock.lock();
+        try {
+            long version;
+            List<Employee> employees;
+            Map<String, Integer> counterValues;
+            writeLock.lock();
+            try {
+                version = modifications;
+                if (version == snapshotModifications) {
+                    return;
+                }
+                employees = new ArrayList<>(employeesById.values());
+                counterValues = new HashMap<>(counters);
+            } finally {
+                writeLock.unlock();
+            }
+
+            long start = System.nanoTime();
+            EmployeeSnapshotFile.write(snapshotPath, counterValues, employees);
+            snapshotModifications = version;
+            logger.debug("Wrote snapshot of {} employees to {} in {} ms", employees.size(), snapshotPath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to write the employee snapshot to {}", snapshotPath, e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Adds delta to a sequence counter, which starts at 0, and returns the new value.
+     * Counters are part of the snapshot, so sequences continue where they were after a restart.
+     */
+    public int incrementCounter(String counterName, int delta) {
+        writeLock.lock();
+        try {
+            int value = counters.merge(counterName, delta, Integer::sum);
+            modifications++;
+            return value;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Employee findByEmployeeId(String employeeId) {
+        return lookup(idsByEmployeeId, employeeId, Employee::getEmployeeId);
+    }
+
+    @Override
+    public Employee findEmployeeByEmail(String email) {
+        return lookup(idsByEmail, email, Employee::getEmail);
+    }
+
+    @Override
+    public List<Employee> findByEmailIn(Collection<String> emails) {
+        return lookupAll(idsByEmail, emails, Employee::getEmail);
+    }
+
+    @Override
+    public List<Employee> findByEmployeeIdIn(Collection<String> employeeIds) {
+        return lookupAll(idsByEmployeeId, employeeIds, Employee::getEmployeeId);
+    }
+
+    private List<Employee> lookupAll(Map<String, String> index, Collection<String> keys, Function<Employee, String> field) {
+        List<Employee> employees = new ArrayList<>();
+        for (String key : new HashSet<>(keys)) {
+            Employee employee = lookup(index, key, field);
+            if (employee != null) {
+                employees.add(employee);
+            }
+        }
+        return employees;
+    }
+
+    private Employee lookup(Map<String, String> index, String key, Function<Employee, String> field) {
+        if (key == null) {
+            return null;
+        }
+        String id = index.get(key);
+        Employee employee = id == null ? null : employeesById.get(id);
+        // A concurrent write may have given the key to another employee since the index was read
+        return employee != null && key.equals(field.apply(employee)) ? copy(employee) : null;
+    }
+
+    @Override
+    public <S extends Employee> S save(S employee) {
+        writeLock.lock();
+        try {
+            write(employee, false);
+            return employee;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends Employee> List<S> saveAll(Iterable<S> employees) {
+        List<S> saved = new ArrayList<>();
+        for (S employee : employees) {
+            saved.add(save(employee));
+        }
+        return saved;
+    }
+
+    @Override
+    public <S extends Employee> S insert(S employee) {
+        writeLock.lock();
+        try {
+            write(employee, true);
+            return employee;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Inserts in order and stops at the first failure, like an ordered insertMany.
+     */
+    @Override
+    public <S extends Employee> List<S> insert(Iterable<S> employees) {
+        List<S> inserted = new ArrayList<>();
+        writeLock.lock();
+        try {
+            for (S employee : employees) {
+                write(employee, true);
+                inserted.add(employee);
+            }
+            return inserted;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Map<Integer, Integer> insertAllUnordered(List<Employee> employees) {
+        Map<Integer, Integer> failures = new HashMap<>();
+        writeLock.lock();
+        try {
+            for (int i = 0; i < employees.size(); i++) {
+                try {
+                    write(employees.get(i), true);
+                } catch (DuplicateKeyException e) {
+                    failures.put(i, DUPLICATE_KEY_ERROR_CODE);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return failures.isEmpty() ? Collections.emptyMap() : failures;
+    }
+
+    /**
+     * Inserts or replaces one employee with the semantics of MongoTemplate for a versioned, audited entity:
+     * an employee without a version is new and gets version 0 and a creation date, a save of an existing one must
+     * match the stored version and increments it. The given employee receives the id, dates and version, as it
+     * does from MongoDB. Must hold writeLock.
+     */
+    private void write(Employee employee, boolean insert) {
+        boolean isNew = employee.getVersion() == null;
+        Employee current = employee.getId() == null ? null : employeesById.get(employee.getId());
+        if (insert || isNew) {
+            if (current != null) {
+                throw duplicateKey("_id", employee.getId());
+            }
+        } else if (current == null || !employee.getVersion().equals(current.getVersion())) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Cannot save entity %s with version %s to collection employees; Has it been modified meanwhile", employee.getId(),
+                    employee.getVersion()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Employee next = copy(employee);
+        if (next.getId() == null) {
+            next.setId(new ObjectId().toHexString());
+        }
+        next.setNameTokens(SearchTokens.tokenize(next.getFullName()));
+        if (isNew) {
+            next.setCreatedAt(now);
+            next.setVersion(0L);
+        } else if (!insert) {
+            next.setVersion(current.getVersion() + 1);
+        }
+        next.setLastModifiedAt(now);
+        checkUnique(next);
+        store(current, next);
+
+        employee.setId(next.getId());
+        employee.setNameTokens(next.getNameTokens());
+        employee.setCreatedAt(next.getCreatedAt());
+        employee.setLastModifiedAt(now);
+        employee.setVersion(next.getVersion());
+    }
+
+    @Override
+    public Employee updateByEmployeeId(String employeeId, Long expectedVersion, Update update) {
+        writeLock.lock();
+        try {
+            String id = idsByEmployeeId.get(employeeId);
+            Employee current = id == null ? null : employeesById.get(id);
+            if (current == null || (expectedVersion != null && !expectedVersion.equals(current.getVersion()))) {
+                return null;
+            }
+            Employee next = copy(current);
+            applyUpdate(next, update.getUpdateObject());
+            next.setVersion(current.getVersion() == null ? 1 : current.getVersion() + 1);
+            checkUnique(next);
+            store(current, next);
+            return copy(current);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public BulkWriteOutcome updateAllByIdAndVersion(List<Employee> employees, List<Update> updates) {
+        int matched = 0;
+        Map<Integer, Integer> failures = new HashMap<>();
+        Set<Integer> unmatched = new HashSet<>();
+        writeLock.lock();
+        try {
+            for (int i = 0; i < employees.size(); i++) {
+                Employee current = currentVersion(employees.get(i));
+                if (current == null) {
+                    unmatched.add(i);
+                    continue;
+                }
+                Employee next = copy(current);
+                applyUpdate(next, updates.get(i).getUpdateObject());
+                next.setVersion(current.getVersion() == null ? 1 : current.getVersion() + 1);
+                try {
+                    checkUnique(next);
+                } catch (DuplicateKeyException e) {
+                    failures.put(i, DUPLICATE_KEY_ERROR_CODE);
+                    continue;
+                }
+                store(current, next);
+                matched++;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        // Every matched update at least increments the version
+        return new BulkWriteOutcome(matched, matched, 0, failures.isEmpty() ? Collections.emptyMap() : failures, unmatched, Collections.emptySet());
+    }
+
+    @Override
+    public BulkWriteOutcome deleteAllByIdAndVersion(List<Employee> employees) {
+        int deleted = 0;
+        Set<Integer> unmatched = new HashSet<>();
+        writeLock.lock();
+        try {
+            for (int i = 0; i < employees.size(); i++) {
+                Employee current = currentVersion(employees.get(i));
+                if (current == null) {
+                    unmatched.add(i);
+                } else {
+                    remove(current);
+                    deleted++;
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        return new BulkWriteOutcome(0, 0, deleted, Collections.emptyMap(), unmatched, Collections.emptySet());
+    }
+
+    /**
+     * Returns the stored employee if it still has the version of the given one. Must hold writeLock.
+     */
+    private Employee currentVersion(Employee employee) {
+        Employee current = employee.getId() == null ? null : employeesById.get(employee.getId());
+        return current != null && Objects.equals(employee.getVersion(), current.getVersion()) ? current : null;
+    }
+
+    /**
+     * Applies the $set operations of an update. Other operators are not supported.
+     */
+    private static void applyUpdate(Employee employee, Document update) {
+        for (Map.Entry<String, Object> operation : update.entrySet()) {
+            if (!"$set".equals(operation.getKey()) || !(operation.getValue() instanceof Document fields)) {
+                throw new InvalidDataAccessApiUsageException("Unsupported update operator: " + operation.getKey());
+            }
+            for (Map.Entry<String, Object> field : fields.entrySet()) {
+                Object value = field.getValue();
+                switch (field.getKey()) {
+                    case "fullName" -> employee.setFullName((String) value);
+                    case "nameTokens" -> employee.setNameTokens(value == null ? null
+                            : ((Collection<?>) value).stream().map(String::valueOf).toList());
+                    case "email" -> employee.setEmail((String) value);
+                    case "department" -> employee.setDepartment(value == null || value instanceof Department
+                            ? (Department) value : Department.valueOf(value.toString()));
+                    case "createdAt" -> employee.setCreatedAt((LocalDateTime) value);
+                    case "lastModifiedAt" -> employee.setLastModifiedAt((LocalDateTime) value);
+                    default -> throw new InvalidDataAccessApiUsageException("Unsupported update of field: " + field.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Must hold writeLock.
+     */
+    private void checkUnique(Employee employee) {
+        String owner = employee.getEmployeeId() == null ? null : idsByEmployeeId.get(employee.getEmployeeId());
+        if (owner != null && !owner.equals(employee.getId())) {
+            throw duplicateKey("employeeId", employee.getEmployeeId());
+        }
+        owner = employee.getEmail() == null ? null : idsByEmail.get(employee.getEmail());
+        if (owner != null && !owner.equals(employee.getId())) {
+            throw duplicateKey("email", employee.getEmail());
+        }
+    }
+
+    private static DuplicateKeyException duplicateKey(String field, String value) {
+        return new DuplicateKeyException(String.format("E%d duplicate key error collection: employees index: %s dup key: { %s: \"%s\" }",
+                DUPLICATE_KEY_ERROR_CODE, field, field, value));
+    }
+
+    /**
+     * Replaces current (null for an insert) with next in the primary map and the indexes. An employee is added to
+     * the primary map before its index entries and removed after them, so an id read from an index either
+     * resolves or is gone. Must hold writeLock.
+     */
+    private void store(Employee current, Employee next) {
+        next.setCreatedAt(truncate(next.getCreatedAt()));
+        next.setLastModifiedAt(truncate(next.getLastModifiedAt()));
+        employeesById.put(next.getId(), next);
+        index(next);
+        if (current == null) {
+            count++;
+        } else {
+            unindex(current, next);
+        }
+        if (next.getLastModifiedAt() != null
+                && (latestLastModifiedAt == null || next.getLastModifiedAt().isAfter(latestLastModifiedAt))) {
+            latestLastModifiedAt = next.getLastModifiedAt();
+        }
+        modifications++;
+    }
+
+    /**
+     * Must hold writeLock.
+     */
+    private void remove(Employee current) {
+        unindex(current, null);
+        employeesById.remove(current.getId());
+        count--;
+        modifications++;
+    }
+
+    private void index(Employee employee) {
+        String id = employee.getId();
+        if (employee.getEmployeeId() != null) {
+            idsByEmployeeId.put(employee.getEmployeeId(), id);
+        }
+        if (employee.getEmail() != null) {
+            idsByEmail.put(employee.getEmail(), id);
+        }
+        if (employee.getDepartment() != null) {
+            idsByDepartment.get(employee.getDepartment()).add(id);
+        }
+        for (String token : nameTokens(employee)) {
+            idsByNameToken.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    /**
+     * Removes the index entries of stale that next (null for a delete) no longer has.
+     */
+    private void unindex(Employee stale, Employee next) {
+        String id = stale.getId();
+        if (stale.getEmployeeId() != null && (next == null || !stale.getEmployeeId().equals(next.getEmployeeId()))) {
+            idsByEmployeeId.remove(stale.getEmployeeId(), id);
+        }
+        if (stale.getEmail() != null && (next == null || !stale.getEmail().equals(next.getEmail()))) {
+            idsByEmail.remove(stale.getEmail(), id);
+        }
+        if (stale.getDepartment() != null && (next == null || stale.getDepartment() != next.getDepartment())) {
+            idsByDepartment.get(stale.getDepartment()).remove(id);
+        }
+        for (String token : nameTokens(stale)) {
+            if (next == null || !nameTokens(next).contains(token)) {
+                idsByNameToken.computeIfPresent(token, (key, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+
+    @Override
+    public Optional<Employee> findById(String id) {
+        return Optional.ofNullable(employeesById.get(id)).map(InMemoryEmployeeRepository::copy);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return employeesById.containsKey(id);
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        return employeesById.values().stream().map(InMemoryEmployeeRepository::copy).toList();
+    }
+
+    @Override
+    public List<Employee> findAllById(Iterable<String> ids) {
+        List<Employee> employees = new ArrayList<>();
+        for (String id : ids) {
+            Employee employee = employeesById.get(id);
+            if (employee != null) {
+                employees.add(copy(employee));
+            }
+        }
+        return employees;
+    }
+
+    @Override
+    public List<Employee> findAll(Sort sort) {
+        Comparator<Employee> order = sortOrder(sort);
+        return employeesById.values().stream().sorted(order).map(InMemoryEmployeeRepository::copy).toList();
+    }
+
+    @Override
+    public Page<Employee> findAll(Pageable pageable) {
+        return PageableExecutionUtils.getPage(offsetPage(pageable, 0).stream().map(InMemoryEmployeeRepository::copy).toList(), pageable, this::count);
+    }
+
+    @Override
+    public Slice<Employee> findSlice(Pageable pageable, Collection<String> fields) {
+        return toSlice(offsetPage(pageable, 1), pageable, reader(fields));
+    }
+
+    /**
+     * The stored employees of an offset page, plus up to extra employees past it.
+     */
+    private List<Employee> offsetPage(Pageable pageable, int extra) {
+        if (pageable.isUnpaged()) {
+            return first(employeesById.values(), sortOrder(pageable.getSort()), 0, Integer.MAX_VALUE);
+        }
+        int limit = pageable.getPageSize() + extra;
+        return pageable.getSort().isSorted()
+                ? first(employeesById.values(), sortOrder(pageable.getSort()), pageable.getOffset(), limit)
+                // The primary map is already in id order, the natural order of this store
+                : employeesById.values().stream().skip(pageable.getOffset()).limit(limit).toList();
+    }
+
+    @Override
+    public Slice<Employee> findAllAfter(PageCursor cursor, int size, Collection<String> fields) {
+        return findAfter(null, cursor, size, fields);
+    }
+
+    @Override
+    public Slice<Employee> searchByNameTokensOrDepartment(List<String> nameTokens, Department department, Pageable pageable,
+                                                          Collection<String> fields) {
+        List<Employee> matches = searchMatches(nameTokens, department);
+        Comparator<Employee> order = pageable.getSort().isSorted() ? sortOrder(pageable.getSort()) : relevanceOrder(nameTokens, department);
+        return toSlice(first(matches, order, pageable.getOffset(), pageable.getPageSize() + 1), pageable, reader(fields));
+    }
+
+    @Override
+    public long countByNameTokensOrDepartment(List<String> nameTokens, Department department) {
+        return searchMatches(nameTokens, department).size();
+    }
+
+    private static Function<Employee, Employee> reader(Collection<String> fields) {
+        return fields == null ? InMemoryEmployeeRepository::copy : employee -> project(employee, fields, false);
+    }
+
+    /**
+     * Copies the employees of the page; one employee past it means there is a next page.
+     */
+    private static Slice<Employee> toSlice(List<Employee> employees, Pageable pageable, Function<Employee, Employee> reader) {
+        boolean hasNext = pageable.isPaged() && employees.size() > pageable.getPageSize();
+        if (hasNext) {
+            employees = employees.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(employees.stream().map(reader).toList(), pageable, hasNext);
+    }
+
+    @Override
+    public Slice<Employee> searchByNameTokensOrDepartmentAfter(List<String> nameTokens, Department department, PageCursor cursor, int size,
+                                                               Collection<String> fields) {
+        return findAfter(searchMatches(nameTokens, department), cursor, size, fields);
+    }
+
+    /**
+     * Keyset page of the candidates, or of all employees if candidates is null.
+     */
+    private Slice<Employee> findAfter(Collection<Employee> candidates, PageCursor cursor, int size, Collection<String> fields) {
+        Function<Employee, Employee> reader = InMemoryEmployeeRepository::copy;
+        if (fields != null) {
+            // The next cursor is built from the last employee's sort value and id
+            List<String> read = new ArrayList<>(fields);
+            read.add(cursor.sortField());
+            reader = employee -> project(employee, read, true);
+        }
+
+        List<Employee> employees;
+        if (candidates == null && "id".equals(cursor.sortField())) {
+            // The seek is a range of the id-sorted primary map, read only as far as the page
+            NavigableMap<String, Employee> range = employeesById;
+            if (!cursor.isFirstPage()) {
+                range = cursor.direction().isAscending() ? range.tailMap(cursor.lastId(), false) : range.headMap(cursor.lastId(), false);
+            }
+            if (cursor.direction().isDescending()) {
+                range = range.descendingMap();
+            }
+            employees = range.values().stream().limit(size + 1L).toList();
+        } else {
+            Collection<Employee> source = candidates == null ? employeesById.values() : candidates;
+            Collection<Employee> after = cursor.isFirstPage() ? source : source.stream().filter(employee -> isAfter(employee, cursor)).toList();
+            employees = first(after, keysetOrder(cursor), 0, size + 1);
+        }
+
+        // One extra employee tells whether a next page exists
+        boolean hasNext = employees.size() > size;
+        if (hasNext) {
+            employees = employees.subList(0, size);
+        }
+        return new SliceImpl<>(employees.stream().map(reader).toList(), PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * Whether the employee comes strictly after the cursor's (last value, last id) in the cursor order.
+     */
+    private static boolean isAfter(Employee employee, PageCursor cursor) {
+        String sortField = cursor.sortField();
+        int comparison;
+        if (isUniqueSortKey(sortField)) {
+            comparison = compareValues(sortValue(employee, sortField), "id".equals(sortField) ? cursor.lastId() : cursor.lastValue());
+        } else {
+            Comparable<?> lastValue = "createdAt".equals(sortField) ? cursor.lastDateTime() : cursor.lastValue();
+            comparison = compareValues(sortValue(employee, sortField), lastValue);
+            if (comparison == 0) {
+                comparison = employee.getId().compareTo(cursor.lastId());
+            }
+        }
+        return cursor.direction().isAscending() ? comparison > 0 : comparison < 0;
+    }
+
+    private static boolean isUniqueSortKey(String sortField) {
+        return "id".equals(sortField) || "employeeId".equals(sortField);
+    }
+
+    /**
+     * Employees whose name tokens start with all given tokens, or who belong to the department. Candidates come
+     * from the name token and department indexes and are checked against the stored employee.
+     */
+    private List<Employee> searchMatches(List<String> nameTokens, Department department) {
+        if (nameTokens.isEmpty() && department == null) {
+            throw new IllegalArgumentException("Either a name or a department is required for search");
+        }
+        Set<String> ids = new HashSet<>();
+        if (!nameTokens.isEmpty()) {
+            Set<String> nameMatches = null;
+            for (String token : nameTokens) {
+                Set<String> tokenMatches = new HashSet<>();
+                for (Set<String> tokenIds : idsByNameToken.subMap(token, true, token + Character.MAX_VALUE, true).values()) {
+                    tokenMatches.addAll(tokenIds);
+                }
+                if (nameMatches == null) {
+                    nameMatches = tokenMatches;
+                } else {
+                    nameMatches.retainAll(tokenMatches);
+                }
+                if (nameMatches.isEmpty()) {
+                    break;
+                }
+            }
+            ids.addAll(nameMatches);
+        }
+        if (department != null) {
+            ids.addAll(idsByDepartment.get(department));
+        }
+
+        List<Employee> matches = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Employee employee = employeesById.get(id);
+            // Index entries can be ahead of or behind a concurrent write
+            if (employee != null && matchesSearch(employee, nameTokens, department)) {
+                matches.add(employee);
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matchesSearch(Employee employee, List<String> nameTokens, Department department) {
+        if (department != null && department == employee.getDepartment()) {
+            return true;
+        }
+        return !nameTokens.isEmpty() && nameTokens.stream().allMatch(token -> hasTokenStartingWith(employee, token));
+    }
+
+    private static boolean hasTokenStartingWith(Employee employee, String prefix) {
+        for (String token : nameTokens(employee)) {
+            if (token.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Relevance ranking of the MongoDB search: 2 per exact token match, 1 per prefix-only token match, 1 for a
+     * department match, ties in id order.
+     */
+    private static Comparator<Employee> relevanceOrder(List<String> nameTokens, Department department) {
+        Comparator<Employee> byScore = Comparator.comparingInt(employee -> {
+            int score = 0;
+            for (String token : nameTokens) {
+                score += nameTokens(employee).contains(token) ? 2 : hasTokenStartingWith(employee, token) ? 1 : 0;
+            }
+            return department != null && department == employee.getDepartment() ? score + 1 : score;
+        });
+        return byScore.reversed().thenComparing(Employee::getId);
+    }
+
+    /**
+     * The requested sort with id as the final tie-breaker, so pages do not overlap.
+     */
+    private static Comparator<Employee> sortOrder(Sort sort) {
+        Comparator<Employee> order = null;
+        for (Sort.Order property : sort) {
+            Comparator<Employee> byProperty = property.isAscending() ? byValue(property.getProperty()) : byValue(property.getProperty()).reversed();
+            order = order == null ? byProperty : order.thenComparing(byProperty);
+        }
+        Comparator<Employee> byId = Comparator.comparing(Employee::getId);
+        return order == null ? byId : order.thenComparing(byId);
+    }
+
+    private static Comparator<Employee> keysetOrder(PageCursor cursor) {
+        Comparator<Employee> order = byValue(cursor.sortField()).thenComparing(Employee::getId);
+        return cursor.direction().isAscending() ? order : order.reversed();
+    }
+
+    private static Comparator<Employee> byValue(String property) {
+        return (a, b) -> compareValues(sortValue(a, property), sortValue(b, property));
+    }
+
+    private static Comparable<?> sortValue(Employee employee, String property) {
+        return switch (property) {
+            case "id" -> employee.getId();
+            case "employeeId" -> employee.getEmployeeId();
+            case "fullName" -> employee.getFullName();
+            case "email" -> employee.getEmail();
+            // Stored as the enum name, so departments sort alphabetically
+            case "department" -> employee.getDepartment() == null ? null : employee.getDepartment().name();
+            case "createdAt" -> employee.getCreatedAt();
+            case "lastModifiedAt" -> employee.getLastModifiedAt();
+            case "version" -> employee.getVersion();
+            // Like a missing field in MongoDB
+            default -> null;
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Comparable a, Comparable b) {
+        // Missing values sort first in ascending order, as in MongoDB
+        if (a == null) {
+            return b == null ? 0 : -1;
+        }
+        return b == null ? 1 : a.compareTo(b);
+    }
+
+    /**
+     * The employees at [offset, offset + limit) in the given order. Only offset + limit employees are kept in a
+     * bounded heap instead of sorting all of them.
+     */
+    private static List<Employee> first(Collection<Employee> employees, Comparator<Employee> order, long offset, int limit) {
+        long keep = offset + limit;
+        List<Employee> sorted;
+        if (keep >= employees.size()) {
+            sorted = new ArrayList<>(employees);
+            sorted.sort(order);
+        } else {
+            PriorityQueue<Employee> heap = new PriorityQueue<>((int) keep + 1, order.reversed());
+            for (Employee employee : employees) {
+                heap.add(employee);
+                if (heap.size() > keep) {
+                    heap.poll();
+                }
+            }
+            sorted = new ArrayList<>(heap);
+            sorted.sort(order);
+        }
+        return offset >= sorted.size() ? List.of() : sorted.subList((int) offset, (int) Math.min(sorted.size(), keep));
+    }
+
+    @Override
+    public Stream<Employee> streamEmployees(Department department, LocalDateTime createdFrom, LocalDateTime createdBefore) {
+        // Weakly consistent view of the primary map in id order, read as the stream is consumed
+        Stream<Employee> employees = employeesById.values().stream();
+        if (department != null) {
+            employees = employees.filter(employee -> employee.getDepartment() == department);
+        }
+        if (createdFrom != null) {
+            employees = employees.filter(employee -> employee.getCreatedAt() != null && !employee.getCreatedAt().isBefore(createdFrom));
+        }
+        if (createdBefore != null) {
+            employees = employees.filter(employee -> employee.getCreatedAt() != null && employee.getCreatedAt().isBefore(createdBefore));
+        }
+        return employees.map(InMemoryEmployeeRepository::copy);
+    }
+
+    @Override
+    public Stream<String> streamEmails() {
+        return employeesById.values().stream().map(Employee::getEmail);
+    }
+
+    /**
+     * The latest lastModifiedAt ever stored. Unlike the MongoDB index lookup it does not go back when that
+     * employee is deleted, which still changes the count that collection ETags include.
+     */
+    @Override
+    public LocalDateTime findLatestLastModifiedAt() {
+        return latestLastModifiedAt;
+    }
+
+    @Override
+    public long estimatedCount() {
+        return count;
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        writeLock.lock();
+        try {
+            Employee current = employeesById.get(id);
+            if (current != null) {
+                remove(current);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the employee if the stored version still matches, like the MongoDB repository for versioned entities.
+     */
+    @Override
+    public void delete(Employee employee) {
+        writeLock.lock();
+        try {
+            Employee current = employeesById.get(employee.getId());
+            if (employee.getVersion() != null && (current == null || !employee.getVersion().equals(current.getVersion()))) {
+                throw new OptimisticLockingFailureException(String.format(
+                        "The entity with id %s with version %s in employees cannot be deleted; Was it modified or deleted in the meantime",
+                        employee.getId(), employee.getVersion()));
+            }
+            if (current != null) {
+                remove(current);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        for (String id : ids) {
+            deleteById(id);
+        }
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Employee> employees) {
+        for (Employee employee : employees) {
+            delete(employee);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        writeLock.lock();
+        try {
+            for (Employee employee : employeesById.values()) {
+                remove(employee);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends Employee> Optional<S> findOne(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Employee> List<S> findAll(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Employee> List<S> findAll(Example<S> example, Sort sort) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Employee> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Employee> long count(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Employee> boolean exists(Example<S> example) {
+        throw queryByExampleNotSupported();
+    }
+
+    @Override
+    public <S extends Employee, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw queryByExampleNotSupported();
+    }
+
+    private static UnsupportedOperationException queryByExampleNotSupported() {
+        return new UnsupportedOperationException("Query by example is not supported by the in-memory employee repository");
+    }
+
+    private static List<String> nameTokens(Employee employee) {
+        return employee.getNameTokens() == null ? List.of() : employee.getNameTokens();
+    }
+
+    private static LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime == null ? null : dateTime.truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private static Employee copy(Employee employee) {
+        Employee copy = new Employee(employee.getId(), employee.getEmployeeId(), employee.getFullName(), employee.getEmail(),
+                employee.getDepartment(), employee.getCreatedAt(), employee.getLastModifiedAt());
+        copy.setNameTokens(employee.getNameTokens());
+        copy.setVersion(employee.getVersion());
+        return copy;
+    }
+
+    /**
+     * Copy holding only the given fields (and the id if includeId), like a MongoDB projection.
+     */
+    private static Employee project(Employee employee, Collection<String> fields, boolean includeId) {
+        Employee view = new Employee();
+        if (includeId) {
+            view.setId(employee.getId());
+        }
+        for (String field : fields) {
+            switch (field) {
+                case "id" -> view.setId(employee.getId());
+                case "employeeId" -> view.setEmployeeId(employee.getEmployeeId());
+                case "fullName" -> view.setFullName(employee.getFullName());
+                case "email" -> view.setEmail(employee.getEmail());
+                case "department" -> view.setDepartment(employee.getDepartment());
+                case "nameTokens" -> view.setNameTokens(employee.getNameTokens());
+                case "createdAt" -> view.setCreatedAt(employee.getCreatedAt());
+                case "lastModifiedAt" -> view.setLastModifiedAt(employee.getLastModifiedAt());
+                case "version" -> view.setVersion(employee.getVersion());
+                default -> {
+                    // Fields the employee does not have are left out, as by a projection
+                }
+            }
+        }
+        return view;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.util.SearchTokens;
+import org.reactivestreams.Publisher;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeConvertCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of EmployeeNameTokensCallback: ReactiveMongoTemplate only invokes reactive callbacks.
+ */
+@Component
+public class ReactiveEmployeeNameTokensCallback implements ReactiveBeforeConvertCallback<Employee> {
+
+    @Override
+    public Publisher<Employee> onBeforeConvert(Employee employee, String collection) {
+        employee.setNameTokens(SearchTokens.tokenize(employee.getFullName()));
+        return Mono.just(employee);
+    }
+}
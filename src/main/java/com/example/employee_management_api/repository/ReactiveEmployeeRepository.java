@@ -0,0 +1,22 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Employee;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository interface for Employee entity
+ * <p>
+ * Non-blocking counterpart of EmployeeRepository used by the reactive profile.
+ * Results are emitted as they are read from the MongoDB cursor.
+ * </p>
+ */
+@Repository
+public interface ReactiveEmployeeRepository extends ReactiveMongoRepository<Employee, String>, ReactiveEmployeeRepositoryCustom {
+    Mono<Employee> findByEmployeeId(String employeeId);
+    Mono<Employee> findEmployeeByEmail(String email);
+    Flux<Employee> findAllBy(Pageable pageable);
+}
@@ -0,0 +1,24 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Custom reactive repository operations for Employee entity.
+ * Implemented with ReactiveMongoTemplate in ReactiveEmployeeRepositoryCustomImpl.
+ */
+public interface ReactiveEmployeeRepositoryCustom {
+
+    /**
+     * Reactive variant of EmployeeRepositoryCustom.searchByNameTokensOrDepartment.
+     * Emits one page of matches without counting the total.
+     *
+     * @param nameTokens normalized search tokens, may be empty
+     * @param department department to match exactly, may be null
+     */
+    Flux<Employee> searchByNameTokensOrDepartment(List<String> nameTokens, Department department, Pageable pageable);
+}
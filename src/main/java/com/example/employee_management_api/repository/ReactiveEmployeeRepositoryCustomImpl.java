@@ -0,0 +1,32 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * ReactiveMongoTemplate based implementation of ReactiveEmployeeRepositoryCustom.
+ */
+public class ReactiveEmployeeRepositoryCustomImpl implements ReactiveEmployeeRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    public ReactiveEmployeeRepositoryCustomImpl(ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    @Override
+    public Flux<Employee> searchByNameTokensOrDepartment(List<String> nameTokens, Department department, Pageable pageable) {
+        Criteria criteria = EmployeeSearchQueries.searchCriteria(nameTokens, department);
+        Aggregation aggregation = EmployeeSearchQueries.searchPage(criteria, nameTokens, department, pageable);
+        return reactiveMongoTemplate.aggregate(aggregation, Employee.class, Employee.class);
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.employee_management_api.service;
 
 import com.example.employee_management_api.model.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -12,10 +16,13 @@ import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Service for managing sequential counters in MongoDB.
  */
 @Service
+@ConditionalOnProperty(name = "employee.storage", havingValue = "mongo", matchIfMissing = true)
 public class CounterService {
 
     private static final Logger logger = LoggerFactory.getLogger(CounterService.class);
@@ -23,6 +30,22 @@ public class CounterService {
     @Autowired
     private MongoTemplate mongoTemplate;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer nextSequenceTimer;
+    private Timer reserveBlockTimer;
+
+    /**
+     * Registers the counter timers once, so timing a counter update does not look them up.
+     * All employee ID writers increment the same counter document, so these timings show contention on it.
+     */
+    @PostConstruct
+    void registerMeters() {
+        nextSequenceTimer = counterTimer("nextSequence");
+        reserveBlockTimer = counterTimer("reserveBlock");
+    }
+
     /**
      * Retrieves and increments the sequence number for a given counter.
      *
@@ -30,9 +53,9 @@ public class CounterService {
      * @return The next sequence number for the given counter.
      */
     public int getNextSequence(String counterName) {
-
+        long start = System.nanoTime();
         try {
-            logger.info("Fetching next sequence for counter: {}", counterName);
+            logger.debug("Fetching next sequence for counter: {}", counterName);
 
             // Define the query to find the counter document by its ID
             Query query = Query.query(Criteria.where("id").is(counterName));
@@ -42,7 +65,7 @@ public class CounterService {
             Counter counter = mongoTemplate.findAndModify(query, update, options, Counter.class);
 
             if (counter != null) {
-                logger.info("New sequence value for {}: {}", counterName, counter.getSequence());
+                logger.debug("New sequence value for {}: {}", counterName, counter.getSequence());
                 return counter.getSequence();
             } else {
                 logger.warn("Counter document for {} was not found; returning default sequence value 1.", counterName);
@@ -55,6 +78,53 @@ public class CounterService {
         } catch (Exception e) {
             logger.error("Unexpected error while fetching sequence for {}: {}", counterName, e.getMessage(), e);
             throw new RuntimeException("Unexpected error while fetching sequence for counter: " + counterName, e);
+        } finally {
+            nextSequenceTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Reserves a contiguous block of sequence numbers for a given counter with a single increment.
+     * The caller owns every value in the range (returned value - blockSize, returned value].
+     *
+     * @param counterName The name of the counter to increment.
+     * @param blockSize   The number of sequence values to reserve.
+     * @return The last (highest) sequence number of the reserved block.
+     */
+    public int reserveBlock(String counterName, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1");
         }
+
+        long start = System.nanoTime();
+        try {
+            logger.info("Reserving a block of {} sequence values for counter: {}", blockSize, counterName);
+
+            Query query = Query.query(Criteria.where("id").is(counterName));
+
+            Update update = new Update().inc("sequence", blockSize);
+            FindAndModifyOptions options = FindAndModifyOptions.options().returnNew(true).upsert(true);
+            Counter counter = mongoTemplate.findAndModify(query, update, options, Counter.class);
+
+            if (counter == null) {
+                throw new IllegalStateException("Counter document for " + counterName + " was not returned after upsert");
+            }
+            logger.info("Reserved sequence block for {}: {} - {}", counterName, counter.getSequence() - blockSize + 1, counter.getSequence());
+            return counter.getSequence();
+
+        } catch (DataAccessException e) {
+            logger.error("Database error while reserving sequence block for {}: {}", counterName, e.getMessage(), e);
+            throw new RuntimeException("Failed to reserve sequence block for counter: " + counterName, e);
+        } finally {
+            reserveBlockTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer counterTimer(String operation) {
+        return Timer.builder("employee.sequence.counter")
+                .description("Time spent incrementing a sequence counter document")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,168 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.CacheStatsDTO;
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Employee;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of mapped employees, keyed by employee ID and by MongoDB _id.
+ * <p>
+ * Entries are evicted by size (W-TinyLFU) and optionally expire after a TTL.
+ * A miss is loaded once: callers of the same key arriving during the load wait for its result.
+ * Loads run on the calling thread outside the cache's locks, so a virtual thread waiting for MongoDB
+ * does not pin its carrier. An invalidation issued after a database write drops the in-flight load
+ * of the key: its (possibly stale) result is not cached and callers arriving afterwards load again.
+ * Not-found lookups are never cached.
+ * </p>
+ */
+@Component
+public class EmployeeCache {
+
+    private final KeySpace byEmployeeId;
+    private final KeySpace byId;
+
+    @Autowired
+    public EmployeeCache(@Value("${employee.cache.max-size:10000}") long maxSize,
+                         @Value("${employee.cache.ttl:0s}") Duration ttl) {
+        this.byEmployeeId = new KeySpace(build(maxSize, ttl));
+        this.byId = new KeySpace(build(maxSize, ttl));
+    }
+
+    /**
+     * Returns the cached employee for the employee ID, loading it on a miss.
+     *
+     * @param loader returns the mapped employee or null if not found
+     */
+    public EmployeeDTO getByEmployeeId(String employeeId, Function<String, EmployeeDTO> loader) {
+        return byEmployeeId.get(employeeId, loader);
+    }
+
+    /**
+     * Returns the cached employees of the given employee IDs, leaving out the misses.
+     * Bulk loads are not cached: they would bypass the in-flight loads that invalidations drop.
+     */
+    public Map<String, EmployeeDTO> getAllPresentByEmployeeId(Collection<String> employeeIds) {
+        return byEmployeeId.cache.getAllPresent(employeeIds);
+    }
+
+    /**
+     * Returns the cached employee for the MongoDB _id, loading it on a miss.
+     *
+     * @param loader returns the mapped employee or null if not found
+     */
+    public EmployeeDTO getById(String id, Function<String, EmployeeDTO> loader) {
+        return byId.get(id, loader);
+    }
+
+    /**
+     * Removes both cache entries of an employee and drops their in-flight loads. Must be called after the database write.
+     */
+    public void invalidate(Employee employee) {
+        if (employee.getEmployeeId() != null) {
+            byEmployeeId.invalidate(employee.getEmployeeId());
+        }
+        if (employee.getId() != null) {
+            byId.invalidate(employee.getId());
+        }
+    }
+
+    public void invalidateAll() {
+        byEmployeeId.invalidateAll();
+        byId.invalidateAll();
+    }
+
+    /**
+     * Combined hit, miss and eviction counters of both key spaces.
+     */
+    public CacheStatsDTO stats() {
+        CacheStats stats = byEmployeeId.cache.stats().plus(byId.cache.stats());
+        return new CacheStatsDTO(byEmployeeId.cache.estimatedSize() + byId.cache.estimatedSize(),
+                stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.hitRate());
+    }
+
+    private static Cache<String, EmployeeDTO> build(long maxSize, Duration ttl) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats();
+        if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+            builder.expireAfterWrite(ttl);
+        }
+        return builder.build();
+    }
+
+    /**
+     * The cached employees of one key space and the loads in flight for them.
+     */
+    private static final class KeySpace {
+
+        private final Cache<String, EmployeeDTO> cache;
+        private final ConcurrentHashMap<String, CompletableFuture<EmployeeDTO>> loads = new ConcurrentHashMap<>();
+
+        private KeySpace(Cache<String, EmployeeDTO> cache) {
+            this.cache = cache;
+        }
+
+        EmployeeDTO get(String key, Function<String, EmployeeDTO> loader) {
+            EmployeeDTO cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+            CompletableFuture<EmployeeDTO> load = new CompletableFuture<>();
+            CompletableFuture<EmployeeDTO> running = loads.putIfAbsent(key, load);
+            if (running != null) {
+                return await(running);
+            }
+
+            EmployeeDTO value;
+            try {
+                value = loader.apply(key);
+            } catch (RuntimeException | Error e) {
+                loads.remove(key, load);
+                load.completeExceptionally(e);
+                throw e;
+            }
+            // Cached only while the load is still registered; the entry's lock orders this against invalidate
+            cache.asMap().compute(key, (k, current) -> loads.remove(k, load) ? value : current);
+            load.complete(value);
+            return value;
+        }
+
+        void invalidate(String key) {
+            loads.remove(key);
+            cache.invalidate(key);
+        }
+
+        void invalidateAll() {
+            loads.clear();
+            cache.invalidateAll();
+        }
+
+        private static EmployeeDTO await(CompletableFuture<EmployeeDTO> load) {
+            try {
+                return load.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+}
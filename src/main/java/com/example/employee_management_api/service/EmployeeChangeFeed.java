@@ -0,0 +1,350 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmployeeChangeDTO;
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.EmployeeChange;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Feed of employee creates, updates and deletes, streamed to clients as server-sent events.
+ * <p>
+ * Events are serialized once and appended to a fixed-size ring buffer shared by all subscribers, which only keep
+ * their position in it. Each subscriber is drained by its own task; a write fills a slot and signals the
+ * subscribers without waiting for any of them. A subscriber that falls a whole buffer behind gets a resync event
+ * and is disconnected, so it reloads the employees instead of holding up the feed.
+ * </p>
+ * <p>
+ * Events are also appended to the capped employee_changes collection. A client reconnecting with a Last-Event-ID
+ * that is no longer buffered, for example after a restart, is replayed from there, or told to resync if the log
+ * no longer holds the next event. Event IDs are assigned in process, so the log must have a single writer.
+ * Appending to the log is best effort: a failure is logged without failing the employee write. Setting
+ * employee.changes.log-max-events to 0 disables the log, leaving only the buffer to resume from.
+ * </p>
+ */
+@Service
+public class EmployeeChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeChangeFeed.class);
+    private static final String RESYNC = "resync";
+    private static final int REPLAY_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor drainExecutor;
+    private final long logMaxEvents;
+    private final DataSize logMaxSize;
+    private final AtomicReferenceArray<ChangeEvent> ring;
+    private final int mask;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter resyncs;
+
+    // Guarded by appendLock
+    private long lastAssignedId;
+    // Every event up to this ID is in its ring slot (unless overwritten)
+    private volatile long lastPublishedId;
+
+    @Autowired
+    public EmployeeChangeFeed(MongoTemplate mongoTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                              @Value("${employee.changes.buffer-size:4096}") int bufferSize,
+                              @Value("${employee.changes.log-max-events:100000}") long logMaxEvents,
+                              @Value("${employee.changes.log-max-size:64MB}") DataSize logMaxSize,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        // A blocked send holds its thread, so drain tasks get a thread each instead of sharing a bounded pool
+        this(mongoTemplate, objectMapper, meterRegistry, bufferSize, logMaxEvents, logMaxSize, virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("change-feed-", 0).factory())
+                : Executors.newCachedThreadPool(Thread.ofPlatform().name("change-feed-", 0).daemon(true).factory()));
+    }
+
+    EmployeeChangeFeed(MongoTemplate mongoTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry, int bufferSize,
+                       long logMaxEvents, DataSize logMaxSize, Executor drainExecutor) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Change feed buffer size must be positive");
+        }
+        int capacity = bufferSize == 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.drainExecutor = drainExecutor;
+        this.logMaxEvents = logMaxEvents;
+        this.logMaxSize = logMaxSize;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        Gauge.builder("employee.changes.subscribers", subscribers, Set::size)
+                .description("Open employee change feed streams")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder("employee.changes.resyncs")
+                .description("Change feed streams closed with a resync event")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Creates the capped change log if needed and continues event IDs after its latest entry.
+     */
+    @PostConstruct
+    public void openLog() {
+        if (logMaxEvents == 0) {
+            logger.info("Employee change log disabled; streams can only resume from the in-memory buffer");
+            return;
+        }
+        try {
+            if (!mongoTemplate.collectionExists(EmployeeChange.class)) {
+                mongoTemplate.createCollection(EmployeeChange.class,
+                        CollectionOptions.empty().capped().size(logMaxSize.toBytes()).maxDocuments(logMaxEvents));
+            }
+            Query latest = new Query().with(Sort.by(Sort.Direction.DESC, "id")).limit(1);
+            latest.fields().include("id");
+            EmployeeChange last = mongoTemplate.findOne(latest, EmployeeChange.class);
+            appendLock.lock();
+            try {
+                lastAssignedId = last == null ? 0 : last.getId();
+                lastPublishedId = lastAssignedId;
+            } finally {
+                appendLock.unlock();
+            }
+        } catch (DataAccessException e) {
+            logger.error("Failed to open the employee change log; event IDs restart from 0", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (drainExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public void publish(String type, EmployeeDTO employee) {
+        publish(type, List.of(employee));
+    }
+
+    /**
+     * Appends one event per employee and wakes the subscribers.
+     *
+     * @param type      EmployeeChange.CREATED, UPDATED or DELETED
+     * @param employees the employees as written, or as they were before a delete
+     */
+    public void publish(String type, List<EmployeeDTO> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        LocalDateTime occurredAt = LocalDateTime.now();
+        List<EmployeeChange> changes = new ArrayList<>(employees.size());
+        try {
+            for (EmployeeDTO employee : employees) {
+                String data = objectMapper.writeValueAsString(new EmployeeChangeDTO(type, employee.getEmployeeId(), employee, occurredAt));
+                changes.add(new EmployeeChange(0, type, employee.getEmployeeId(), occurredAt, data));
+            }
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize {} employee change event", type, e);
+            return;
+        }
+
+        appendLock.lock();
+        try {
+            for (EmployeeChange change : changes) {
+                long id = ++lastAssignedId;
+                change.setId(id);
+                ring.set((int) (id & mask), new ChangeEvent(id, type, change.getData()));
+            }
+            lastPublishedId = lastAssignedId;
+        } finally {
+            appendLock.unlock();
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.signal();
+        }
+
+        if (logMaxEvents == 0) {
+            return;
+        }
+        try {
+            mongoTemplate.insert(changes, EmployeeChange.class);
+        } catch (DataAccessException e) {
+            logger.error("Failed to append {} employee change events to the change log", changes.size(), e);
+        }
+    }
+
+    /**
+     * Opens a change stream.
+     *
+     * @param lastEventId Last-Event-ID of a reconnecting client, or null to receive only new events
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(lastEventId, new SseEmitter());
+    }
+
+    SseEmitter subscribe(String lastEventId, SseEmitter emitter) {
+        Long resumeAfter = parseEventId(lastEventId);
+        long published = lastPublishedId;
+        Subscriber subscriber = new Subscriber(emitter, resumeAfter == null ? published + 1 : resumeAfter + 1);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        if (lastEventId != null && (resumeAfter == null || resumeAfter > published)) {
+            // Not an ID of this log, e.g. issued before the log was lost
+            subscriber.resync("Unknown event ID: " + lastEventId);
+            return emitter;
+        }
+        subscribers.add(subscriber);
+        subscriber.signal();
+        return emitter;
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record ChangeEvent(long id, String type, String data) {
+    }
+
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+        // Only used by the drain task, which never runs concurrently with itself
+        private long nextId;
+        private boolean live;
+
+        private Subscriber(SseEmitter emitter, long nextId) {
+            this.emitter = emitter;
+            this.nextId = nextId;
+        }
+
+        void signal() {
+            if (!closed && scheduled.compareAndSet(false, true)) {
+                try {
+                    drainExecutor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    logger.warn("Closing change feed stream: drain task rejected");
+                    close();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                drain();
+            } catch (IOException | IllegalStateException e) {
+                // The client disconnected or the stream was already completed
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            // Events published after the last check found the task still scheduled and did not signal
+            if (!closed && nextId <= lastPublishedId) {
+                signal();
+            }
+        }
+
+        private void drain() throws IOException {
+            while (!closed && nextId <= lastPublishedId) {
+                ChangeEvent event = ring.get((int) (nextId & mask));
+                if (event != null && event.id() == nextId) {
+                    send(event);
+                    nextId++;
+                    live = true;
+                } else if (live) {
+                    // Overwritten before this client read it: it fell a whole buffer behind
+                    resync("Too far behind the change feed");
+                    return;
+                } else {
+                    // Resuming from before the buffer, e.g. after a restart
+                    replayFromLog();
+                }
+            }
+        }
+
+        private void replayFromLog() throws IOException {
+            if (logMaxEvents == 0) {
+                resync("Event " + nextId + " is no longer buffered");
+                return;
+            }
+            List<EmployeeChange> changes;
+            try {
+                Query query = Query.query(Criteria.where("id").gte(nextId)).with(Sort.by("id")).limit(REPLAY_BATCH_SIZE);
+                changes = mongoTemplate.find(query, EmployeeChange.class);
+            } catch (DataAccessException e) {
+                logger.error("Failed to read the employee change log", e);
+                resync("Change log unavailable");
+                return;
+            }
+            if (changes.isEmpty() || changes.get(0).getId() != nextId) {
+                resync("Change log no longer holds event " + nextId);
+                return;
+            }
+            for (EmployeeChange change : changes) {
+                if (change.getId() != nextId) {
+                    // A failed log append left a gap; drain continues from the buffer or resyncs
+                    return;
+                }
+                send(new ChangeEvent(change.getId(), change.getType(), change.getData()));
+                nextId++;
+            }
+        }
+
+        private void send(ChangeEvent event) throws IOException {
+            // The serialized payload is shared by all subscribers
+            emitter.send(SseEmitter.event().id(Long.toString(event.id())).name(event.type()).data(event.data()));
+        }
+
+        void resync(String reason) {
+            resyncs.increment();
+            logger.debug("Closing change feed stream with resync: {}", reason);
+            try {
+                emitter.send(SseEmitter.event().name(RESYNC).data(reason));
+            } catch (IOException | IllegalStateException e) {
+                // Closing anyway
+            }
+            close();
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            emitter.complete();
+        }
+    }
+}
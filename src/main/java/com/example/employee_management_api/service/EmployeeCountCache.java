@@ -0,0 +1,170 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.util.SearchTokens;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of search result counts, keyed by the normalized search.
+ * <p>
+ * A count lives for the TTL after it was read from the database. Creates and deletes adjust the cached
+ * counts of the searches that match the employee without extending their lifetime; name and department
+ * changes are only picked up once the entry expires. Counts served from here are therefore approximate.
+ * </p>
+ * <p>
+ * Cached searches are indexed by department and by their first name token, so a write only looks at the searches
+ * that can match the written employees instead of testing every cached search against every employee.
+ * </p>
+ */
+@Component
+public class EmployeeCountCache {
+
+    private final Cache<SearchQuery, Long> counts;
+    private final Map<Department, Set<SearchQuery>> queriesByDepartment = new ConcurrentHashMap<>();
+    private final Map<String, Set<SearchQuery>> queriesByFirstNameToken = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EmployeeCountCache(@Value("${employee.count-cache.max-size:1000}") long maxSize,
+                              @Value("${employee.count-cache.ttl:30s}") Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<SearchQuery, Long>() {
+                    @Override
+                    public long expireAfterCreate(SearchQuery query, Long count, long currentTime) {
+                        return ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(SearchQuery query, Long count, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(SearchQuery query, Long count, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                // Runs inside the eviction, so a search is unindexed before it can be cached again
+                .evictionListener((SearchQuery query, Long count, RemovalCause cause) -> unindex(query))
+                .build();
+    }
+
+    /**
+     * Returns the cached count of the search, counting it on a miss.
+     */
+    long get(SearchQuery query, Function<SearchQuery, Long> counter) {
+        return counts.get(query, key -> {
+            index(key);
+            try {
+                return counter.apply(key);
+            } catch (RuntimeException e) {
+                unindex(key);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Replaces the cached count with a fresh one, which starts a new TTL.
+     */
+    void put(SearchQuery query, long count) {
+        counts.invalidate(query);
+        index(query);
+        counts.put(query, count);
+    }
+
+    /**
+     * Adds the employees to the cached counts of the searches that match them. Must be called after the database write.
+     */
+    public void recordCreated(Collection<Employee> employees) {
+        adjust(employees, 1);
+    }
+
+    /**
+     * Removes the employees from the cached counts of the searches that match them. Must be called after the database write.
+     */
+    public void recordDeleted(Collection<Employee> employees) {
+        adjust(employees, -1);
+    }
+
+    private void adjust(Collection<Employee> employees, int sign) {
+        if (employees.isEmpty() || counts.estimatedSize() == 0) {
+            return;
+        }
+        for (Employee employee : employees) {
+            for (SearchQuery query : candidateQueries(employee)) {
+                if (query.matches(employee)) {
+                    counts.asMap().computeIfPresent(query, (key, count) -> Math.max(0, count + sign));
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the cached searches that may match the employee: those of its department, and those whose first
+     * name token is a prefix of one of its name tokens.
+     */
+    private Set<SearchQuery> candidateQueries(Employee employee) {
+        Set<SearchQuery> candidates = new HashSet<>();
+        if (employee.getDepartment() != null) {
+            candidates.addAll(queriesByDepartment.getOrDefault(employee.getDepartment(), Set.of()));
+        }
+        if (!queriesByFirstNameToken.isEmpty()) {
+            for (String token : SearchTokens.tokenize(employee.getFullName())) {
+                for (int length = 1; length <= token.length(); length++) {
+                    candidates.addAll(queriesByFirstNameToken.getOrDefault(token.substring(0, length), Set.of()));
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private void index(SearchQuery query) {
+        if (query.department() != null) {
+            add(queriesByDepartment, query.department(), query);
+        }
+        if (!query.nameTokens().isEmpty()) {
+            add(queriesByFirstNameToken, query.nameTokens().get(0), query);
+        }
+    }
+
+    private void unindex(SearchQuery query) {
+        if (query.department() != null) {
+            remove(queriesByDepartment, query.department(), query);
+        }
+        if (!query.nameTokens().isEmpty()) {
+            remove(queriesByFirstNameToken, query.nameTokens().get(0), query);
+        }
+    }
+
+    private static <K> void add(Map<K, Set<SearchQuery>> index, K key, SearchQuery query) {
+        index.compute(key, (k, queries) -> {
+            Set<SearchQuery> indexed = queries == null ? ConcurrentHashMap.newKeySet() : queries;
+            indexed.add(query);
+            return indexed;
+        });
+    }
+
+    private static <K> void remove(Map<K, Set<SearchQuery>> index, K key, SearchQuery query) {
+        index.computeIfPresent(key, (k, queries) -> {
+            queries.remove(query);
+            return queries.isEmpty() ? null : queries;
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmailFilterStatsDTO;
+import com.example.employee_management_api.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter of stored employee emails, used to skip the email lookup before a write.
+ * <p>
+ * A negative answer means the email was never seen by this instance, so the lookup is skipped and the
+ * unique email index remains the source of truth for emails written by other instances or concurrently.
+ * A positive answer still needs a lookup; the ones that find nothing are counted as false positives.
+ * Deleted and changed emails stay in the filter until the next restart.
+ * </p>
+ */
+@Component
+public class EmployeeEmailFilter {
+
+    private final BloomFilter filter;
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder skippedLookups = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    @Autowired
+    public EmployeeEmailFilter(@Value("${employee.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                               @Value("${employee.email-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveProbability);
+    }
+
+    /**
+     * @return false if the email is definitely not stored, true if it may be
+     */
+    public boolean mightContain(String email) {
+        checks.increment();
+        if (filter.mightContain(email)) {
+            return true;
+        }
+        skippedLookups.increment();
+        return false;
+    }
+
+    /**
+     * Records positive answers whose lookup found no employee.
+     */
+    public void recordFalsePositives(long count) {
+        falsePositives.add(count);
+    }
+
+    /**
+     * Adds a stored email. Must be called after the database write.
+     */
+    public void put(String email) {
+        if (email != null) {
+            filter.put(email);
+        }
+    }
+
+    /**
+     * Adds all given emails.
+     *
+     * @return the number of emails read
+     */
+    public long load(Stream<String> emails) {
+        long count = 0;
+        for (String email : (Iterable<String>) emails::iterator) {
+            put(email);
+            count++;
+        }
+        return count;
+    }
+
+    public EmailFilterStatsDTO stats() {
+        long skipped = skippedLookups.sum();
+        long positivesWithoutMatch = falsePositives.sum();
+        long negatives = skipped + positivesWithoutMatch;
+        double observedRate = negatives == 0 ? 0 : (double) positivesWithoutMatch / negatives;
+        return new EmailFilterStatsDTO(filter.approximateElementCount(), checks.sum(), skipped, positivesWithoutMatch,
+                observedRate, filter.expectedFalsePositiveProbability());
+    }
+}
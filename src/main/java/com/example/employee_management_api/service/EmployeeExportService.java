@@ -0,0 +1,139 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.mapper.EmployeeMapper;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.util.FileFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service for exporting employees as NDJSON or CSV.
+ * Reads from a MongoDB cursor and writes each record straight to the output stream,
+ * so memory use does not depend on the number of exported employees.
+ */
+@Service
+public class EmployeeExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeExportService.class);
+    private static final String CSV_HEADER = "employeeId,fullName,email,department\n";
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final ObjectMapper objectMapper;
+    private final EmployeeMetrics employeeMetrics;
+
+    @Autowired
+    public EmployeeExportService(EmployeeRepository employeeRepository, EmployeeMapper employeeMapper, ObjectMapper objectMapper,
+                                 EmployeeMetrics employeeMetrics) {
+        this.employeeRepository = employeeRepository;
+        this.employeeMapper = employeeMapper;
+        this.objectMapper = objectMapper;
+        this.employeeMetrics = employeeMetrics;
+    }
+
+    /**
+     * Writes all employees matching the filters to the output stream.
+     *
+     * @param department  department to export, may be null for all departments
+     * @param createdFrom first creation date to include, may be null
+     * @param createdTo   last creation date to include, may be null
+     * @return number of exported employees
+     */
+    public long exportEmployees(FileFormat format, Department department, LocalDate createdFrom, LocalDate createdTo, OutputStream outputStream) throws IOException {
+        logger.info("Exporting employees as {} for department: {}, created from: {} to: {}", format, department, createdFrom, createdTo);
+
+        LocalDateTime from = createdFrom == null ? null : createdFrom.atStartOfDay();
+        LocalDateTime before = createdTo == null ? null : createdTo.plusDays(1).atStartOfDay();
+
+        long start = System.nanoTime();
+        long exported;
+        try (Stream<Employee> employees = employeeRepository.streamEmployees(department, from, before)) {
+            exported = format == FileFormat.CSV ? writeCsv(employees.iterator(), outputStream) : writeNdjson(employees.iterator(), outputStream);
+        } finally {
+            employeeMetrics.recordExport(format, System.nanoTime() - start);
+        }
+        logger.info("Exported {} employees as {}", exported, format);
+        return exported;
+    }
+
+    private long writeNdjson(Iterator<Employee> employees, OutputStream outputStream) throws IOException {
+        // Flushing after each value would turn every record into its own socket write
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (employees.hasNext()) {
+                writer.writeValue(generator, employeeMapper.toDto(employees.next()));
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<Employee> employees, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        long count = 0;
+        while (employees.hasNext()) {
+            Employee employee = employees.next();
+            writeCsvField(writer, employee.getEmployeeId());
+            writer.write(',');
+            writeCsvField(writer, employee.getFullName());
+            writer.write(',');
+            writeCsvField(writer, employee.getEmail());
+            writer.write(',');
+            writeCsvField(writer, employee.getDepartment() == null ? null : employee.getDepartment().name());
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Writes a CSV field, quoting it only when it contains a separator, quote or line break.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
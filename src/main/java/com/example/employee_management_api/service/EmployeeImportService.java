@@ -0,0 +1,353 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.BatchItemResultDTO;
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.dto.ImportJobDTO;
+import com.example.employee_management_api.dto.ImportRowErrorDTO;
+import com.example.employee_management_api.exception.ResourceNotFoundException;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.util.CsvRecordReader;
+import com.example.employee_management_api.util.FileFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service for importing employees from CSV or NDJSON uploads.
+ * <p>
+ * Rows are parsed incrementally and written in chunks through EmployeeService.createEmployees,
+ * so every chunk gets the same validation, one email lookup, one reserved ID range and one bulk insert.
+ * Parsing and writing run on the same thread: the next chunk is not read until the previous one is written,
+ * which keeps memory bounded by the chunk size and pushes back on the uploader while writes are slow.
+ * </p>
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportService.class);
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final EmployeeService employeeService;
+    private final ObjectReader employeeReader;
+    private final AsyncTaskExecutor taskExecutor;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public EmployeeImportService(EmployeeService employeeService, ObjectMapper objectMapper,
+                                 @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+                                 @Value("${employee.import.chunk-size:500}") int chunkSize,
+                                 @Value("${employee.import.max-reported-errors:1000}") int maxReportedErrors) {
+        // Each chunk is written as one batch create, which rejects batches above the batch limit
+        if (chunkSize < 1 || chunkSize > employeeService.getMaxBatchSize()) {
+            throw new IllegalArgumentException("Import chunk size must be between 1 and the employee batch max size ("
+                    + employeeService.getMaxBatchSize() + "), but was " + chunkSize);
+        }
+        this.employeeService = employeeService;
+        this.employeeReader = objectMapper.readerFor(EmployeeDTO.class);
+        this.taskExecutor = taskExecutor;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Receives the outcome of an import as it progresses.
+     */
+    public interface ImportListener {
+        void onRowError(ImportRowErrorDTO error) throws IOException;
+
+        /**
+         * Called after each written chunk.
+         */
+        default void onChunkWritten(long processedRows, long createdRows, long failedRows) throws IOException {
+        }
+    }
+
+    /**
+     * Imports all rows of the input on the calling thread, reporting rejected rows to the listener.
+     *
+     * @return the final row counts
+     */
+    public ImportJobDTO importEmployees(FileFormat format, InputStream inputStream, ImportListener listener) throws IOException {
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), 0);
+        runImport(job, format, inputStream, listener);
+        return job.toDto();
+    }
+
+    /**
+     * Spools the upload to a temporary file and imports it in the background.
+     * Progress can be polled with getImportJob.
+     */
+    public ImportJobDTO startImportJob(FileFormat format, InputStream inputStream) throws IOException {
+        removeFinishedJobs();
+
+        Path upload = Files.createTempFile("employee-import-", "." + format.getFileExtension());
+        Files.copy(inputStream, upload, StandardCopyOption.REPLACE_EXISTING);
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), maxReportedErrors);
+        jobs.put(job.id, job);
+        logger.info("Started import job {} for {} upload", job.id, format);
+
+        taskExecutor.execute(() -> {
+            try (InputStream uploadStream = Files.newInputStream(upload)) {
+                runImport(job, format, uploadStream, job::addError);
+            } catch (IOException e) {
+                logger.error("Import job {} failed to read the upload", job.id, e);
+                job.fail("Failed to read the uploaded file");
+            } catch (RuntimeException e) {
+                // Already logged and recorded on the job by runImport
+            } finally {
+                try {
+                    Files.deleteIfExists(upload);
+                } catch (IOException e) {
+                    logger.warn("Failed to delete import upload {}", upload, e);
+                }
+            }
+        });
+        return job.toDto();
+    }
+
+    /**
+     * Get the progress of an import job.
+     */
+    public ImportJobDTO getImportJob(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("No import job found for the given id: " + jobId);
+        }
+        return job.toDto();
+    }
+
+    private void runImport(ImportJob job, FileFormat format, InputStream inputStream, ImportListener listener) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        RowParser parser = format == FileFormat.CSV ? new CsvRowParser(new CsvRecordReader(reader)) : new NdjsonRowParser(reader);
+
+        List<EmployeeDTO> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkRows = new ArrayList<>(chunkSize);
+        long row = 0;
+        try {
+            while (parser.hasNext()) {
+                row++;
+                EmployeeDTO employeeDTO;
+                try {
+                    employeeDTO = parser.next();
+                } catch (IllegalArgumentException e) {
+                    job.failedRows++;
+                    listener.onRowError(new ImportRowErrorDTO(row, 400, e.getMessage()));
+                    continue;
+                }
+                if (employeeDTO == null) {
+                    // Blank line
+                    row--;
+                    continue;
+                }
+
+                chunk.add(employeeDTO);
+                chunkRows.add(row);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(job, chunk, chunkRows, listener);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(job, chunk, chunkRows, listener);
+            }
+            job.processedRows = row;
+            job.complete();
+            logger.info("Import {} finished: {} rows processed, {} created, {} failed", job.id, job.processedRows, job.createdRows, job.failedRows);
+
+        } catch (RuntimeException e) {
+            job.processedRows = row;
+            logger.error("Import {} aborted at row {}", job.id, row, e);
+            job.fail(e.getMessage());
+            throw e;
+        }
+    }
+
+    private void writeChunk(ImportJob job, List<EmployeeDTO> chunk, List<Long> chunkRows, ImportListener listener) throws IOException {
+        List<BatchItemResultDTO> results = employeeService.createEmployees(chunk).getData();
+        for (BatchItemResultDTO result : results) {
+            if (result.getStatusCode() == 201) {
+                job.createdRows++;
+            } else {
+                job.failedRows++;
+                listener.onRowError(new ImportRowErrorDTO(chunkRows.get(result.getIndex()), result.getStatusCode(), result.getMessage()));
+            }
+        }
+        job.processedRows = chunkRows.get(chunkRows.size() - 1);
+        chunk.clear();
+        chunkRows.clear();
+        listener.onChunkWritten(job.processedRows, job.createdRows, job.failedRows);
+    }
+
+    private void removeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    /**
+     * Parses one employee per row.
+     */
+    private interface RowParser {
+        boolean hasNext() throws IOException;
+
+        /**
+         * @return the parsed employee, or null for a blank row
+         * @throws IllegalArgumentException if the row is malformed
+         */
+        EmployeeDTO next() throws IOException;
+    }
+
+    private class NdjsonRowParser implements RowParser {
+        private final BufferedReader reader;
+        private String line;
+
+        NdjsonRowParser(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            line = reader.readLine();
+            return line != null;
+        }
+
+        @Override
+        public EmployeeDTO next() {
+            if (line.isBlank()) {
+                return null;
+            }
+            try {
+                return employeeReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Malformed JSON row: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static class CsvRowParser implements RowParser {
+        private final CsvRecordReader reader;
+        private List<String> record;
+        private Map<String, Integer> columns;
+
+        CsvRowParser(CsvRecordReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            if (columns == null) {
+                readHeader();
+            }
+            record = reader.readRecord();
+            return record != null;
+        }
+
+        @Override
+        public EmployeeDTO next() {
+            if (record.isEmpty()) {
+                return null;
+            }
+            if (record.size() != columns.size()) {
+                throw new IllegalArgumentException("Expected " + columns.size() + " columns but found " + record.size());
+            }
+            return new EmployeeDTO(null, record.get(columns.get("fullname")), record.get(columns.get("email")),
+                    Department.parse(record.get(columns.get("department"))));
+        }
+
+        private void readHeader() throws IOException {
+            List<String> header = reader.readRecord();
+            columns = new HashMap<>();
+            if (header != null) {
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+                }
+            }
+            if (!columns.containsKey("fullname") || !columns.containsKey("email") || !columns.containsKey("department")) {
+                throw new IllegalArgumentException("CSV header must contain fullName, email and department columns");
+            }
+        }
+    }
+
+    /**
+     * Mutable progress of a single import. Counters are written by the importing thread only.
+     */
+    private static class ImportJob {
+        private final String id;
+        private final int maxErrors;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final List<ImportRowErrorDTO> errors = new ArrayList<>();
+        // ReentrantLock rather than synchronized so virtual threads never pin on it
+        private final ReentrantLock errorsLock = new ReentrantLock();
+        private volatile String status = "RUNNING";
+        private volatile long processedRows;
+        private volatile long createdRows;
+        private volatile long failedRows;
+        private volatile String failureMessage;
+        private volatile LocalDateTime finishedAt;
+
+        ImportJob(String id, int maxErrors) {
+            this.id = id;
+            this.maxErrors = maxErrors;
+        }
+
+        void addError(ImportRowErrorDTO error) {
+            errorsLock.lock();
+            try {
+                if (errors.size() < maxErrors) {
+                    errors.add(error);
+                }
+            } finally {
+                errorsLock.unlock();
+            }
+        }
+
+        void complete() {
+            finishedAt = LocalDateTime.now();
+            status = "COMPLETED";
+        }
+
+        void fail(String message) {
+            failureMessage = message;
+            finishedAt = LocalDateTime.now();
+            status = "FAILED";
+        }
+
+        ImportJobDTO toDto() {
+            List<ImportRowErrorDTO> errorsCopy;
+            errorsLock.lock();
+            try {
+                errorsCopy = List.copyOf(errors);
+            } finally {
+                errorsLock.unlock();
+            }
+            return new ImportJobDTO(id, status, processedRows, createdRows, failedRows, errorsCopy, failureMessage, startedAt, finishedAt);
+        }
+    }
+}
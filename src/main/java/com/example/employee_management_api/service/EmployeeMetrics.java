@@ -0,0 +1,69 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.util.FileFormat;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Employee query meters recorded by the services.
+ * Every meter is registered up front, so recording never looks a meter up or allocates tags.
+ */
+@Component
+public class EmployeeMetrics {
+
+    private final DistributionSummary listPageSizes;
+    private final DistributionSummary searchPageSizes;
+    private final Map<FileFormat, Timer> exportTimers = new EnumMap<>(FileFormat.class);
+
+    @Autowired
+    public EmployeeMetrics(MeterRegistry meterRegistry, @Value("${spring.data.web.pageable.max-page-size:2000}") int maxPageSize) {
+        this.listPageSizes = pageSizes(meterRegistry, "list", maxPageSize);
+        this.searchPageSizes = pageSizes(meterRegistry, "search", maxPageSize);
+        for (FileFormat format : FileFormat.values()) {
+            exportTimers.put(format, Timer.builder("employee.export")
+                    .description("Time spent streaming one employee export")
+                    .tag("format", format.getFileExtension())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Records the number of employees returned by one page of the employee list.
+     */
+    public void recordListPage(int size) {
+        listPageSizes.record(size);
+    }
+
+    /**
+     * Records the number of employees returned by one page of a name/department search.
+     */
+    public void recordSearchPage(int size) {
+        searchPageSizes.record(size);
+    }
+
+    /**
+     * Records the time taken by one whole export, from opening the cursor to writing the last record.
+     */
+    public void recordExport(FileFormat format, long durationNanos) {
+        exportTimers.get(format).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static DistributionSummary pageSizes(MeterRegistry meterRegistry, String query, int maxPageSize) {
+        return DistributionSummary.builder("employee.page.size")
+                .description("Number of employees returned per page")
+                .baseUnit("employees")
+                .tag("query", query)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue((double) maxPageSize)
+                .register(meterRegistry);
+    }
+}
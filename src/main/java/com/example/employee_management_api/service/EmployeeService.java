@@ -1,25 +1,59 @@
 package com.example.employee_management_api.service;
 
+import com.example.employee_management_api.dto.BatchItemResultDTO;
+import com.example.employee_management_api.dto.BulkWriteResultDTO;
+import com.example.employee_management_api.dto.CacheStatsDTO;
+import com.example.employee_management_api.dto.CursorPageDTO;
+import com.example.employee_management_api.dto.EmailFilterStatsDTO;
 import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.dto.PageDTO;
+import com.example.employee_management_api.exception.ConcurrentUpdateException;
 import com.example.employee_management_api.exception.DuplicateValueException;
+import com.example.employee_management_api.exception.PreconditionFailedException;
 import com.example.employee_management_api.exception.ResourceNotFoundException;
+import com.example.employee_management_api.mapper.EmployeeMapper;
+import com.example.employee_management_api.mapper.EmployeeProjection;
+import com.example.employee_management_api.model.Department;
 import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.model.EmployeeChange;
+import com.example.employee_management_api.repository.BulkWriteOutcome;
 import com.example.employee_management_api.repository.EmployeeRepository;
 import com.example.employee_management_api.util.APIResponse;
-import org.modelmapper.ModelMapper;
+import com.example.employee_management_api.util.PageCursor;
+import com.example.employee_management_api.util.SearchTokens;
+import com.example.employee_management_api.util.TotalCount;
+import com.example.employee_management_api.util.VersionETags;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataAccessResourceFailureException;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.ResourceAccessException;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing employees.
@@ -28,91 +62,224 @@ import java.util.regex.Pattern;
 @Service
 public class EmployeeService {
     private final EmployeeRepository employeeRepository;
-    private final CounterService counterService;
-    private final ModelMapper modelMapper;
+    private final SequenceBlockAllocator employeeIdAllocator;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeCache employeeCache;
+    private final EmployeeCountCache employeeCountCache;
+    private final EmployeeEmailFilter employeeEmailFilter;
+    private final EmployeeStatsService employeeStatsService;
+    private final EmployeeChangeFeed employeeChangeFeed;
+    private final EmployeeMetrics employeeMetrics;
+    private final int maxBatchSize;
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
 
     private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
+    static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+    private static final Set<String> CURSOR_SORT_FIELDS = Set.of("id", "employeeId", "fullName", "createdAt");
 
     @Autowired
-    public EmployeeService(EmployeeRepository employeeRepository, CounterService counterService, ModelMapper modelMapper) {
+    public EmployeeService(EmployeeRepository employeeRepository, SequenceBlockAllocator employeeIdAllocator, EmployeeMapper employeeMapper,
+                           EmployeeCache employeeCache, EmployeeCountCache employeeCountCache, EmployeeEmailFilter employeeEmailFilter,
+                           EmployeeStatsService employeeStatsService, EmployeeChangeFeed employeeChangeFeed, EmployeeMetrics employeeMetrics, @Value("${employee.batch.max-size:1000}") int maxBatchSize) {
         this.employeeRepository = employeeRepository;
-        this.counterService = counterService;
-        this.modelMapper = modelMapper;
+        this.employeeIdAllocator = employeeIdAllocator;
+        this.employeeMapper = employeeMapper;
+        this.employeeCache = employeeCache;
+        this.employeeCountCache = employeeCountCache;
+        this.employeeEmailFilter = employeeEmailFilter;
+        this.employeeStatsService = employeeStatsService;
+        this.employeeChangeFeed = employeeChangeFeed;
+        this.employeeMetrics = employeeMetrics;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Largest number of employees accepted by one batch create, update, delete or lookup.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
     }
 
     /**
      * Creates a new employee.
      */
     public APIResponse<EmployeeDTO> createEmployee(EmployeeDTO employeeDTO) {
-        logger.info("Attempting to create a new employee with email: {}", employeeDTO.getEmail());
+        logger.debug("Attempting to create a new employee with email: {}", employeeDTO.getEmail());
 
         if (employeeDTO.getFullName().isEmpty() || employeeDTO.getEmail().isEmpty() || employeeDTO.getDepartment().toString().isEmpty()) {
             logger.error("Employee creation failed: Full name, email and department are required");
             throw new IllegalArgumentException("Full name, email, and department cannot be empty");
         }
 
-        if (!Pattern.matches(EMAIL_REGEX, employeeDTO.getEmail())) {
+        if (!EMAIL_PATTERN.matcher(employeeDTO.getEmail()).matches()) {
             logger.error("Employee creation failed: invalid email");
             throw new IllegalArgumentException("Invalid email format: " + employeeDTO.getEmail());
         }
 
-        if (employeeRepository.findEmployeeByEmail(employeeDTO.getEmail()) != null) {
+        if (emailExists(employeeDTO.getEmail())) {
             logger.error("Employee creation failed: Email {} already exists", employeeDTO.getEmail());
             throw new DuplicateValueException("Employee email already exists");
         }
 
         try {
-            // Getting next sequence for unique employee id
-            int nextSequence = counterService.getNextSequence("employeeId");
+            // Getting next sequence for unique employee id from the locally reserved block
+            int nextSequence = employeeIdAllocator.next();
 
             // Creating the employeeID
             String nextId = String.format("EM%04d", nextSequence);
-            logger.info("Generated unique Employee ID: {}", nextId);
+            logger.debug("Generated unique Employee ID: {}", nextId);
             employeeDTO.setEmployeeId(nextId);
 
-            Employee employeeToBeSaved = modelMapper.map(employeeDTO, Employee.class);
+            Employee employeeToBeSaved = employeeMapper.toEntity(employeeDTO);
             employeeToBeSaved.setCreatedAt(LocalDateTime.now());
 
             Employee savedEmployee = employeeRepository.save(employeeToBeSaved);
-            EmployeeDTO savedEmployeeDTO = modelMapper.map(savedEmployee, EmployeeDTO.class);
+            employeeEmailFilter.put(savedEmployee.getEmail());
+            employeeStatsService.recordCreated(savedEmployee);
+            employeeCountCache.recordCreated(List.of(savedEmployee));
+            EmployeeDTO savedEmployeeDTO = employeeMapper.toDto(savedEmployee);
             if (savedEmployeeDTO == null) {
                 logger.error("Employee creation failed");
                 return new APIResponse<>("Failed to create the employee", null, 400);
             }
-            logger.info("New employee created with employeeId: {}", savedEmployeeDTO.getEmployeeId());
+            employeeChangeFeed.publish(EmployeeChange.CREATED, savedEmployeeDTO);
+            logger.debug("New employee created with employeeId: {}", savedEmployeeDTO.getEmployeeId());
             return new APIResponse<>("Employee created successfully.", savedEmployeeDTO, 201);
 
+        } catch (DuplicateKeyException e) {
+            // A concurrent create took the email between the check and the insert; the unique index rejected this one
+            logger.error("Employee creation failed: Email {} already exists", employeeDTO.getEmail());
+            employeeEmailFilter.put(employeeDTO.getEmail());
+            throw new DuplicateValueException("Employee email already exists");
         } catch (Exception e) {
             logger.error("Unexpected error occurred while creating employee with email {}: {}", employeeDTO.getEmail(), e.getMessage(), e);
             throw new RuntimeException("Failed to create employee", e);
         }
     }
 
+    /**
+     * Creates a batch of employees.
+     * Validates the whole payload in memory, checks emails with a single lookup, reserves one
+     * employee ID range and writes all valid employees with one unordered bulk insert.
+     * Invalid or duplicate items are reported individually without failing the rest of the batch.
+     */
+    public APIResponse<List<BatchItemResultDTO>> createEmployees(List<EmployeeDTO> employeeDTOs) {
+        logger.debug("Attempting to create a batch of {} employees", employeeDTOs.size());
+
+        if (employeeDTOs.isEmpty()) {
+            throw new IllegalArgumentException("Employee batch cannot be empty");
+        }
+        if (employeeDTOs.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Employee batch cannot contain more than " + maxBatchSize + " employees");
+        }
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[employeeDTOs.size()];
+
+        // Validate in memory and keep the first occurrence of each email
+        Map<String, Integer> indexByEmail = new HashMap<>();
+        for (int i = 0; i < employeeDTOs.size(); i++) {
+            EmployeeDTO employeeDTO = employeeDTOs.get(i);
+            String validationError = validateNewEmployee(employeeDTO);
+            if (validationError != null) {
+                results[i] = new BatchItemResultDTO(i, 400, validationError, null);
+            } else if (indexByEmail.putIfAbsent(employeeDTO.getEmail(), i) != null) {
+                results[i] = new BatchItemResultDTO(i, 409, "Employee email is duplicated within the batch", null);
+            }
+        }
+
+        try {
+            // Only emails the filter reports as possibly taken need the lookup
+            List<String> possiblyTakenEmails = indexByEmail.keySet().stream()
+                    .filter(employeeEmailFilter::mightContain)
+                    .toList();
+            if (!possiblyTakenEmails.isEmpty()) {
+                int taken = 0;
+                for (Employee existingEmployee : employeeRepository.findByEmailIn(possiblyTakenEmails)) {
+                    Integer index = indexByEmail.remove(existingEmployee.getEmail());
+                    if (index != null) {
+                        results[index] = new BatchItemResultDTO(index, 409, "Employee email already exists", null);
+                        taken++;
+                    }
+                }
+                employeeEmailFilter.recordFalsePositives(possiblyTakenEmails.size() - taken);
+            }
+
+            List<Integer> acceptedIndexes = new ArrayList<>(indexByEmail.values());
+            acceptedIndexes.sort(null);
+
+            if (!acceptedIndexes.isEmpty()) {
+                int firstSequence = employeeIdAllocator.reserveRange(acceptedIndexes.size());
+                LocalDateTime createdAt = LocalDateTime.now();
+
+                List<Employee> employeesToBeSaved = new ArrayList<>(acceptedIndexes.size());
+                for (int i = 0; i < acceptedIndexes.size(); i++) {
+                    EmployeeDTO employeeDTO = employeeDTOs.get(acceptedIndexes.get(i));
+                    employeeDTO.setEmployeeId(String.format("EM%04d", firstSequence + i));
+                    Employee employeeToBeSaved = employeeMapper.toEntity(employeeDTO);
+                    employeeToBeSaved.setCreatedAt(createdAt);
+                    // Bulk inserts do not initialize the version like save does
+                    employeeToBeSaved.setVersion(0L);
+                    employeesToBeSaved.add(employeeToBeSaved);
+                }
+
+                Map<Integer, Integer> writeErrors = employeeRepository.insertAllUnordered(employeesToBeSaved);
+                List<Employee> insertedEmployees = new ArrayList<>(employeesToBeSaved.size());
+                for (int i = 0; i < acceptedIndexes.size(); i++) {
+                    int index = acceptedIndexes.get(i);
+                    Integer errorCode = writeErrors.get(i);
+                    if (errorCode == null || errorCode == DUPLICATE_KEY_ERROR_CODE) {
+                        employeeEmailFilter.put(employeesToBeSaved.get(i).getEmail());
+                    }
+                    if (errorCode == null) {
+                        insertedEmployees.add(employeesToBeSaved.get(i));
+                        results[index] = new BatchItemResultDTO(index, 201, "Employee created successfully.", employeeDTOs.get(index));
+                    } else if (errorCode == DUPLICATE_KEY_ERROR_CODE) {
+                        results[index] = new BatchItemResultDTO(index, 409, "Employee already exists", null);
+                    } else {
+                        results[index] = new BatchItemResultDTO(index, 500, "Failed to create the employee", null);
+                    }
+                }
+                employeeStatsService.recordCreated(insertedEmployees);
+                employeeCountCache.recordCreated(insertedEmployees);
+                employeeChangeFeed.publish(EmployeeChange.CREATED, insertedEmployees.stream().map(employeeMapper::toDto).toList());
+            }
+        } catch (DataAccessException e) {
+            logger.error("Database error while creating a batch of employees", e);
+            throw new DataAccessResourceFailureException("Failed to create employees. Please try again later.");
+        }
+
+        long createdCount = Arrays.stream(results).filter(result -> result.getStatusCode() == 201).count();
+        logger.debug("Created {} of {} employees in batch", createdCount, results.length);
+
+        int statusCode = createdCount == results.length ? 201 : (createdCount == 0 ? 400 : 207);
+        return new APIResponse<>("Created " + createdCount + " of " + results.length + " employees.", Arrays.asList(results), statusCode);
+    }
+
     /**
      * Update an existing employee.
      */
     public APIResponse<EmployeeDTO> updateEmployee(String employeeId, EmployeeDTO updatedEmployeeDTO) {
-        logger.info("Updating employee with ID: {}", employeeId);
+        logger.debug("Updating employee with ID: {}", employeeId);
 
         Employee existingEmployee = employeeRepository.findByEmployeeId(employeeId);
         if(existingEmployee == null) {
-            logger.error("Requested employee not found with ID: {}", employeeId);
-            throw new ResourceAccessException("Employee not found with ID: " + employeeId);
+            logger.debug("Cannot find the employee to update for the given employee id: {}", employeeId);
+            return notFound("No Employee found for the given id: " + employeeId);
         }
 
-        logger.debug("Existing employee details: {}", existingEmployee);
+        Department previousDepartment = existingEmployee.getDepartment();
 
         if(updatedEmployeeDTO.getFullName() != null) {
             existingEmployee.setFullName(updatedEmployeeDTO.getFullName());
         }
         if(updatedEmployeeDTO.getEmail() != null) {
-            if (employeeRepository.findEmployeeByEmail(updatedEmployeeDTO.getEmail()) != null) {
+            if (emailExists(updatedEmployeeDTO.getEmail())) {
                 logger.error("Employee update failed: Email {} already exists", updatedEmployeeDTO.getEmail());
                 throw new DuplicateValueException("Employee email already exists");
             }
 
-            if (!Pattern.matches(EMAIL_REGEX, updatedEmployeeDTO.getEmail())) {
+            if (!EMAIL_PATTERN.matcher(updatedEmployeeDTO.getEmail()).matches()) {
                 logger.error("Employee update failed: invalid email");
                 throw new IllegalArgumentException("Invalid email format: " + updatedEmployeeDTO.getEmail());
             }
@@ -124,16 +291,26 @@ public class EmployeeService {
 
         try{
             Employee savedEmployee = employeeRepository.save(existingEmployee);
-            logger.info("Employee updated successfully: {}", savedEmployee);
-            EmployeeDTO savedEmployeeDTO = modelMapper.map(savedEmployee, EmployeeDTO.class);
+            employeeCache.invalidate(savedEmployee);
+            employeeEmailFilter.put(savedEmployee.getEmail());
+            employeeStatsService.recordDepartmentChanged(previousDepartment, savedEmployee.getDepartment());
+            EmployeeDTO savedEmployeeDTO = employeeMapper.toDto(savedEmployee);
             if (savedEmployeeDTO == null) {
                 logger.warn("Update failed or returned empty DTO for employee ID: {}", employeeId);
                 return new APIResponse<>("Employee update failed.", null, 400);
             }
 
-            logger.info("Successfully updated employee with ID: {}", employeeId);
+            employeeChangeFeed.publish(EmployeeChange.UPDATED, savedEmployeeDTO);
+            logger.debug("Successfully updated employee with ID: {}", employeeId);
             return new APIResponse<>("Employee details updated successfully.", savedEmployeeDTO, 200);
 
+        } catch (DuplicateKeyException e) {
+            logger.error("Employee update failed: Email {} already exists", updatedEmployeeDTO.getEmail());
+            employeeEmailFilter.put(updatedEmployeeDTO.getEmail());
+            throw new DuplicateValueException("Employee email already exists");
+        } catch (OptimisticLockingFailureException e) {
+            logger.error("Employee update failed: employee with ID {} was modified concurrently", employeeId);
+            throw new ConcurrentUpdateException("Employee was modified by another request. Please retry.");
         } catch (DataAccessException e) {
             logger.error("Database error while updating employee with ID: {}", employeeId, e);
             throw new DataAccessResourceFailureException("Failed to update employee. Please try again later.");
@@ -143,11 +320,55 @@ public class EmployeeService {
         }
     }
 
+    /**
+     * Partially update an existing employee.
+     * Only the non-null fields are written, with a single $set that also returns the replaced document,
+     * so concurrent patches of different fields do not overwrite each other.
+     *
+     * @param expectedVersion version from the If-Match header, or null to update whatever version is stored
+     */
+    public APIResponse<EmployeeDTO> patchEmployee(String employeeId, EmployeeDTO changes, Long expectedVersion) {
+        logger.debug("Patching employee with ID: {}", employeeId);
+
+        LocalDateTime lastModifiedAt = LocalDateTime.now();
+        Update update = patchUpdate(changes, lastModifiedAt);
+
+        Employee previousEmployee;
+        try {
+            previousEmployee = employeeRepository.updateByEmployeeId(employeeId, expectedVersion, update);
+            if (previousEmployee == null) {
+                // Only the failure path pays for a second round trip to tell a missing employee from a stale version
+                if (expectedVersion != null && employeeRepository.findByEmployeeId(employeeId) != null) {
+                    logger.error("Employee patch failed: employee with ID {} is no longer at version {}", employeeId, expectedVersion);
+                    throw new PreconditionFailedException("Employee was modified by another request. Reload it and retry.");
+                }
+                logger.error("Requested employee not found with ID: {}", employeeId);
+                throw new ResourceNotFoundException("No Employee found for the given id: " + employeeId);
+            }
+        } catch (DuplicateKeyException e) {
+            logger.error("Employee patch failed: Email {} already exists", changes.getEmail());
+            employeeEmailFilter.put(changes.getEmail());
+            throw new DuplicateValueException("Employee email already exists");
+        } catch (DataAccessException e) {
+            logger.error("Database error while patching employee with ID: {}", employeeId, e);
+            throw new DataAccessResourceFailureException("Failed to update employee. Please try again later.");
+        }
+
+        Employee savedEmployee = applyPatch(previousEmployee, changes, lastModifiedAt);
+        employeeCache.invalidate(savedEmployee);
+        employeeEmailFilter.put(savedEmployee.getEmail());
+        employeeStatsService.recordDepartmentChanged(previousEmployee.getDepartment(), savedEmployee.getDepartment());
+        EmployeeDTO savedEmployeeDTO = employeeMapper.toDto(savedEmployee);
+        employeeChangeFeed.publish(EmployeeChange.UPDATED, savedEmployeeDTO);
+        logger.debug("Successfully patched employee with ID: {}", employeeId);
+        return new APIResponse<>("Employee details updated successfully.", savedEmployeeDTO, 200);
+    }
+
     /**
      * Delete an existing employee.
      */
     public APIResponse<EmployeeDTO> deleteEmployee(String id) {
-        logger.info("Deleting employee with ID: {}", id);
+        logger.debug("Deleting employee with ID: {}", id);
 
         Employee existingEmployee = employeeRepository.findByEmployeeId(id);
         if(existingEmployee == null) {
@@ -157,9 +378,14 @@ public class EmployeeService {
 
         try {
             employeeRepository.delete(existingEmployee);
-            logger.info("Successfully deleted employee with ID: {}", id);
+            employeeCache.invalidate(existingEmployee);
+            employeeStatsService.recordDeleted(existingEmployee);
+            employeeCountCache.recordDeleted(List.of(existingEmployee));
+            EmployeeDTO deletedEmployeeDTO = employeeMapper.toDto(existingEmployee);
+            employeeChangeFeed.publish(EmployeeChange.DELETED, deletedEmployeeDTO);
+            logger.debug("Successfully deleted employee with ID: {}", id);
 
-            return new APIResponse<>("Employee details deleted successfully.", modelMapper.map(existingEmployee, EmployeeDTO.class), 200);
+            return new APIResponse<>("Employee details deleted successfully.", deletedEmployeeDTO, 200);
 
         } catch (DataAccessException e) {
             logger.error("Database error while deleting employee with ID: {}", id, e);
@@ -171,47 +397,430 @@ public class EmployeeService {
         }
     }
 
+    /**
+     * Partially updates a batch of employees. Each item names the employee by employee ID and carries the fields
+     * to change, like a patch. The employees are read with one $in query and written with one unordered bulk
+     * write of version-checked updates, so an invalid, missing, duplicate or concurrently modified item does not
+     * fail the others.
+     */
+    public APIResponse<BulkWriteResultDTO> updateEmployees(List<EmployeeDTO> changes) {
+        logger.debug("Attempting to update a batch of {} employees", changes.size());
+
+        if (changes.isEmpty()) {
+            throw new IllegalArgumentException("Employee batch cannot be empty");
+        }
+        if (changes.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Employee batch cannot contain more than " + maxBatchSize + " employees");
+        }
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[changes.size()];
+        Update[] updates = new Update[changes.size()];
+        LocalDateTime lastModifiedAt = LocalDateTime.now();
+
+        // Validate in memory and keep the first occurrence of each employee ID and email
+        Map<String, Integer> indexByEmployeeId = new HashMap<>();
+        Set<String> emails = new HashSet<>();
+        for (int i = 0; i < changes.size(); i++) {
+            EmployeeDTO item = changes.get(i);
+            if (item.getEmployeeId() == null || item.getEmployeeId().isBlank()) {
+                results[i] = new BatchItemResultDTO(i, 400, "Employee ID is required", null);
+                continue;
+            }
+            try {
+                updates[i] = patchUpdate(item, lastModifiedAt);
+            } catch (IllegalArgumentException e) {
+                results[i] = new BatchItemResultDTO(i, 400, e.getMessage(), null);
+                continue;
+            }
+            if (indexByEmployeeId.containsKey(item.getEmployeeId())) {
+                results[i] = new BatchItemResultDTO(i, 409, "Employee ID is duplicated within the batch", null);
+            } else if (item.getEmail() != null && !emails.add(item.getEmail())) {
+                results[i] = new BatchItemResultDTO(i, 409, "Employee email is duplicated within the batch", null);
+            } else {
+                indexByEmployeeId.put(item.getEmployeeId(), i);
+            }
+        }
+
+        BulkWriteOutcome outcome = new BulkWriteOutcome(0, 0, 0, Map.of(), Set.of(), Set.of());
+        try {
+            if (!indexByEmployeeId.isEmpty()) {
+                Map<String, Employee> existingEmployees = new HashMap<>();
+                for (Employee employee : employeeRepository.findByEmployeeIdIn(indexByEmployeeId.keySet())) {
+                    existingEmployees.put(employee.getEmployeeId(), employee);
+                }
+
+                List<Integer> indexes = new ArrayList<>();
+                List<Employee> previousEmployees = new ArrayList<>();
+                List<EmployeeDTO> itemChanges = new ArrayList<>();
+                List<Update> itemUpdates = new ArrayList<>();
+                for (int i = 0; i < changes.size(); i++) {
+                    if (results[i] != null) {
+                        continue;
+                    }
+                    Employee previousEmployee = existingEmployees.get(changes.get(i).getEmployeeId());
+                    if (previousEmployee == null) {
+                        results[i] = new BatchItemResultDTO(i, 404, "No Employee found for the given id: " + changes.get(i).getEmployeeId(), null);
+                    } else {
+                        indexes.add(i);
+                        previousEmployees.add(previousEmployee);
+                        itemChanges.add(changes.get(i));
+                        itemUpdates.add(updates[i]);
+                    }
+                }
+                outcome = writeUpdates(indexes, previousEmployees, itemChanges, itemUpdates, lastModifiedAt, results);
+            }
+        } catch (DataAccessException e) {
+            logger.error("Database error while updating a batch of employees", e);
+            throw new DataAccessResourceFailureException("Failed to update employees. Please try again later.");
+        }
+
+        return bulkResponse("Updated", outcome.matchedCount(), outcome.modifiedCount(), 0, results);
+    }
+
+    /**
+     * Applies the same partial update to every employee of a department, e.g. moving all of MARKETING to SALES.
+     * The department is read with one streamed query and written in unordered bulk writes of at most
+     * employee.batch.max-size version-checked updates as the stream is consumed, so only one chunk of employees
+     * is held at a time and each employee still gets its own result, change event and statistics delta.
+     * Emails are unique and cannot be changed this way.
+     */
+    public APIResponse<BulkWriteResultDTO> updateEmployeesByDepartment(Department department, EmployeeDTO changes) {
+        logger.debug("Attempting to update all employees of department {}", department);
+
+        if (department == null) {
+            throw new IllegalArgumentException("Department is required");
+        }
+        if (changes.getEmail() != null) {
+            throw new IllegalArgumentException("Email cannot be changed for a whole department");
+        }
+        LocalDateTime lastModifiedAt = LocalDateTime.now();
+        Update update = patchUpdate(changes, lastModifiedAt);
+
+        try (Stream<Employee> departmentEmployees = employeeRepository.streamEmployees(department, null, null)) {
+            List<BatchItemResultDTO> results = new ArrayList<>();
+            List<Employee> chunk = new ArrayList<>(maxBatchSize);
+            long matchedCount = 0;
+            long modifiedCount = 0;
+            Iterator<Employee> employees = departmentEmployees.iterator();
+            while (employees.hasNext()) {
+                chunk.add(employees.next());
+                if (chunk.size() == maxBatchSize || !employees.hasNext()) {
+                    BulkWriteOutcome outcome = updateChunk(chunk, changes, update, lastModifiedAt, results);
+                    matchedCount += outcome.matchedCount();
+                    modifiedCount += outcome.modifiedCount();
+                    chunk.clear();
+                }
+            }
+            return bulkResponse("Updated", matchedCount, modifiedCount, 0, results.toArray(BatchItemResultDTO[]::new));
+
+        } catch (DataAccessException e) {
+            logger.error("Database error while updating the employees of department {}", department, e);
+            throw new DataAccessResourceFailureException("Failed to update employees. Please try again later.");
+        }
+    }
+
+    /**
+     * Applies the same update to one chunk of streamed employees and appends their results, numbered on from the
+     * results of the earlier chunks.
+     */
+    private BulkWriteOutcome updateChunk(List<Employee> chunk, EmployeeDTO changes, Update update, LocalDateTime lastModifiedAt,
+                                         List<BatchItemResultDTO> results) {
+        BatchItemResultDTO[] chunkResults = new BatchItemResultDTO[chunk.size()];
+        BulkWriteOutcome outcome = writeUpdates(IntStream.range(0, chunk.size()).boxed().toList(), chunk,
+                Collections.nCopies(chunk.size(), changes), Collections.nCopies(chunk.size(), update), lastModifiedAt, chunkResults);
+        int offset = results.size();
+        for (BatchItemResultDTO result : chunkResults) {
+            result.setIndex(offset + result.getIndex());
+            results.add(result);
+        }
+        return outcome;
+    }
+
+    /**
+     * Writes the updates of found employees with one bulk write and records the result of each item at its index.
+     * Updated employees are evicted from the cache, counted in the statistics and published as one batch of events.
+     * Items the bulk write result cannot tell apart are conflicts, since their update may or may not have been applied.
+     */
+    private BulkWriteOutcome writeUpdates(List<Integer> indexes, List<Employee> previousEmployees, List<EmployeeDTO> changes,
+                                          List<Update> updates, LocalDateTime lastModifiedAt, BatchItemResultDTO[] results) {
+        BulkWriteOutcome outcome = employeeRepository.updateAllByIdAndVersion(previousEmployees, updates);
+
+        List<Employee> updatedPreviousEmployees = new ArrayList<>();
+        List<Employee> updatedEmployees = new ArrayList<>();
+        List<EmployeeDTO> updatedEmployeeDTOs = new ArrayList<>();
+        for (int i = 0; i < updates.size(); i++) {
+            int index = indexes.get(i);
+            Employee previousEmployee = previousEmployees.get(i);
+            Integer errorCode = outcome.errors().get(i);
+            if (errorCode != null && errorCode == DUPLICATE_KEY_ERROR_CODE) {
+                employeeEmailFilter.put(changes.get(i).getEmail());
+                results[index] = new BatchItemResultDTO(index, 409, "Employee email already exists", null);
+            } else if (errorCode != null) {
+                results[index] = new BatchItemResultDTO(index, 500, "Failed to update the employee", null);
+            } else if (outcome.unmatched().contains(i)) {
+                results[index] = new BatchItemResultDTO(index, 409, "Employee was modified by another request. Please retry.", null);
+            } else if (outcome.uncertain().contains(i)) {
+                // Applied or not, the cached employee may be stale
+                employeeCache.invalidate(previousEmployee);
+                results[index] = new BatchItemResultDTO(index, 409,
+                        "Another request wrote employees of this bulk update concurrently, so this update may not have been applied. Please retry.", null);
+            } else {
+                Employee savedEmployee = applyPatch(previousEmployee, changes.get(i), lastModifiedAt);
+                employeeCache.invalidate(savedEmployee);
+                employeeEmailFilter.put(savedEmployee.getEmail());
+                EmployeeDTO savedEmployeeDTO = employeeMapper.toDto(savedEmployee);
+                updatedPreviousEmployees.add(previousEmployee);
+                updatedEmployees.add(savedEmployee);
+                updatedEmployeeDTOs.add(savedEmployeeDTO);
+                results[index] = new BatchItemResultDTO(index, 200, "Employee details updated successfully.", savedEmployeeDTO);
+            }
+        }
+        if (!outcome.uncertain().isEmpty()) {
+            logger.warn("{} of {} bulk updates did not match and the bulk write result does not tell which; "
+                    + "their statistics deltas and change events are skipped", outcome.uncertain().size() - outcome.matchedCount(), updates.size());
+        }
+        employeeStatsService.recordDepartmentsChanged(updatedPreviousEmployees, updatedEmployees);
+        employeeChangeFeed.publish(EmployeeChange.UPDATED, updatedEmployeeDTOs);
+        return outcome;
+    }
+
+    /**
+     * Deletes a batch of employees by employee ID. The employees are read with one $in query and removed with
+     * one unordered bulk write of version-checked deletes, so missing, duplicate or concurrently modified items do
+     * not fail the others. Only the employees known to be removed by this request are counted and published.
+     */
+    public APIResponse<BulkWriteResultDTO> deleteEmployees(List<String> employeeIds) {
+        logger.debug("Attempting to delete a batch of {} employees", employeeIds.size());
+
+        if (employeeIds.isEmpty()) {
+            throw new IllegalArgumentException("Employee ID list cannot be empty");
+        }
+        if (employeeIds.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Employee ID list cannot contain more than " + maxBatchSize + " IDs");
+        }
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[employeeIds.size()];
+        Map<String, Integer> indexByEmployeeId = new HashMap<>();
+        for (int i = 0; i < employeeIds.size(); i++) {
+            String employeeId = employeeIds.get(i);
+            if (employeeId == null || employeeId.isBlank()) {
+                results[i] = new BatchItemResultDTO(i, 400, "Employee ID is required", null);
+            } else if (indexByEmployeeId.putIfAbsent(employeeId, i) != null) {
+                results[i] = new BatchItemResultDTO(i, 409, "Employee ID is duplicated within the batch", null);
+            }
+        }
+
+        long deletedCount = 0;
+        try {
+            if (!indexByEmployeeId.isEmpty()) {
+                List<Employee> existingEmployees = employeeRepository.findByEmployeeIdIn(indexByEmployeeId.keySet());
+                BulkWriteOutcome outcome = employeeRepository.deleteAllByIdAndVersion(existingEmployees);
+                deletedCount = outcome.deletedCount();
+                // A delete matches nothing after a concurrent update or delete of the same employee. Those still
+                // stored were updated; of the others, uncertain ones were removed by this request when the deleted
+                // count covers them all
+                Set<String> remaining = new HashSet<>();
+                if (!outcome.unmatched().isEmpty() || !outcome.uncertain().isEmpty()) {
+                    List<String> unresolvedIds = new ArrayList<>();
+                    outcome.unmatched().forEach(i -> unresolvedIds.add(existingEmployees.get(i).getEmployeeId()));
+                    outcome.uncertain().forEach(i -> unresolvedIds.add(existingEmployees.get(i).getEmployeeId()));
+                    employeeRepository.findByEmployeeIdIn(unresolvedIds).forEach(employee -> remaining.add(employee.getEmployeeId()));
+                }
+                long uncertainRemoved = outcome.uncertain().stream()
+                        .filter(i -> !remaining.contains(existingEmployees.get(i).getEmployeeId()))
+                        .count();
+                boolean uncertainRemovedHere = outcome.uncertain().isEmpty() || uncertainRemoved == outcome.deletedCount();
+
+                List<Employee> deletedEmployees = new ArrayList<>();
+                List<EmployeeDTO> deletedEmployeeDTOs = new ArrayList<>();
+                for (int i = 0; i < existingEmployees.size(); i++) {
+                    Employee employee = existingEmployees.get(i);
+                    int index = indexByEmployeeId.remove(employee.getEmployeeId());
+                    if (outcome.errors().containsKey(i)) {
+                        results[index] = new BatchItemResultDTO(index, 500, "Failed to delete the employee", null);
+                    } else if (remaining.contains(employee.getEmployeeId())) {
+                        results[index] = new BatchItemResultDTO(index, 409, "Employee was modified by another request. Please retry.", null);
+                    } else if (outcome.unmatched().contains(i)) {
+                        // Removed by another request, which already counted and published the delete
+                        results[index] = new BatchItemResultDTO(index, 404, "No Employee found for the given id: " + employee.getEmployeeId(), null);
+                    } else if (outcome.uncertain().contains(i) && !uncertainRemovedHere) {
+                        // Gone, but this request or a concurrent one removed it; only the one that did counts and publishes it
+                        employeeCache.invalidate(employee);
+                        results[index] = new BatchItemResultDTO(index, 200, "Employee deleted, possibly by another request.", null);
+                    } else {
+                        employeeCache.invalidate(employee);
+                        EmployeeDTO deletedEmployeeDTO = employeeMapper.toDto(employee);
+                        deletedEmployees.add(employee);
+                        deletedEmployeeDTOs.add(deletedEmployeeDTO);
+                        results[index] = new BatchItemResultDTO(index, 200, "Employee details deleted successfully.", deletedEmployeeDTO);
+                    }
+                }
+                if (!uncertainRemovedHere) {
+                    logger.warn("{} employees removed by a bulk delete cannot be told apart from {} removed concurrently; "
+                            + "their statistics deltas and change events are skipped", outcome.deletedCount(), uncertainRemoved - outcome.deletedCount());
+                }
+                employeeStatsService.recordDeleted(deletedEmployees);
+                employeeCountCache.recordDeleted(deletedEmployees);
+                employeeChangeFeed.publish(EmployeeChange.DELETED, deletedEmployeeDTOs);
+            }
+        } catch (DataAccessException e) {
+            logger.error("Database error while deleting a batch of employees", e);
+            throw new DataAccessResourceFailureException("Failed to delete employees. Please try again later.");
+        }
+        // The IDs left were not found
+        indexByEmployeeId.forEach((employeeId, index) ->
+                results[index] = new BatchItemResultDTO(index, 404, "No Employee found for the given id: " + employeeId, null));
+
+        return bulkResponse("Deleted", 0, 0, deletedCount, results);
+    }
+
+    private static APIResponse<BulkWriteResultDTO> bulkResponse(String action, long matchedCount, long modifiedCount, long deletedCount,
+                                                                BatchItemResultDTO[] results) {
+        long succeededCount = Arrays.stream(results).filter(result -> result.getStatusCode() == 200).count();
+        logger.debug("{} {} of {} employees in bulk", action, succeededCount, results.length);
+
+        int statusCode = succeededCount == results.length ? 200 : (succeededCount == 0 ? 400 : 207);
+        return new APIResponse<>(action + " " + succeededCount + " of " + results.length + " employees.",
+                new BulkWriteResultDTO(matchedCount, modifiedCount, deletedCount, Arrays.asList(results)), statusCode);
+    }
+
     /**
      * Get an existing employee by mongoDB ID.
+     * A missing employee is a 404 response rather than an exception; only database failures are thrown.
      */
     public APIResponse<EmployeeDTO> getEmployeeById (String id) {
-        logger.info("Getting employee details for the _id: {}", id);
+        logger.debug("Getting employee details for the _id: {}", id);
+        EmployeeDTO employeeDTO;
         try {
-            Employee employee = employeeRepository.findById(id).orElse(null);
-            if (employee == null) {
-                logger.error("Cannot find the employee for the given _id: {}", id);
-                throw new ResourceNotFoundException("No Employee found for the given _id: " + id);
-            }
-            logger.info("Successfully retrieved employee details for the _id: {}", id);
-            return new APIResponse<>("Employee details retrieved successfully", modelMapper.map(employee, EmployeeDTO.class), 200) ;
-        } catch (ResourceNotFoundException e) {
-            logger.error("No employee found for the given _id.");
-            throw new ResourceNotFoundException(e.getMessage());
-        } catch (Exception e) {
-            logger.error("An error occurred while retrieving employee by _id.");
-            throw new RuntimeException(e);
+            employeeDTO = employeeCache.getById(id, key -> employeeRepository.findById(key)
+                    .map(employeeMapper::toDto)
+                    .orElse(null));
+        } catch (DataAccessException e) {
+            logger.error("Database error while retrieving employee with _id: {}", id, e);
+            throw new DataAccessResourceFailureException("Failed to retrieve employee. Please try again later.");
+        }
+        if (employeeDTO == null) {
+            logger.debug("Cannot find the employee for the given _id: {}", id);
+            return notFound("No Employee found for the given _id: " + id);
         }
+        logger.debug("Successfully retrieved employee details for the _id: {}", id);
+        return new APIResponse<>("Employee details retrieved successfully", employeeDTO, 200) ;
     }
 
     /**
      * Get an existing employee by employee ID.
+     * A missing employee is a 404 response rather than an exception; only database failures are thrown.
      */
     public APIResponse<EmployeeDTO> getEmployeeByEmployeeId (String employeeId) {
-        logger.info("Getting employee details for the employee id: {}", employeeId);
+        logger.debug("Getting employee details for the employee id: {}", employeeId);
+        EmployeeDTO employeeDTO;
         try {
-            Employee employee = employeeRepository.findByEmployeeId(employeeId);
-            if (employee == null) {
-                logger.error("Cannot find the employee for the given employee id: {}", employeeId);
-                throw new ResourceNotFoundException("No Employee found for the given id: " + employeeId);
+            employeeDTO = employeeCache.getByEmployeeId(employeeId, key -> {
+                Employee employee = employeeRepository.findByEmployeeId(key);
+                return employee == null ? null : employeeMapper.toDto(employee);
+            });
+        } catch (DataAccessException e) {
+            logger.error("Database error while retrieving employee with employee id: {}", employeeId, e);
+            throw new DataAccessResourceFailureException("Failed to retrieve employee. Please try again later.");
+        }
+        if (employeeDTO == null) {
+            logger.debug("Cannot find the employee for the given employee id: {}", employeeId);
+            return notFound("No Employee found for the given id: " + employeeId);
+        }
+        logger.debug("Successfully retrieved employee details for the employee id: {}", employeeId);
+        return new APIResponse<>("Employee details retrieved successfully", employeeDTO, 200);
+    }
+
+    /**
+     * A miss or an empty page: an ordinary outcome of a read, answered with 404 without building an exception.
+     */
+    private static <T> APIResponse<T> notFound(String message) {
+        return new APIResponse<>(message, null, 404);
+    }
+
+    /**
+     * Get many employees by employee ID, in request order with a 404 item for each ID that does not exist.
+     * Cached employees are served from the cache; all other distinct IDs are resolved with one $in query
+     * on the unique employeeId index.
+     */
+    public APIResponse<List<BatchItemResultDTO>> getEmployeesByEmployeeIds(List<String> employeeIds) {
+        logger.debug("Getting employee details for {} employee ids", employeeIds.size());
+
+        if (employeeIds.isEmpty()) {
+            throw new IllegalArgumentException("Employee ID list cannot be empty");
+        }
+        if (employeeIds.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Employee ID list cannot contain more than " + maxBatchSize + " IDs");
+        }
+
+        Set<String> distinctIds = new HashSet<>();
+        for (String employeeId : employeeIds) {
+            if (employeeId != null && !employeeId.isBlank()) {
+                distinctIds.add(employeeId);
             }
-            logger.info("Successfully retrieved employee details for the employee id: {}", employeeId);
-            return new APIResponse<>("Employee details retrieved successfully", modelMapper.map(employee, EmployeeDTO.class), 200);
-        } catch (ResourceNotFoundException e) {
-            logger.error("No employee found for the given employee id.");
-            throw new ResourceNotFoundException(e.getMessage());
-        } catch (Exception e) {
-            logger.error("An error occurred while retrieving employee by employee id.");
-            throw new RuntimeException(e);
+        }
+
+        Map<String, EmployeeDTO> found = new HashMap<>(employeeCache.getAllPresentByEmployeeId(distinctIds));
+        distinctIds.removeAll(found.keySet());
+        if (!distinctIds.isEmpty()) {
+            try {
+                for (Employee employee : employeeRepository.findByEmployeeIdIn(distinctIds)) {
+                    found.put(employee.getEmployeeId(), employeeMapper.toDto(employee));
+                }
+            } catch (DataAccessException e) {
+                logger.error("Database error while retrieving {} employees by employee id", distinctIds.size(), e);
+                throw new DataAccessResourceFailureException("Failed to retrieve employees. Please try again later.");
+            }
+        }
+
+        List<BatchItemResultDTO> results = new ArrayList<>(employeeIds.size());
+        int foundCount = 0;
+        for (int i = 0; i < employeeIds.size(); i++) {
+            EmployeeDTO employeeDTO = found.get(employeeIds.get(i));
+            if (employeeDTO != null) {
+                results.add(new BatchItemResultDTO(i, 200, "Employee details retrieved successfully", employeeDTO));
+                foundCount++;
+            } else {
+                results.add(new BatchItemResultDTO(i, 404, "No Employee found for the given id: " + employeeIds.get(i), null));
+            }
+        }
+        logger.debug("Found {} of {} requested employees", foundCount, results.size());
+
+        int statusCode = foundCount == results.size() ? 200 : (foundCount == 0 ? 404 : 207);
+        return new APIResponse<>("Found " + foundCount + " of " + results.size() + " employees.", results, statusCode);
+    }
+
+    /**
+     * Get hit, miss and eviction statistics of the employee lookup cache.
+     */
+    public APIResponse<CacheStatsDTO> getCacheStats() {
+        return new APIResponse<>("Cache statistics retrieved successfully", employeeCache.stats(), 200);
+    }
+
+    /**
+     * Get check, skipped lookup and false-positive counts of the email filter.
+     */
+    public APIResponse<EmailFilterStatsDTO> getEmailFilterStats() {
+        return new APIResponse<>("Email filter statistics retrieved successfully", employeeEmailFilter.stats(), 200);
+    }
+
+    /**
+     * Weak ETag of a list or search page: the employee collection state and the query that selects the page.
+     * Inserts and updates raise the latest lastModifiedAt and deletes lower the count, so the tag changes whenever
+     * a page could. Computed from one index lookup and the collection metadata, without reading any page. The
+     * metadata count may be off after an unclean shutdown, but every insert and delete still moves it, which is
+     * all the tag needs.
+     *
+     * @param query the query parameters of the page in a canonical form
+     */
+    public String getEmployeesETag(String query) {
+        try {
+            LocalDateTime latest = employeeRepository.findLatestLastModifiedAt();
+            long lastModifiedMillis = latest == null ? 0 : latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            return VersionETags.formatWeak(lastModifiedMillis, employeeRepository.estimatedCount(), query);
+        } catch (DataAccessException e) {
+            logger.error("Database error while reading the employee collection state.", e);
+            throw new DataAccessResourceFailureException("Failed to retrieve employees. Please try again later.");
         }
     }
 
@@ -219,31 +828,113 @@ public class EmployeeService {
      * Get all employees
      */
     public APIResponse<List<EmployeeDTO>> getAllEmployees(Pageable pageable) {
-        logger.info("Fetching all employees from the database");
+        return getAllEmployees(pageable, null, employeeMapper::toDto);
+    }
 
-        try {
-            Page<Employee> employees = employeeRepository.findAll(pageable);
+    /**
+     * Get all employees, reading and returning only the fields of the projection.
+     */
+    public APIResponse<List<Map<String, Object>>> getAllEmployees(Pageable pageable, EmployeeProjection projection) {
+        return getAllEmployees(pageable, projection.fields(), projection::toView);
+    }
 
+    /**
+     * Get all employees with the total number of employees, counted or estimated from the collection metadata.
+     */
+    public APIResponse<PageDTO<EmployeeDTO>> getAllEmployees(Pageable pageable, TotalCount total) {
+        return getAllEmployees(pageable, null, employeeMapper::toDto, total);
+    }
+
+    /**
+     * Get all employees with the total number of employees, returning only the fields of the projection.
+     */
+    public APIResponse<PageDTO<Map<String, Object>>> getAllEmployees(Pageable pageable, EmployeeProjection projection, TotalCount total) {
+        return getAllEmployees(pageable, projection.fields(), projection::toView, total);
+    }
+
+    private <T> APIResponse<List<T>> getAllEmployees(Pageable pageable, Collection<String> fields, Function<Employee, T> mapper) {
+        Slice<Employee> employees = findAllEmployees(pageable, fields);
+        if (employees.isEmpty()) {
+            return notFound("No employees found in the database");
+        }
+
+        List<T> employeeDTOSList = employees.stream()
+                .map(mapper)
+                .toList();
+        return new APIResponse<>("Employees retrieved successfully.", employeeDTOSList, 200);
+    }
+
+    private <T> APIResponse<PageDTO<T>> getAllEmployees(Pageable pageable, Collection<String> fields, Function<Employee, T> mapper, TotalCount total) {
+        Slice<Employee> employees = findAllEmployees(pageable, fields);
+        if (employees.isEmpty()) {
+            return notFound("No employees found in the database");
+        }
+        return new APIResponse<>("Employees retrieved successfully.", toPage(employees, pageable, mapper, total, () -> countAllEmployees(total)), 200);
+    }
+
+    /**
+     * Reads the page without counting the collection; totals are counted separately and only on request.
+     */
+    private Slice<Employee> findAllEmployees(Pageable pageable, Collection<String> fields) {
+        logger.debug("Fetching all employees from the database");
+
+        try {
+            Slice<Employee> employees = employeeRepository.findSlice(pageable, fields);
+            employeeMetrics.recordListPage(employees.getNumberOfElements());
             if (employees.isEmpty()) {
-                logger.warn("No employees found in the database.");
-                throw new ResourceNotFoundException("No employees found in the database");
+                logger.debug("No employees found in the database.");
+            } else {
+                logger.debug("Successfully retrieved {} employees.", employees.getNumberOfElements());
             }
+            return employees;
 
-            logger.info("Successfully retrieved {} employees.", employees.getSize());
+        } catch (DataAccessException e) {
+            logger.error("Database error while fetching employees.", e);
+            throw new DataAccessResourceFailureException("Failed to retrieve employees. Please try again later.");
+        }
+    }
 
-            List<EmployeeDTO> employeeDTOSList = employees.stream()
-                    .map(employee -> modelMapper.map(employee, EmployeeDTO.class))
-                    .toList();
-            return new APIResponse<>("Employees retrieved successfully.", employeeDTOSList, 200);
+    /**
+     * Counts all documents for an exact total; an approximate total is the collection's metadata count.
+     */
+    private long countAllEmployees(TotalCount total) {
+        try {
+            return total == TotalCount.EXACT ? employeeRepository.count() : employeeRepository.estimatedCount();
+        } catch (DataAccessException e) {
+            logger.error("Database error while counting employees.", e);
+            throw new DataAccessResourceFailureException("Failed to retrieve employees. Please try again later.");
+        }
+    }
+
+    /**
+     * Get all employees with keyset (cursor) pagination.
+     * An empty cursor token starts from the first page, ordered by the pageable sort (or _id).
+     */
+    public APIResponse<CursorPageDTO<EmployeeDTO>> getAllEmployeesAfter(String cursorToken, Pageable pageable) {
+        return getAllEmployeesAfter(cursorToken, pageable, null, employeeMapper::toDto);
+    }
+
+    /**
+     * Get all employees with keyset (cursor) pagination, reading and returning only the fields of the projection.
+     */
+    public APIResponse<CursorPageDTO<Map<String, Object>>> getAllEmployeesAfter(String cursorToken, Pageable pageable, EmployeeProjection projection) {
+        return getAllEmployeesAfter(cursorToken, pageable, projection.fields(), projection::toView);
+    }
+
+    private <T> APIResponse<CursorPageDTO<T>> getAllEmployeesAfter(String cursorToken, Pageable pageable, Collection<String> fields,
+                                                                  Function<Employee, T> mapper) {
+        logger.debug("Fetching employees from the database after cursor");
+        PageCursor cursor = resolveCursor(cursorToken, pageable);
+
+        try {
+            Slice<Employee> employees = employeeRepository.findAllAfter(cursor, pageable.getPageSize(), fields);
+            employeeMetrics.recordListPage(employees.getNumberOfElements());
+            logger.debug("Successfully retrieved {} employees after cursor.", employees.getNumberOfElements());
+            return new APIResponse<>("Employees retrieved successfully.", toCursorPage(employees, cursor, mapper), 200);
 
-        } catch(ResourceNotFoundException e) {
-            throw new ResourceNotFoundException(e.getMessage());
         } catch (DataAccessException e) {
             logger.error("Database error while fetching employees.", e);
-            throw new RuntimeException("Database error occurred while retrieving employees. Please try again later.");
-        } catch (Exception e) {
-            logger.error("Unexpected error occurred while fetching employees.", e);
-            throw new RuntimeException("An unexpected error occurred. Please try again later.");
+            throw new DataAccessResourceFailureException("Failed to retrieve employees. Please try again later.");
         }
     }
 
@@ -251,36 +942,264 @@ public class EmployeeService {
      * Get all employees by name or department
      */
     public APIResponse<List<EmployeeDTO>> getAllEmployeesByFullNameOrDepartment(String fullName, String department, Pageable pageable) {
-        logger.info("Fetching all employees from the database matches name or department");
+        return getAllEmployeesByFullNameOrDepartment(fullName, department, pageable, null, employeeMapper::toDto);
+    }
 
-        Page<Employee> employees;
-        try {
-            // Handle fullName or department null scenarios for the regex
-            String fullNameQuery = (fullName == null || fullName.isEmpty()) ? "" : fullName;
-            String departmentQuery = (department == null || department.isEmpty()) ? "" : department;
+    /**
+     * Get all employees by name or department, returning only the fields of the projection.
+     */
+    public APIResponse<List<Map<String, Object>>> getAllEmployeesByFullNameOrDepartment(String fullName, String department, Pageable pageable,
+                                                                                         EmployeeProjection projection) {
+        return getAllEmployeesByFullNameOrDepartment(fullName, department, pageable, projection.fields(), projection::toView);
+    }
+
+    /**
+     * Get all employees by name or department with the total number of matches, counted or read from the count cache.
+     */
+    public APIResponse<PageDTO<EmployeeDTO>> getAllEmployeesByFullNameOrDepartment(String fullName, String department, Pageable pageable,
+                                                                                   TotalCount total) {
+        return getAllEmployeesByFullNameOrDepartment(fullName, department, pageable, null, employeeMapper::toDto, total);
+    }
+
+    /**
+     * Get all employees by name or department with the total number of matches, returning only the fields of the projection.
+     */
+    public APIResponse<PageDTO<Map<String, Object>>> getAllEmployeesByFullNameOrDepartment(String fullName, String department, Pageable pageable,
+                                                                                           EmployeeProjection projection, TotalCount total) {
+        return getAllEmployeesByFullNameOrDepartment(fullName, department, pageable, projection.fields(), projection::toView, total);
+    }
 
-            employees = employeeRepository.findByFullNameOrDepartment(fullNameQuery, departmentQuery, pageable);
+    private <T> APIResponse<List<T>> getAllEmployeesByFullNameOrDepartment(String fullName, String department, Pageable pageable,
+                                                                          Collection<String> fields, Function<Employee, T> mapper) {
+        Slice<Employee> employees = searchEmployees(SearchQuery.parse(fullName, department), pageable, fields);
+        if (employees.isEmpty()) {
+            return notFound("No employees found in the database");
+        }
 
+        List<T> employeeDTOSList = employees.stream()
+                .map(mapper)
+                .toList();
+        return new APIResponse<>("Retrieved employees successfully", employeeDTOSList, 200);
+    }
+
+    private <T> APIResponse<PageDTO<T>> getAllEmployeesByFullNameOrDepartment(String fullName, String department, Pageable pageable,
+                                                                             Collection<String> fields, Function<Employee, T> mapper,
+                                                                             TotalCount total) {
+        SearchQuery searchQuery = SearchQuery.parse(fullName, department);
+        Slice<Employee> employees = searchEmployees(searchQuery, pageable, fields);
+        if (employees.isEmpty()) {
+            return notFound("No employees found in the database");
+        }
+        return new APIResponse<>("Retrieved employees successfully", toPage(employees, pageable, mapper, total, () -> countSearch(searchQuery, total)), 200);
+    }
+
+    private Slice<Employee> searchEmployees(SearchQuery searchQuery, Pageable pageable, Collection<String> fields) {
+        logger.debug("Fetching all employees from the database matches name or department");
+
+        try {
+            Slice<Employee> employees = employeeRepository.searchByNameTokensOrDepartment(searchQuery.nameTokens(), searchQuery.department(), pageable, fields);
+            employeeMetrics.recordSearchPage(employees.getNumberOfElements());
             if (employees.isEmpty()) {
-                logger.warn("No employees found with similar name or department");
-                throw new ResourceNotFoundException("No employees found in the database");
+                logger.debug("No employees found with similar name or department");
+            } else {
+                logger.debug("Successfully retrieved {} employees for given name or department", employees.getNumberOfElements());
             }
+            return employees;
 
-            logger.info("Successfully retrieved {} employees for given name or department", employees.getSize());
-            List<EmployeeDTO> employeeDTOSList = employees.stream()
-                    .map(employee -> modelMapper.map(employee, EmployeeDTO.class))
-                    .toList();
-            return new APIResponse<>("Retrieved employees successfully", employeeDTOSList, 200);
+        } catch (DataAccessException e) {
+            logger.error("Database error while fetching employees.", e);
+            throw new DataAccessResourceFailureException("Failed to retrieve employees. Please try again later.");
+        }
+    }
+
+    /**
+     * Counts the matches for an exact total and caches the result; an approximate total is served from the count cache.
+     */
+    private long countSearch(SearchQuery searchQuery, TotalCount total) {
+        try {
+            if (total == TotalCount.EXACT) {
+                long count = employeeRepository.countByNameTokensOrDepartment(searchQuery.nameTokens(), searchQuery.department());
+                employeeCountCache.put(searchQuery, count);
+                return count;
+            }
+            return employeeCountCache.get(searchQuery, query -> employeeRepository.countByNameTokensOrDepartment(query.nameTokens(), query.department()));
+        } catch (DataAccessException e) {
+            logger.error("Database error while counting employees.", e);
+            throw new DataAccessResourceFailureException("Failed to retrieve employees. Please try again later.");
+        }
+    }
+
+    /**
+     * Maps a page and adds its total. A last page already tells the exact total, so the counter only runs
+     * when more results follow; an approximate count is raised to at least the results seen so far.
+     */
+    private static <T> PageDTO<T> toPage(Slice<Employee> employees, Pageable pageable, Function<Employee, T> mapper, TotalCount total,
+                                         LongSupplier counter) {
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        long seen = offset + employees.getNumberOfElements();
+        long totalElements = employees.hasNext() ? Math.max(counter.getAsLong(), seen + 1) : seen;
+        boolean totalExact = !employees.hasNext() || total == TotalCount.EXACT;
+
+        List<T> content = employees.stream().map(mapper).toList();
+        return new PageDTO<>(content, pageable.isPaged() ? pageable.getPageNumber() : 0, pageable.isPaged() ? pageable.getPageSize() : content.size(),
+                employees.hasNext(), totalElements, totalExact);
+    }
+
+    /**
+     * Get all employees by name or department with keyset (cursor) pagination.
+     */
+    public APIResponse<CursorPageDTO<EmployeeDTO>> getAllEmployeesByFullNameOrDepartmentAfter(String fullName, String department, String cursorToken, Pageable pageable) {
+        return getAllEmployeesByFullNameOrDepartmentAfter(fullName, department, cursorToken, pageable, null, employeeMapper::toDto);
+    }
+
+    /**
+     * Get all employees by name or department with keyset (cursor) pagination, returning only the fields of the projection.
+     */
+    public APIResponse<CursorPageDTO<Map<String, Object>>> getAllEmployeesByFullNameOrDepartmentAfter(String fullName, String department, String cursorToken,
+                                                                                                       Pageable pageable, EmployeeProjection projection) {
+        return getAllEmployeesByFullNameOrDepartmentAfter(fullName, department, cursorToken, pageable, projection.fields(), projection::toView);
+    }
+
+    private <T> APIResponse<CursorPageDTO<T>> getAllEmployeesByFullNameOrDepartmentAfter(String fullName, String department, String cursorToken,
+                                                                                        Pageable pageable, Collection<String> fields,
+                                                                                        Function<Employee, T> mapper) {
+        logger.debug("Fetching employees from the database matches name or department after cursor");
+        PageCursor cursor = resolveCursor(cursorToken, pageable);
+        SearchQuery searchQuery = SearchQuery.parse(fullName, department);
+
+        try {
+            Slice<Employee> employees = employeeRepository.searchByNameTokensOrDepartmentAfter(searchQuery.nameTokens(), searchQuery.department(), cursor,
+                    pageable.getPageSize(), fields);
+            employeeMetrics.recordSearchPage(employees.getNumberOfElements());
+            logger.debug("Successfully retrieved {} employees after cursor for given name or department", employees.getNumberOfElements());
+            return new APIResponse<>("Retrieved employees successfully", toCursorPage(employees, cursor, mapper), 200);
 
-        } catch(ResourceNotFoundException e) {
-            throw new ResourceNotFoundException(e.getMessage());
         } catch (DataAccessException e) {
             logger.error("Database error while fetching employees.", e);
-            throw new RuntimeException("Database error occurred while retrieving employees. Please try again later.");
-        } catch (Exception e) {
-            logger.error("Unexpected error occurred while fetching employees.", e);
-            throw new RuntimeException("An unexpected error occurred. Please try again later.");
+            throw new DataAccessResourceFailureException("Failed to retrieve employees. Please try again later.");
+        }
+    }
+
+    /**
+     * Decodes the cursor token, or builds a first-page cursor from the pageable sort when the token is empty.
+     */
+    private PageCursor resolveCursor(String cursorToken, Pageable pageable) {
+        PageCursor cursor;
+        if (cursorToken == null || cursorToken.isEmpty()) {
+            Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("id"));
+            cursor = new PageCursor(order.getProperty(), order.getDirection(), null, null);
+        } else {
+            cursor = PageCursor.decode(cursorToken);
+        }
+
+        if (!CURSOR_SORT_FIELDS.contains(cursor.sortField())) {
+            throw new IllegalArgumentException("Cursor pagination supports sorting only by " + CURSOR_SORT_FIELDS);
+        }
+        return cursor;
+    }
+
+    private static <T> CursorPageDTO<T> toCursorPage(Slice<Employee> employees, PageCursor cursor, Function<Employee, T> mapper) {
+        List<T> employeeDTOSList = employees.stream()
+                .map(mapper)
+                .toList();
+
+        String nextCursor = null;
+        if (employees.hasNext()) {
+            Employee last = employees.getContent().get(employees.getNumberOfElements() - 1);
+            nextCursor = cursor.next(sortValue(last, cursor.sortField()), last.getId()).encode();
+        }
+        return new CursorPageDTO<>(employeeDTOSList, nextCursor, employees.hasNext());
+    }
+
+    private static String sortValue(Employee employee, String sortField) {
+        return switch (sortField) {
+            case "employeeId" -> employee.getEmployeeId();
+            case "fullName" -> employee.getFullName();
+            case "createdAt" -> employee.getCreatedAt() == null ? null : employee.getCreatedAt().toString();
+            default -> null;
+        };
+    }
+
+    /**
+     * Builds the $set of the non-null fields of a patch.
+     *
+     * @throws IllegalArgumentException if a field is invalid or no field is given
+     */
+    private static Update patchUpdate(EmployeeDTO changes, LocalDateTime lastModifiedAt) {
+        Update update = new Update();
+        if (changes.getFullName() != null) {
+            if (changes.getFullName().isBlank()) {
+                throw new IllegalArgumentException("Full name cannot be empty");
+            }
+            // $set bypasses the entity callbacks, so the search tokens are written here
+            update.set("fullName", changes.getFullName()).set("nameTokens", SearchTokens.tokenize(changes.getFullName()));
+        }
+        if (changes.getEmail() != null) {
+            if (!EMAIL_PATTERN.matcher(changes.getEmail()).matches()) {
+                logger.error("Employee patch failed: invalid email");
+                throw new IllegalArgumentException("Invalid email format: " + changes.getEmail());
+            }
+            update.set("email", changes.getEmail());
+        }
+        if (changes.getDepartment() != null) {
+            update.set("department", changes.getDepartment());
+        }
+        if (update.getUpdateObject().isEmpty()) {
+            throw new IllegalArgumentException("At least one of full name, email or department is required");
+        }
+        // $set bypasses auditing as well
+        return update.set("lastModifiedAt", lastModifiedAt);
+    }
+
+    /**
+     * Derives the stored state after a patch from the replaced document, mirroring the $set built by patchUpdate.
+     */
+    private static Employee applyPatch(Employee previousEmployee, EmployeeDTO changes, LocalDateTime lastModifiedAt) {
+        Employee patched = new Employee(previousEmployee.getId(), previousEmployee.getEmployeeId(), previousEmployee.getFullName(),
+                previousEmployee.getEmail(), previousEmployee.getDepartment(), previousEmployee.getCreatedAt(), lastModifiedAt);
+        if (changes.getFullName() != null) {
+            patched.setFullName(changes.getFullName());
+        }
+        if (changes.getEmail() != null) {
+            patched.setEmail(changes.getEmail());
+        }
+        if (changes.getDepartment() != null) {
+            patched.setDepartment(changes.getDepartment());
+        }
+        patched.setNameTokens(SearchTokens.tokenize(patched.getFullName()));
+        patched.setVersion(previousEmployee.getVersion() == null ? 1L : previousEmployee.getVersion() + 1);
+        return patched;
+    }
+
+    /**
+     * Looks the email up only when the email filter reports it as possibly taken.
+     * A false result is not authoritative: the unique email index rejects duplicates that slip through.
+     */
+    private boolean emailExists(String email) {
+        if (!employeeEmailFilter.mightContain(email)) {
+            return false;
+        }
+        if (employeeRepository.findEmployeeByEmail(email) != null) {
+            return true;
+        }
+        employeeEmailFilter.recordFalsePositives(1);
+        return false;
+    }
+
+    /**
+     * Applies the createEmployee validation rules without throwing.
+     *
+     * @return the validation error message, or null if the employee is valid
+     */
+    static String validateNewEmployee(EmployeeDTO employeeDTO) {
+        if (employeeDTO == null || employeeDTO.getFullName() == null || employeeDTO.getFullName().isEmpty()
+                || employeeDTO.getEmail() == null || employeeDTO.getEmail().isEmpty() || employeeDTO.getDepartment() == null) {
+            return "Full name, email, and department cannot be empty";
+        }
+        if (!EMAIL_PATTERN.matcher(employeeDTO.getEmail()).matches()) {
+            return "Invalid email format: " + employeeDTO.getEmail();
         }
+        return null;
     }
 
 }
@@ -0,0 +1,273 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmployeeStatsDTO;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.model.EmployeeStat;
+import com.example.employee_management_api.util.APIResponse;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Service maintaining materialized employee statistics: headcount per department and employees created per day.
+ * <p>
+ * Employee writes adjust the affected counters with one bulk upsert of $inc operations, so reads touch one
+ * document per department and per day in the requested range, never the employees. Counter updates are best
+ * effort: a failure is logged without failing the employee write, and rebuildStats recomputes all counters.
+ * The in-memory storage engine keeps the same counters in InMemoryEmployeeStatsService.
+ * </p>
+ */
+@Service
+@ConditionalOnProperty(name = "employee.storage", havingValue = "mongo", matchIfMissing = true)
+public class EmployeeStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeStatsService.class);
+    private static final String COLLECTION = "employee_stats";
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Autowired
+    public EmployeeStatsService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public void recordCreated(Employee employee) {
+        recordCreated(List.of(employee));
+    }
+
+    /**
+     * Counts newly inserted employees, merging the deltas of the whole batch into one bulk write.
+     */
+    public void recordCreated(Collection<Employee> employees) {
+        Map<String, Long> deltas = new HashMap<>();
+        for (Employee employee : employees) {
+            addDeltas(deltas, employee, 1);
+        }
+        apply(deltas);
+    }
+
+    public void recordDepartmentChanged(Department previous, Department current) {
+        if (previous == current) {
+            return;
+        }
+        Map<String, Long> deltas = new HashMap<>();
+        addDepartmentDeltas(deltas, previous, current);
+        apply(deltas);
+    }
+
+    /**
+     * Counts the department moves of updated employees, merged into one bulk write.
+     *
+     * @param previous the employees before the update
+     * @param current  the same employees after the update, at the same index
+     */
+    public void recordDepartmentsChanged(List<Employee> previous, List<Employee> current) {
+        Map<String, Long> deltas = new HashMap<>();
+        for (int i = 0; i < previous.size(); i++) {
+            addDepartmentDeltas(deltas, previous.get(i).getDepartment(), current.get(i).getDepartment());
+        }
+        apply(deltas);
+    }
+
+    public void recordDeleted(Employee employee) {
+        recordDeleted(List.of(employee));
+    }
+
+    /**
+     * Counts deleted employees, merging the deltas of the whole batch into one bulk write.
+     */
+    public void recordDeleted(Collection<Employee> employees) {
+        Map<String, Long> deltas = new HashMap<>();
+        for (Employee employee : employees) {
+            addDeltas(deltas, employee, -1);
+        }
+        apply(deltas);
+    }
+
+    private static void addDepartmentDeltas(Map<String, Long> deltas, Department previous, Department current) {
+        if (previous == current) {
+            return;
+        }
+        if (previous != null) {
+            deltas.merge(departmentKey(previous), -1L, Long::sum);
+        }
+        if (current != null) {
+            deltas.merge(departmentKey(current), 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Get the headcount per department and the hires per day or month between from and to (inclusive).
+     *
+     * @param from   first day of the hires range, defaults to 30 days before to
+     * @param to     last day of the hires range, defaults to today
+     * @param period day or month
+     */
+    public APIResponse<EmployeeStatsDTO> getStats(LocalDate from, LocalDate to, String period) {
+        boolean monthly = "month".equalsIgnoreCase(period);
+        if (!monthly && period != null && !"day".equalsIgnoreCase(period)) {
+            throw new IllegalArgumentException("Invalid period: " + period + ". Use day or month");
+        }
+        LocalDate rangeEnd = to == null ? LocalDate.now() : to;
+        LocalDate rangeStart = from == null ? rangeEnd.minusDays(DEFAULT_RANGE_DAYS - 1) : from;
+        if (rangeStart.isAfter(rangeEnd)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+
+        try {
+            Map<Department, Long> headcount = new EnumMap<>(Department.class);
+            long total = 0;
+            for (Map.Entry<String, Long> count : departmentCounts().entrySet()) {
+                headcount.put(Department.valueOf(count.getKey()), count.getValue());
+                total += count.getValue();
+            }
+
+            Map<String, Long> hires = new TreeMap<>();
+            for (Map.Entry<String, Long> count : dayCounts(rangeStart, rangeEnd).entrySet()) {
+                if (count.getValue() != 0) {
+                    // ISO dates start with yyyy-MM, so a month bucket is a prefix of the day key
+                    hires.merge(monthly ? count.getKey().substring(0, 7) : count.getKey(), count.getValue(), Long::sum);
+                }
+            }
+
+            EmployeeStatsDTO stats = new EmployeeStatsDTO(total, headcount, monthly ? "month" : "day", hires);
+            return new APIResponse<>("Employee statistics retrieved successfully", stats, 200);
+
+        } catch (DataAccessException e) {
+            logger.error("Database error while fetching employee statistics", e);
+            throw new DataAccessResourceFailureException("Failed to retrieve employee statistics. Please try again later.");
+        }
+    }
+
+    /**
+     * Recomputes all counters from the employees with one aggregation pipeline that replaces the statistics
+     * collection through $out. Counter updates made while it runs may be lost, so run it when writes are quiet.
+     */
+    public APIResponse<EmployeeStatsDTO> rebuildStats() {
+        logger.info("Rebuilding employee statistics");
+        String timezone = ZoneId.systemDefault().getId();
+
+        Document departments = new Document("$group", new Document("_id", new Document("$concat", List.of(EmployeeStat.DEPARTMENT + ":", "$department")))
+                .append("type", new Document("$first", EmployeeStat.DEPARTMENT))
+                .append("key", new Document("$first", "$department"))
+                .append("count", new Document("$sum", 1L)));
+        // Days are bucketed in the JVM time zone, like the LocalDateTime values the incremental updates use
+        Document day = new Document("$dateToString", new Document("format", "%Y-%m-%d").append("date", "$createdAt").append("timezone", timezone));
+        Document days = new Document("$group", new Document("_id", new Document("$concat", List.of(EmployeeStat.DAY + ":", day)))
+                .append("type", new Document("$first", EmployeeStat.DAY))
+                .append("key", new Document("$first", day))
+                .append("count", new Document("$sum", 1L)));
+
+        List<AggregationOperation> stages = List.of(
+                context -> new Document("$facet", new Document()
+                        .append("departments", List.of(new Document("$match", new Document("department", new Document("$type", "string"))), departments))
+                        .append("days", List.of(new Document("$match", new Document("createdAt", new Document("$type", "date"))), days))),
+                context -> new Document("$project", new Document("stats", new Document("$concatArrays", List.of("$departments", "$days")))),
+                context -> new Document("$unwind", "$stats"),
+                context -> new Document("$replaceRoot", new Document("newRoot", "$stats")),
+                context -> new Document("$out", COLLECTION));
+
+        try {
+            mongoTemplate.aggregate(Aggregation.newAggregation(stages), Employee.class, Document.class);
+        } catch (DataAccessException e) {
+            logger.error("Database error while rebuilding employee statistics", e);
+            throw new DataAccessResourceFailureException("Failed to rebuild employee statistics. Please try again later.");
+        }
+        logger.info("Rebuilt employee statistics");
+
+        APIResponse<EmployeeStatsDTO> stats = getStats(null, null, "day");
+        stats.setMessage("Employee statistics rebuilt successfully");
+        return stats;
+    }
+
+    /**
+     * Reads the headcount counters, keyed by department name.
+     */
+    protected Map<String, Long> departmentCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (EmployeeStat stat : mongoTemplate.find(Query.query(Criteria.where("type").is(EmployeeStat.DEPARTMENT)), EmployeeStat.class)) {
+            counts.put(stat.getKey(), stat.getCount());
+        }
+        return counts;
+    }
+
+    /**
+     * Reads the hires counters of the days between from and to (inclusive), keyed by ISO date.
+     */
+    protected Map<String, Long> dayCounts(LocalDate from, LocalDate to) {
+        Query daysQuery = Query.query(Criteria.where("type").is(EmployeeStat.DAY)
+                        .and("key").gte(from.toString()).lte(to.toString()))
+                .with(Sort.by("key"));
+        Map<String, Long> counts = new HashMap<>();
+        for (EmployeeStat stat : mongoTemplate.find(daysQuery, EmployeeStat.class)) {
+            counts.put(stat.getKey(), stat.getCount());
+        }
+        return counts;
+    }
+
+    static void addDeltas(Map<String, Long> deltas, Employee employee, long delta) {
+        if (employee.getDepartment() != null) {
+            deltas.merge(departmentKey(employee.getDepartment()), delta, Long::sum);
+        }
+        if (employee.getCreatedAt() != null) {
+            deltas.merge(dayKey(employee.getCreatedAt()), delta, Long::sum);
+        }
+    }
+
+    /**
+     * Adds the deltas to the counters, keyed by "type:key". Zero deltas are dropped first.
+     */
+    protected void apply(Map<String, Long> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmployeeStat.class);
+            for (Map.Entry<String, Long> entry : deltas.entrySet()) {
+                String id = entry.getKey();
+                int separator = id.indexOf(':');
+                bulkOperations.upsert(Query.query(Criteria.where("id").is(id)), new Update()
+                        .inc("count", entry.getValue())
+                        .setOnInsert("type", id.substring(0, separator))
+                        .setOnInsert("key", id.substring(separator + 1)));
+            }
+            bulkOperations.execute();
+        } catch (DataAccessException e) {
+            logger.warn("Failed to update employee statistics {}; rebuild them to repair the counts", deltas, e);
+        }
+    }
+
+    private static String departmentKey(Department department) {
+        return EmployeeStat.DEPARTMENT + ":" + department.name();
+    }
+
+    private static String dayKey(LocalDateTime createdAt) {
+        return EmployeeStat.DAY + ":" + createdAt.toLocalDate();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.repository.InMemoryEmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Sequential counters of the in-memory storage engine, kept by InMemoryEmployeeRepository so they are
+ * snapshotted and recovered together with the employees.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.storage", havingValue = "in-memory")
+public class InMemoryCounterService extends CounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryCounterService.class);
+
+    private final InMemoryEmployeeRepository employeeRepository;
+
+    @Autowired
+    public InMemoryCounterService(InMemoryEmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    @Override
+    public int getNextSequence(String counterName) {
+        return employeeRepository.incrementCounter(counterName, 1);
+    }
+
+    @Override
+    public int reserveBlock(String counterName, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1");
+        }
+        int last = employeeRepository.incrementCounter(counterName, blockSize);
+        logger.info("Reserved sequence block for {}: {} - {}", counterName, last - blockSize + 1, last);
+        return last;
+    }
+}
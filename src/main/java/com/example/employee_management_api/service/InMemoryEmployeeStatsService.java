@@ -0,0 +1,95 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmployeeStatsDTO;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.model.EmployeeStat;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.util.APIResponse;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * EmployeeStatsService of the in-memory storage engine. The counters live in a sorted map under the same
+ * "type:key" ids as the statistics documents, so a day range is one range of keys. They are not snapshotted but
+ * rebuilt from the recovered employees at startup.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.storage", havingValue = "in-memory")
+public class InMemoryEmployeeStatsService extends EmployeeStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryEmployeeStatsService.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final ConcurrentSkipListMap<String, Long> counts = new ConcurrentSkipListMap<>();
+
+    @Autowired
+    public InMemoryEmployeeStatsService(EmployeeRepository employeeRepository) {
+        super(null);
+        this.employeeRepository = employeeRepository;
+    }
+
+    @PostConstruct
+    void loadCounts() {
+        rebuild();
+    }
+
+    @Override
+    protected void apply(Map<String, Long> deltas) {
+        deltas.forEach((id, delta) -> {
+            if (delta != 0) {
+                counts.merge(id, delta, Long::sum);
+            }
+        });
+    }
+
+    @Override
+    protected Map<String, Long> departmentCounts() {
+        String prefix = EmployeeStat.DEPARTMENT + ":";
+        return withoutType(counts.subMap(prefix, true, prefix + Character.MAX_VALUE, true));
+    }
+
+    @Override
+    protected Map<String, Long> dayCounts(LocalDate from, LocalDate to) {
+        // ISO dates sort like the days they name
+        return withoutType(counts.subMap(EmployeeStat.DAY + ":" + from, true, EmployeeStat.DAY + ":" + to, true));
+    }
+
+    private static Map<String, Long> withoutType(Map<String, Long> counters) {
+        Map<String, Long> result = new HashMap<>();
+        counters.forEach((id, count) -> result.put(id.substring(id.indexOf(':') + 1), count));
+        return result;
+    }
+
+    /**
+     * Recounts all employees. Counter updates made while it runs may be lost, as with the MongoDB rebuild.
+     */
+    @Override
+    public APIResponse<EmployeeStatsDTO> rebuildStats() {
+        logger.info("Rebuilding employee statistics");
+        rebuild();
+        logger.info("Rebuilt employee statistics");
+
+        APIResponse<EmployeeStatsDTO> stats = getStats(null, null, "day");
+        stats.setMessage("Employee statistics rebuilt successfully");
+        return stats;
+    }
+
+    private void rebuild() {
+        Map<String, Long> rebuilt = new HashMap<>();
+        try (Stream<Employee> employees = employeeRepository.streamEmployees(null, null, null)) {
+            employees.forEach(employee -> addDeltas(rebuilt, employee, 1));
+        }
+        counts.clear();
+        counts.putAll(rebuilt);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.model.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive service for managing sequential counters in MongoDB.
+ * Uses the same counter documents as CounterService, so both stacks can share one sequence.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveCounterService.class);
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Autowired
+    public ReactiveCounterService(ReactiveMongoTemplate reactiveMongoTemplate) {
+        this.reactiveMongoTemplate = reactiveMongoTemplate;
+    }
+
+    /**
+     * Reserves a contiguous block of sequence numbers for a given counter with a single increment.
+     * The caller owns every value in the range (emitted value - blockSize, emitted value].
+     *
+     * @param counterName The name of the counter to increment.
+     * @param blockSize   The number of sequence values to reserve.
+     * @return The last (highest) sequence number of the reserved block.
+     */
+    public Mono<Integer> reserveBlock(String counterName, int blockSize) {
+        if (blockSize < 1) {
+            return Mono.error(new IllegalArgumentException("Block size must be at least 1"));
+        }
+
+        Query query = Query.query(Criteria.where("id").is(counterName));
+        Update update = new Update().inc("sequence", blockSize);
+        FindAndModifyOptions options = FindAndModifyOptions.options().returnNew(true).upsert(true);
+
+        return reactiveMongoTemplate.findAndModify(query, update, options, Counter.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Counter document for " + counterName + " was not returned after upsert")))
+                .map(Counter::getSequence)
+                .doOnNext(last -> logger.info("Reserved sequence block for {}: {} - {}", counterName, last - blockSize + 1, last))
+                .onErrorMap(DataAccessException.class, e -> {
+                    logger.error("Database error while reserving sequence block for {}: {}", counterName, e.getMessage(), e);
+                    return new RuntimeException("Failed to reserve sequence block for counter: " + counterName, e);
+                });
+    }
+}
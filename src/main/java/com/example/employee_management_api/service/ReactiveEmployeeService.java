@@ -0,0 +1,256 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.exception.ConcurrentUpdateException;
+import com.example.employee_management_api.exception.DuplicateValueException;
+import com.example.employee_management_api.exception.ResourceNotFoundException;
+import com.example.employee_management_api.mapper.EmployeeMapper;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.ReactiveEmployeeRepository;
+import com.example.employee_management_api.util.APIResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive service class for managing employees.
+ * Mirrors the validation rules and responses of EmployeeService on top of the ReactiveEmployeeRepository,
+ * so no request thread is held while MongoDB is working.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeService {
+    private final ReactiveEmployeeRepository employeeRepository;
+    private final ReactiveSequenceBlockAllocator employeeIdAllocator;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeEmailFilter employeeEmailFilter;
+    private final EmployeeStatsService employeeStatsService;
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveEmployeeService.class);
+
+    @Autowired
+    public ReactiveEmployeeService(ReactiveEmployeeRepository employeeRepository, ReactiveSequenceBlockAllocator reactiveEmployeeIdAllocator,
+                                   EmployeeMapper employeeMapper, EmployeeEmailFilter employeeEmailFilter, EmployeeStatsService employeeStatsService) {
+        this.employeeRepository = employeeRepository;
+        this.employeeIdAllocator = reactiveEmployeeIdAllocator;
+        this.employeeMapper = employeeMapper;
+        this.employeeEmailFilter = employeeEmailFilter;
+        this.employeeStatsService = employeeStatsService;
+    }
+
+    /**
+     * Creates a new employee.
+     */
+    public Mono<APIResponse<EmployeeDTO>> createEmployee(EmployeeDTO employeeDTO) {
+        logger.debug("Attempting to create a new employee with email: {}", employeeDTO.getEmail());
+
+        String validationError = EmployeeService.validateNewEmployee(employeeDTO);
+        if (validationError != null) {
+            logger.error("Employee creation failed: {}", validationError);
+            return Mono.error(new IllegalArgumentException(validationError));
+        }
+
+        return emailExists(employeeDTO.getEmail())
+                .flatMap(emailExists -> {
+                    if (emailExists) {
+                        logger.error("Employee creation failed: Email {} already exists", employeeDTO.getEmail());
+                        return Mono.error(new DuplicateValueException("Employee email already exists"));
+                    }
+                    return employeeIdAllocator.next();
+                })
+                .flatMap(nextSequence -> {
+                    employeeDTO.setEmployeeId(String.format("EM%04d", nextSequence));
+                    Employee employeeToBeSaved = employeeMapper.toEntity(employeeDTO);
+                    employeeToBeSaved.setCreatedAt(LocalDateTime.now());
+                    return employeeRepository.save(employeeToBeSaved);
+                })
+                .doOnNext(savedEmployee -> employeeEmailFilter.put(savedEmployee.getEmail()))
+                .flatMap(savedEmployee -> updateStats(() -> employeeStatsService.recordCreated(savedEmployee)).thenReturn(savedEmployee))
+                .map(savedEmployee -> {
+                    logger.debug("New employee created with employeeId: {}", savedEmployee.getEmployeeId());
+                    return new APIResponse<>("Employee created successfully.", employeeMapper.toDto(savedEmployee), 201);
+                })
+                .onErrorMap(DuplicateKeyException.class, e -> {
+                    logger.error("Employee creation failed: Email {} already exists", employeeDTO.getEmail());
+                    employeeEmailFilter.put(employeeDTO.getEmail());
+                    return new DuplicateValueException("Employee email already exists");
+                })
+                .onErrorMap(DataAccessException.class, e -> {
+                    logger.error("Database error while creating employee with email {}: {}", employeeDTO.getEmail(), e.getMessage(), e);
+                    return new RuntimeException("Failed to create employee", e);
+                });
+    }
+
+    /**
+     * Update an existing employee.
+     */
+    public Mono<APIResponse<EmployeeDTO>> updateEmployee(String employeeId, EmployeeDTO updatedEmployeeDTO) {
+        logger.debug("Updating employee with ID: {}", employeeId);
+
+        return employeeRepository.findByEmployeeId(employeeId)
+                .flatMap(existingEmployee -> {
+                    Department previousDepartment = existingEmployee.getDepartment();
+                    return applyUpdate(existingEmployee, updatedEmployeeDTO)
+                            .flatMap(employeeRepository::save)
+                            .flatMap(savedEmployee -> updateStats(() -> employeeStatsService.recordDepartmentChanged(previousDepartment, savedEmployee.getDepartment()))
+                                    .thenReturn(savedEmployee));
+                })
+                .doOnNext(savedEmployee -> employeeEmailFilter.put(savedEmployee.getEmail()))
+                .map(savedEmployee -> {
+                    logger.debug("Successfully updated employee with ID: {}", employeeId);
+                    return new APIResponse<>("Employee details updated successfully.", employeeMapper.toDto(savedEmployee), 200);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> new APIResponse<>("No Employee found for the given id: " + employeeId, null, 404)))
+                .onErrorMap(DuplicateKeyException.class, e -> {
+                    logger.error("Employee update failed: Email {} already exists", updatedEmployeeDTO.getEmail());
+                    employeeEmailFilter.put(updatedEmployeeDTO.getEmail());
+                    return new DuplicateValueException("Employee email already exists");
+                })
+                .onErrorMap(OptimisticLockingFailureException.class, e -> {
+                    logger.error("Employee update failed: employee with ID {} was modified concurrently", employeeId);
+                    return new ConcurrentUpdateException("Employee was modified by another request. Please retry.");
+                })
+                .onErrorMap(DataAccessException.class, e -> {
+                    logger.error("Database error while updating employee with ID: {}", employeeId, e);
+                    return new DataAccessResourceFailureException("Failed to update employee. Please try again later.");
+                });
+    }
+
+    /**
+     * Delete an existing employee.
+     */
+    public Mono<APIResponse<EmployeeDTO>> deleteEmployee(String id) {
+        logger.debug("Deleting employee with ID: {}", id);
+
+        return employeeRepository.findByEmployeeId(id)
+                .flatMap(existingEmployee -> employeeRepository.delete(existingEmployee)
+                        .then(updateStats(() -> employeeStatsService.recordDeleted(existingEmployee)))
+                        .then(Mono.fromSupplier(() -> {
+                            logger.debug("Successfully deleted employee with ID: {}", id);
+                            return new APIResponse<>("Employee details deleted successfully.", employeeMapper.toDto(existingEmployee), 200);
+                        })))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    logger.error("Employee not found with ID: {}", id);
+                    return new APIResponse<>("Employee not found. Unable to delete.", null, 404);
+                }))
+                .onErrorMap(DataAccessException.class, e -> {
+                    logger.error("Database error while deleting employee with ID: {}", id, e);
+                    return new DataAccessResourceFailureException("Database error occurred while deleting employee.");
+                });
+    }
+
+    /**
+     * Get an existing employee by mongoDB ID, or a 404 response when it does not exist.
+     */
+    public Mono<APIResponse<EmployeeDTO>> getEmployeeById(String id) {
+        logger.debug("Getting employee details for the _id: {}", id);
+        return employeeRepository.findById(id)
+                .map(employee -> new APIResponse<>("Employee details retrieved successfully", employeeMapper.toDto(employee), 200))
+                .switchIfEmpty(Mono.fromSupplier(() -> new APIResponse<>("No Employee found for the given _id: " + id, null, 404)));
+    }
+
+    /**
+     * Get an existing employee by employee ID, or a 404 response when it does not exist.
+     */
+    public Mono<APIResponse<EmployeeDTO>> getEmployeeByEmployeeId(String employeeId) {
+        logger.debug("Getting employee details for the employee id: {}", employeeId);
+        return employeeRepository.findByEmployeeId(employeeId)
+                .map(employee -> new APIResponse<>("Employee details retrieved successfully", employeeMapper.toDto(employee), 200))
+                .switchIfEmpty(Mono.fromSupplier(() -> new APIResponse<>("No Employee found for the given id: " + employeeId, null, 404)));
+    }
+
+    /**
+     * Get all employees.
+     * The data is emitted as documents arrive from the cursor; an empty page fails with ResourceNotFoundException
+     * before anything is emitted, so it can still be answered with a 404.
+     */
+    public APIResponse<Flux<EmployeeDTO>> getAllEmployees(Pageable pageable) {
+        logger.debug("Fetching all employees from the database");
+        Flux<EmployeeDTO> employees = employeeRepository.findAllBy(pageable)
+                .map(employeeMapper::toDto)
+                .switchIfEmpty(Flux.error(() -> new ResourceNotFoundException("No employees found in the database")))
+                .onErrorMap(DataAccessException.class, e -> {
+                    logger.error("Database error while fetching employees.", e);
+                    return new RuntimeException("Database error occurred while retrieving employees. Please try again later.");
+                });
+        return new APIResponse<>("Employees retrieved successfully.", employees, 200);
+    }
+
+    /**
+     * Get all employees by name or department, ranked like EmployeeService.getAllEmployeesByFullNameOrDepartment.
+     */
+    public APIResponse<Flux<EmployeeDTO>> getAllEmployeesByFullNameOrDepartment(String fullName, String department, Pageable pageable) {
+        logger.debug("Fetching all employees from the database matches name or department");
+        SearchQuery searchQuery = SearchQuery.parse(fullName, department);
+
+        Flux<EmployeeDTO> employees = employeeRepository.searchByNameTokensOrDepartment(searchQuery.nameTokens(), searchQuery.department(), pageable)
+                .map(employeeMapper::toDto)
+                .switchIfEmpty(Flux.error(() -> new ResourceNotFoundException("No employees found in the database")))
+                .onErrorMap(DataAccessException.class, e -> {
+                    logger.error("Database error while fetching employees.", e);
+                    return new RuntimeException("Database error occurred while retrieving employees. Please try again later.");
+                });
+        return new APIResponse<>("Retrieved employees successfully", employees, 200);
+    }
+
+    private Mono<Employee> applyUpdate(Employee existingEmployee, EmployeeDTO updatedEmployeeDTO) {
+        if (updatedEmployeeDTO.getFullName() != null) {
+            existingEmployee.setFullName(updatedEmployeeDTO.getFullName());
+        }
+        if (updatedEmployeeDTO.getDepartment() != null) {
+            existingEmployee.setDepartment(updatedEmployeeDTO.getDepartment());
+        }
+        if (updatedEmployeeDTO.getEmail() == null) {
+            return Mono.just(existingEmployee);
+        }
+
+        return emailExists(updatedEmployeeDTO.getEmail())
+                .flatMap(emailExists -> {
+                    if (emailExists) {
+                        logger.error("Employee update failed: Email {} already exists", updatedEmployeeDTO.getEmail());
+                        return Mono.error(new DuplicateValueException("Employee email already exists"));
+                    }
+                    if (!EmployeeService.EMAIL_PATTERN.matcher(updatedEmployeeDTO.getEmail()).matches()) {
+                        logger.error("Employee update failed: invalid email");
+                        return Mono.error(new IllegalArgumentException("Invalid email format: " + updatedEmployeeDTO.getEmail()));
+                    }
+                    existingEmployee.setEmail(updatedEmployeeDTO.getEmail());
+                    return Mono.just(existingEmployee);
+                });
+    }
+
+    /**
+     * EmployeeStatsService writes through the blocking MongoTemplate, so counter updates run off the event loop.
+     */
+    private static Mono<Void> updateStats(Runnable update) {
+        return Mono.fromRunnable(update).subscribeOn(Schedulers.boundedElastic()).then();
+    }
+
+    /**
+     * Looks the email up only when the email filter reports it as possibly taken, like EmployeeService.
+     */
+    private Mono<Boolean> emailExists(String email) {
+        if (!employeeEmailFilter.mightContain(email)) {
+            return Mono.just(false);
+        }
+        return employeeRepository.findEmployeeByEmail(email)
+                .hasElement()
+                .doOnNext(exists -> {
+                    if (!exists) {
+                        employeeEmailFilter.recordFalsePositives(1);
+                    }
+                });
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.employee_management_api.service;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Non-blocking variant of SequenceBlockAllocator backed by the ReactiveCounterService.
+ * <p>
+ * Values are handed out from the current block without touching MongoDB. When the block is exhausted,
+ * concurrent callers subscribe to one shared refill instead of each reserving a block, and nobody
+ * blocks an event-loop thread while it is in flight.
+ * </p>
+ */
+public class ReactiveSequenceBlockAllocator {
+
+    private final ReactiveCounterService counterService;
+    private final String counterName;
+    private final int blockSize;
+
+    private final AtomicReference<Mono<Block>> pendingRefill = new AtomicReference<>();
+    private volatile Block currentBlock = new Block(0, -1);
+
+    public ReactiveSequenceBlockAllocator(ReactiveCounterService counterService, String counterName, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1");
+        }
+        this.counterService = counterService;
+        this.counterName = counterName;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Emits the next sequence value, refilling the local block only when it is exhausted.
+     */
+    public Mono<Integer> next() {
+        Block block = currentBlock;
+        int value = block.cursor.getAndIncrement();
+        if (value <= block.last) {
+            return Mono.just(value);
+        }
+        return refill(block).then(Mono.defer(this::next));
+    }
+
+    private Mono<Block> refill(Block exhausted) {
+        while (true) {
+            Mono<Block> pending = pendingRefill.get();
+            if (pending != null) {
+                return pending;
+            }
+            if (currentBlock != exhausted) {
+                // Another caller already swapped in a fresh block
+                return Mono.just(currentBlock);
+            }
+
+            AtomicReference<Mono<Block>> self = new AtomicReference<>();
+            Mono<Block> refill = counterService.reserveBlock(counterName, blockSize)
+                    .map(last -> new Block(last - blockSize + 1, last))
+                    .doOnNext(block -> currentBlock = block)
+                    .doFinally(signal -> pendingRefill.compareAndSet(self.get(), null))
+                    .cache();
+            self.set(refill);
+            if (pendingRefill.compareAndSet(null, refill)) {
+                return refill;
+            }
+        }
+    }
+
+    private static final class Block {
+        final AtomicInteger cursor;
+        final int last;
+
+        Block(int first, int last) {
+            this.cursor = new AtomicInteger(first);
+            this.last = last;
+        }
+    }
+}
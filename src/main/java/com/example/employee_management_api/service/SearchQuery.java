@@ -0,0 +1,38 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.util.SearchTokens;
+
+import java.util.List;
+
+/**
+ * Normalized search input: fullName split into search tokens and department resolved to the enum.
+ */
+record SearchQuery(List<String> nameTokens, Department department) {
+
+    static SearchQuery parse(String fullName, String department) {
+        Department departmentQuery = Department.parse(department);
+
+        List<String> nameTokens = SearchTokens.tokenize(fullName);
+        if (nameTokens.isEmpty() && departmentQuery == null) {
+            throw new IllegalArgumentException("Either fullName or department is required for search");
+        }
+        return new SearchQuery(nameTokens, departmentQuery);
+    }
+
+    /**
+     * Whether the search finds the employee: each name token starts one of the employee's name tokens,
+     * or the employee belongs to the department.
+     */
+    boolean matches(Employee employee) {
+        if (department != null && department == employee.getDepartment()) {
+            return true;
+        }
+        if (nameTokens.isEmpty()) {
+            return false;
+        }
+        List<String> employeeTokens = SearchTokens.tokenize(employee.getFullName());
+        return nameTokens.stream().allMatch(token -> employeeTokens.stream().anyMatch(employeeToken -> employeeToken.startsWith(token)));
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.employee_management_api.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hi/lo style sequence allocator backed by the CounterService.
+ * <p>
+ * Reserves a block of sequence values with a single increment on the counter document
+ * and hands them out from an in-process atomic counter. The next block is fetched in the
+ * background once the current block drops to the prefetch threshold, so callers normally
+ * never wait on MongoDB. Values are unique across nodes sharing the same counter, but are
+ * not strictly ordered between nodes and unused values are skipped on restart.
+ * </p>
+ */
+public class SequenceBlockAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SequenceBlockAllocator.class);
+
+    private final CounterService counterService;
+    private final String counterName;
+    private final int blockSize;
+    private final int prefetchThreshold;
+    private final Executor prefetchExecutor;
+
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private final AtomicReference<CompletableFuture<Block>> prefetchedBlock = new AtomicReference<>();
+    private volatile Block currentBlock = new Block(0, -1);
+
+    // Refill statistics, read by the metrics binder
+    private final LongAdder refillWaits = new LongAdder();
+    private final LongAdder refillWaitNanos = new LongAdder();
+    private final LongAdder contendedRefills = new LongAdder();
+    private final LongAdder prefetchedBlocks = new LongAdder();
+    private final LongAdder fetchedBlocks = new LongAdder();
+
+    public SequenceBlockAllocator(CounterService counterService, String counterName, int blockSize, int prefetchThreshold, Executor prefetchExecutor) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be at least 1");
+        }
+        this.counterService = counterService;
+        this.counterName = counterName;
+        this.blockSize = blockSize;
+        this.prefetchThreshold = Math.max(0, Math.min(prefetchThreshold, blockSize - 1));
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * Returns the next sequence value, refilling the local block only when it is exhausted.
+     * A prefetch threshold of 0 disables background prefetching.
+     */
+    public int next() {
+        while (true) {
+            Block block = currentBlock;
+            int value = block.cursor.getAndIncrement();
+            if (value <= block.last) {
+                // Exactly one caller sees this value, so at most one prefetch is triggered per block
+                if (prefetchThreshold > 0 && block.last - value == prefetchThreshold) {
+                    prefetch();
+                }
+                return value;
+            }
+            refill(block);
+        }
+    }
+
+    /**
+     * Reserves a contiguous range of sequence values straight from the counter with one increment,
+     * bypassing the local block. Used by bulk inserts that need many IDs at once.
+     *
+     * @param count number of values to reserve
+     * @return the first value of the reserved range
+     */
+    public int reserveRange(int count) {
+        return counterService.reserveBlock(counterName, count) - count + 1;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public String getCounterName() {
+        return counterName;
+    }
+
+    /**
+     * Number of next() calls that found the block exhausted and waited for a refill.
+     */
+    public long getRefillWaitCount() {
+        return refillWaits.sum();
+    }
+
+    /**
+     * Total time next() callers spent waiting for refills, including waits for the refill lock.
+     */
+    public long getRefillWaitNanos() {
+        return refillWaitNanos.sum();
+    }
+
+    /**
+     * Number of refill waits that found another thread holding the refill lock.
+     */
+    public long getContendedRefillCount() {
+        return contendedRefills.sum();
+    }
+
+    /**
+     * Number of blocks swapped in from a completed background prefetch.
+     */
+    public long getPrefetchedBlockCount() {
+        return prefetchedBlocks.sum();
+    }
+
+    /**
+     * Number of blocks fetched synchronously by a waiting caller.
+     */
+    public long getFetchedBlockCount() {
+        return fetchedBlocks.sum();
+    }
+
+    private void refill(Block exhausted) {
+        long start = System.nanoTime();
+        if (!refillLock.tryLock()) {
+            contendedRefills.increment();
+            refillLock.lock();
+        }
+        try {
+            if (currentBlock != exhausted) {
+                // Another thread already swapped in a fresh block
+                return;
+            }
+            currentBlock = takePrefetchedOrFetch();
+        } finally {
+            refillLock.unlock();
+            refillWaits.increment();
+            refillWaitNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private Block takePrefetchedOrFetch() {
+        CompletableFuture<Block> pending = prefetchedBlock.getAndSet(null);
+        if (pending != null) {
+            try {
+                Block block = pending.join();
+                prefetchedBlocks.increment();
+                return block;
+            } catch (RuntimeException e) {
+                logger.warn("Background prefetch of sequence block for {} failed, fetching synchronously", counterName, e);
+            }
+        }
+        fetchedBlocks.increment();
+        return fetchBlock();
+    }
+
+    private void prefetch() {
+        CompletableFuture<Block> future = new CompletableFuture<>();
+        if (!prefetchedBlock.compareAndSet(null, future)) {
+            return;
+        }
+        try {
+            prefetchExecutor.execute(() -> {
+                try {
+                    future.complete(fetchBlock());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RuntimeException e) {
+            // Executor rejected the task; the next refill will fetch synchronously
+            prefetchedBlock.compareAndSet(future, null);
+        }
+    }
+
+    private Block fetchBlock() {
+        int last = counterService.reserveBlock(counterName, blockSize);
+        return new Block(last - blockSize + 1, last);
+    }
+
+    private static final class Block {
+        final AtomicInteger cursor;
+        final int last;
+
+        Block(int first, int last) {
+            this.cursor = new AtomicInteger(first);
+            this.last = last;
+        }
+    }
+}
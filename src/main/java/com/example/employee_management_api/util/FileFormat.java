@@ -0,0 +1,40 @@
+package com.example.employee_management_api.util;
+
+import java.util.Locale;
+
+/**
+ * File formats supported by the employee export and import endpoints.
+ */
+public enum FileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    FileFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Resolves a format name case-insensitively.
+     *
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static FileFormat parse(String format) {
+        try {
+            return FileFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported format: " + format + ". Use ndjson or csv");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.employee_management_api.util;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination.
+ * Holds the sort key, its direction and the (sort value, _id) pair of the last returned document.
+ * A first-page cursor has no last value and no last _id.
+ *
+ * @param sortField  the entity property used as the sort key ("id" for _id only)
+ * @param direction  the sort direction
+ * @param lastValue  the sort key value of the last returned document, null on the first page or for "id"
+ * @param lastId     the _id of the last returned document, null on the first page
+ */
+public record PageCursor(String sortField, Sort.Direction direction, String lastValue, String lastId) {
+
+    private static final char SEPARATOR = '\u001F';
+
+    public boolean isFirstPage() {
+        return lastId == null;
+    }
+
+    public PageCursor next(String value, String id) {
+        return new PageCursor(sortField, direction, value, id);
+    }
+
+    /**
+     * The last value as a date-time, for date-time sort keys.
+     *
+     * @return the value, or null if the last document had none
+     * @throws IllegalArgumentException if the value is not an ISO-8601 local date-time
+     */
+    public LocalDateTime lastDateTime() {
+        if (lastValue == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(lastValue);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor value: " + lastValue);
+        }
+    }
+
+    /**
+     * Encodes the cursor as a URL-safe token.
+     */
+    public String encode() {
+        String raw = sortField + SEPARATOR + direction.name() + SEPARATOR
+                + (lastValue == null ? "" : lastValue) + SEPARATOR + (lastId == null ? "" : lastId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(String.valueOf(SEPARATOR), -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PageCursor(parts[0], Sort.Direction.valueOf(parts[1]),
+                    parts[2].isEmpty() ? null : parts[2], parts[3].isEmpty() ? null : parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
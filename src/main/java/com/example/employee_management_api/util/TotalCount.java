@@ -0,0 +1,29 @@
+package com.example.employee_management_api.util;
+
+import java.util.Locale;
+
+/**
+ * How the total number of results of a list or search page is computed, when it is requested.
+ */
+public enum TotalCount {
+    /** Counted for the request with countDocuments. */
+    EXACT,
+    /** Estimated from the collection metadata, or read from a short-lived count cache for searches. */
+    APPROXIMATE;
+
+    /**
+     * Resolves a total count mode case-insensitively; null or blank means no total.
+     *
+     * @throws IllegalArgumentException if the mode is not supported
+     */
+    public static TotalCount parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return TotalCount.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported total: " + value + ". Use exact or approximate");
+        }
+    }
+}
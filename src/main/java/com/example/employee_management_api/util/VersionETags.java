@@ -0,0 +1,47 @@
+package com.example.employee_management_api.util;
+
+/**
+ * Converts document versions to and from strong entity tags ("3"),
+ * and builds weak entity tags for queries over collection states (W/"18f2a3c4b00-42-5e1f0a2c").
+ */
+public final class VersionETags {
+
+    private VersionETags() {
+    }
+
+    public static String format(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Weak tag of a query over a collection state, from the latest modification time, the document count and a
+     * hash of the query.
+     */
+    public static String formatWeak(long lastModifiedMillis, long count, String query) {
+        return "W/\"" + Long.toHexString(lastModifiedMillis) + "-" + count + "-" + Integer.toHexString(query.hashCode()) + "\"";
+    }
+
+    /**
+     * Parses an If-Match header value holding a single version tag.
+     * Quotes and a weak W/ prefix are accepted.
+     *
+     * @return the version, or null if the header is absent or "*" (any version)
+     * @throws NumberFormatException if the tag is not a version
+     */
+    public static Long parse(String headerValue) {
+        if (headerValue == null) {
+            return null;
+        }
+        String tag = headerValue.trim();
+        if (tag.isEmpty() || tag.equals("*")) {
+            return null;
+        }
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        return Long.parseLong(tag);
+    }
+}
@@ -1,11 +1,35 @@
 package com.example.employee_management_api;
 
+import com.example.employee_management_api.config.EmployeeEmailFilterLoader;
+import com.example.employee_management_api.config.EmployeeSearchTokensBackfill;
+import com.example.employee_management_api.config.EmployeeStatsLoader;
+import com.example.employee_management_api.config.EmployeeVersionBackfill;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
-@SpringBootTest
+/**
+ * Starts the default (MongoDB) context without a MongoDB server: the MongoDB client only connects on first use,
+ * so everything that would use it during startup is switched off or replaced here.
+ */
+@SpringBootTest(properties = {
+		"spring.data.mongodb.auto-index-creation=false",
+		"employee.changes.log-max-events=0"
+})
 class EmployeeManagementApiApplicationTests {
 
+	@MockitoBean
+	private EmployeeVersionBackfill employeeVersionBackfill;
+
+	@MockitoBean
+	private EmployeeSearchTokensBackfill employeeSearchTokensBackfill;
+
+	@MockitoBean
+	private EmployeeEmailFilterLoader employeeEmailFilterLoader;
+
+	@MockitoBean
+	private EmployeeStatsLoader employeeStatsLoader;
+
 	@Test
 	void contextLoads() {
 	}
@@ -0,0 +1,151 @@
+package com.example.employee_management_api;
+
+import com.example.employee_management_api.config.EmployeeEmailFilterLoader;
+import com.example.employee_management_api.config.EmployeeSearchTokensBackfill;
+import com.example.employee_management_api.config.EmployeeStatsLoader;
+import com.example.employee_management_api.config.EmployeeVersionBackfill;
+import com.example.employee_management_api.service.CounterService;
+import com.example.employee_management_api.service.SequenceBlockAllocator;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.connection.ConnectionPoolSettings;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.catalina.connector.Connector;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the virtual-threads profile on a random port, without a MongoDB server as in EmployeeManagementApiApplicationTests,
+ * and checks that its work actually runs on virtual threads and that the ID allocator does not pin them.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.data.mongodb.auto-index-creation=false",
+		"employee.changes.log-max-events=0"
+})
+@ActiveProfiles("virtual-threads")
+class VirtualThreadsProfileTests {
+
+	@MockitoBean
+	private EmployeeVersionBackfill employeeVersionBackfill;
+
+	@MockitoBean
+	private EmployeeSearchTokensBackfill employeeSearchTokensBackfill;
+
+	@MockitoBean
+	private EmployeeEmailFilterLoader employeeEmailFilterLoader;
+
+	@MockitoBean
+	private EmployeeStatsLoader employeeStatsLoader;
+
+	@Autowired
+	private ServletWebServerApplicationContext context;
+
+	@Autowired
+	@Qualifier("applicationTaskExecutor")
+	private AsyncTaskExecutor applicationTaskExecutor;
+
+	@Autowired
+	private List<MongoClientSettingsBuilderCustomizer> mongoClientCustomizers;
+
+	@Test
+	void requestsAndTasksRunOnVirtualThreads() throws Exception {
+		Connector connector = ((TomcatWebServer) context.getWebServer()).getTomcat().getConnector();
+
+		assertInstanceOf(VirtualThreadExecutor.class, connector.getProtocolHandler().getExecutor());
+		assertTrue(applicationTaskExecutor.submitCompletable(() -> Thread.currentThread().isVirtual()).get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void mongoPoolIsRaisedForUnboundedRequestConcurrency() {
+		MongoClientSettings.Builder builder = MongoClientSettings.builder();
+		mongoClientCustomizers.forEach(customizer -> customizer.customize(builder));
+
+		ConnectionPoolSettings pool = builder.build().getConnectionPoolSettings();
+		assertEquals(500, pool.getMaxSize());
+		assertEquals(10, pool.getMaxConnecting());
+	}
+
+	/**
+	 * Many virtual threads wait for blocks from a slow counter, as they would for the counter document in MongoDB.
+	 * The refill lock is a ReentrantLock, so waiting for it or for the counter while holding it unmounts the thread.
+	 */
+	@Test
+	void allocatorRefillsDoNotPinVirtualThreads() throws Exception {
+		SequenceBlockAllocator allocator = new SequenceBlockAllocator(new SlowCounterService(), "employeeId", 10, 3, applicationTaskExecutor);
+		Set<Integer> ids = ConcurrentHashMap.newKeySet();
+		Path events = Files.createTempFile("virtual-thread-pinning", ".jfr");
+
+		try (Recording recording = new Recording();
+		     ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+			recording.start();
+
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				futures.add(workers.submit(() -> {
+					for (int j = 0; j < 10; j++) {
+						ids.add(allocator.next());
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+
+			recording.stop();
+			recording.dump(events);
+		}
+
+		List<RecordedEvent> pinned = RecordingFile.readAllEvents(events);
+		Files.delete(events);
+		assertEquals(2_000, ids.size());
+		assertEquals(List.of(), pinned.stream()
+				.filter(event -> event.getEventType().getName().equals("jdk.VirtualThreadPinned"))
+				.map(event -> String.valueOf(event.getStackTrace()))
+				.toList());
+	}
+
+	/**
+	 * Counter that blocks for a few milliseconds per reservation, like a round trip to the counters collection.
+	 */
+	private static class SlowCounterService extends CounterService {
+		private final AtomicInteger sequence = new AtomicInteger();
+
+		@Override
+		public int reserveBlock(String counterName, int blockSize) {
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return sequence.addAndGet(blockSize);
+		}
+	}
+}
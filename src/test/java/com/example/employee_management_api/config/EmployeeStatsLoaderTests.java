@@ -0,0 +1,50 @@
+package com.example.employee_management_api.config;
+
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.model.EmployeeStat;
+import com.example.employee_management_api.service.EmployeeStatsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeStatsLoaderTests {
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+	private final EmployeeStatsService statsService = mock(EmployeeStatsService.class);
+	private final EmployeeStatsLoader loader = new EmployeeStatsLoader(mongoTemplate, statsService);
+
+	@Test
+	void statisticsAreBuiltWhenEmployeesExistWithoutThem() {
+		when(mongoTemplate.estimatedCount(EmployeeStat.class)).thenReturn(0L);
+		when(mongoTemplate.estimatedCount(Employee.class)).thenReturn(3L);
+
+		loader.run(new DefaultApplicationArguments());
+
+		verify(statsService).rebuildStats();
+	}
+
+	@Test
+	void existingStatisticsAreKept() {
+		when(mongoTemplate.estimatedCount(EmployeeStat.class)).thenReturn(7L);
+		when(mongoTemplate.estimatedCount(Employee.class)).thenReturn(3L);
+
+		loader.run(new DefaultApplicationArguments());
+
+		verify(statsService, never()).rebuildStats();
+	}
+
+	@Test
+	void emptyDatabaseNeedsNoStatistics() {
+		when(mongoTemplate.estimatedCount(EmployeeStat.class)).thenReturn(0L);
+		when(mongoTemplate.estimatedCount(Employee.class)).thenReturn(0L);
+
+		loader.run(new DefaultApplicationArguments());
+
+		verify(statsService, never()).rebuildStats();
+	}
+}
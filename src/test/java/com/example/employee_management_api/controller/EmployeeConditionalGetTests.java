@@ -0,0 +1,139 @@
+package com.example.employee_management_api.controller;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.service.EmployeeChangeFeed;
+import com.example.employee_management_api.service.EmployeeExportService;
+import com.example.employee_management_api.service.EmployeeImportService;
+import com.example.employee_management_api.service.EmployeeService;
+import com.example.employee_management_api.service.EmployeeStatsService;
+import com.example.employee_management_api.util.APIResponse;
+import com.example.employee_management_api.util.VersionETags;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EmployeeConditionalGetTests {
+
+	private static final LocalDateTime LAST_MODIFIED = LocalDateTime.of(2026, 10, 17, 9, 30, 15);
+
+	private final EmployeeService employeeService = mock(EmployeeService.class);
+	private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new EmployeeController(employeeService, mock(EmployeeExportService.class),
+					mock(EmployeeImportService.class), mock(EmployeeStatsService.class), mock(EmployeeChangeFeed.class), new ObjectMapper()))
+			.setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+			.build();
+
+	@BeforeEach
+	void stubReads() {
+		EmployeeDTO employee = new EmployeeDTO("EM0001", "Jane Doe", "jane@example.com", Department.HR);
+		employee.setVersion(3L);
+		employee.setLastModifiedAt(LAST_MODIFIED);
+		when(employeeService.getEmployeeById("id-1")).thenReturn(new APIResponse<>("Employee found", employee, 200));
+		when(employeeService.getAllEmployees(any(Pageable.class))).thenReturn(new APIResponse<>("Employees found", List.of(employee), 200));
+		// The collection is unchanged, so the tag only depends on the query
+		when(employeeService.getEmployeesETag(anyString())).thenAnswer(invocation -> VersionETags.formatWeak(1_000, 42, invocation.getArgument(0)));
+	}
+
+	@Test
+	void pageWithoutIfNoneMatchIsReadWithoutTheCollectionTag() throws Exception {
+		mockMvc.perform(get("/api/employees").param("page", "0").param("size", "20"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.ETAG))
+				.andExpect(jsonPath("$.data[0].employeeId").value("EM0001"));
+
+		verify(employeeService, never()).getEmployeesETag(anyString());
+	}
+
+	@Test
+	void pageWithAStaleTagIsReadAndTaggedWithTheCurrentOne() throws Exception {
+		String currentTag = VersionETags.formatWeak(1_000, 42, EmployeeController.queryKey(Map.of(
+				"page", new String[]{"0"}, "size", new String[]{"20"})));
+
+		mockMvc.perform(get("/api/employees").param("page", "0").param("size", "20").header(HttpHeaders.IF_NONE_MATCH, "W/\"0\""))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, currentTag))
+				.andExpect(jsonPath("$.data[0].employeeId").value("EM0001"));
+	}
+
+	@Test
+	void pageWithTheCurrentTagIsNotModifiedAndNotRead() throws Exception {
+		String etag = mockMvc.perform(get("/api/employees?size=20&page=0").header(HttpHeaders.IF_NONE_MATCH, "W/\"0\""))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// Same parameters in another order
+		mockMvc.perform(get("/api/employees?page=0&size=20").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+
+		verify(employeeService, times(1)).getAllEmployees(any(Pageable.class));
+	}
+
+	@Test
+	void tagOfOnePageDoesNotMatchAnother() throws Exception {
+		String etag = mockMvc.perform(get("/api/employees?page=0&size=20").header(HttpHeaders.IF_NONE_MATCH, "W/\"0\""))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/api/employees?page=1&size=20").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data[0].employeeId").value("EM0001"));
+	}
+
+	@Test
+	void employeeCarriesItsVersionAndLastModifiedAndIsNotModifiedWhileTheyMatch() throws Exception {
+		String lastModified = DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified());
+
+		mockMvc.perform(get("/api/employees/id-1"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+				.andExpect(header().string(HttpHeaders.LAST_MODIFIED, lastModified));
+
+		mockMvc.perform(get("/api/employees/id-1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+		mockMvc.perform(get("/api/employees/id-1").header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.version").value(3));
+	}
+
+	@Test
+	void employeeIsNotModifiedSinceItsLastModification() throws Exception {
+		ZonedDateTime lastModified = lastModified();
+
+		mockMvc.perform(get("/api/employees/id-1")
+						.header(HttpHeaders.IF_MODIFIED_SINCE, DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified)))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get("/api/employees/id-1")
+						.header(HttpHeaders.IF_MODIFIED_SINCE, DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified.minusMinutes(1))))
+				.andExpect(status().isOk());
+	}
+
+	private static ZonedDateTime lastModified() {
+		return LAST_MODIFIED.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC);
+	}
+}
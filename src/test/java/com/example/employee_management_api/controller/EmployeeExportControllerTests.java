@@ -0,0 +1,100 @@
+package com.example.employee_management_api.controller;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.service.EmployeeChangeFeed;
+import com.example.employee_management_api.service.EmployeeExportService;
+import com.example.employee_management_api.service.EmployeeImportService;
+import com.example.employee_management_api.service.EmployeeService;
+import com.example.employee_management_api.service.EmployeeStatsService;
+import com.example.employee_management_api.util.FileFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EmployeeExportControllerTests {
+
+	private static final String NDJSON = "{\"employeeId\":\"EM0001\"}\n{\"employeeId\":\"EM0002\"}\n";
+
+	private final EmployeeExportService exportService = mock(EmployeeExportService.class);
+	private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new EmployeeController(mock(EmployeeService.class), exportService,
+					mock(EmployeeImportService.class), mock(EmployeeStatsService.class), mock(EmployeeChangeFeed.class), new ObjectMapper()))
+			.build();
+
+	@BeforeEach
+	void writeTwoEmployees() throws IOException {
+		when(exportService.exportEmployees(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+			invocation.<OutputStream>getArgument(4).write(NDJSON.getBytes(StandardCharsets.UTF_8));
+			return 2L;
+		});
+	}
+
+	@Test
+	void exportIsStreamedUncompressedByDefault() throws Exception {
+		mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/employees/export"))
+						.andExpect(request().asyncStarted())
+						.andReturn()))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(content().string(NDJSON));
+
+		verify(exportService).exportEmployees(eq(FileFormat.NDJSON), isNull(), isNull(), isNull(), any());
+	}
+
+	@Test
+	void gzipExportIsCompressedAndLabelledAsSuch() throws Exception {
+		MvcResult result = mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/employees/export").param("gzip", "true"))
+						.andExpect(request().asyncStarted())
+						.andReturn()))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andReturn();
+
+		try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+			assertEquals(NDJSON, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	void csvExportPassesTheFiltersAndNamesTheFile() throws Exception {
+		mockMvc.perform(asyncDispatch(mockMvc.perform(get("/api/employees/export")
+								.param("format", "CSV")
+								.param("department", "sales")
+								.param("createdFrom", "2024-03-01")
+								.param("createdTo", "2024-03-31"))
+						.andExpect(request().asyncStarted())
+						.andReturn()))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv"))
+				.andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.csv\""))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+
+		verify(exportService).exportEmployees(eq(FileFormat.CSV), eq(Department.SALES), eq(LocalDate.of(2024, 3, 1)),
+				eq(LocalDate.of(2024, 3, 31)), any());
+	}
+}
@@ -0,0 +1,162 @@
+package com.example.employee_management_api.controller;
+
+import com.example.employee_management_api.config.EmployeeEmailFilterLoader;
+import com.example.employee_management_api.config.EmployeeSearchTokensBackfill;
+import com.example.employee_management_api.config.EmployeeStatsLoader;
+import com.example.employee_management_api.config.EmployeeVersionBackfill;
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.exception.ResourceNotFoundException;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.service.EmployeeChangeFeed;
+import com.example.employee_management_api.service.EmployeeExportService;
+import com.example.employee_management_api.service.EmployeeImportService;
+import com.example.employee_management_api.service.EmployeeService;
+import com.example.employee_management_api.service.EmployeeStatsService;
+import com.example.employee_management_api.service.ReactiveEmployeeService;
+import com.example.employee_management_api.util.APIResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.json.JsonCompareMode;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Runs the reactive profile on Netty, without a MongoDB server, and checks that ReactiveEmployeeController answers
+ * with the same statuses, headers and JSON documents as EmployeeController does for the same service results.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.data.mongodb.auto-index-creation=false",
+		"employee.changes.log-max-events=0"
+})
+@ActiveProfiles("reactive")
+class ReactiveEmployeeControllerTests {
+
+	@MockitoBean
+	private EmployeeVersionBackfill employeeVersionBackfill;
+
+	@MockitoBean
+	private EmployeeSearchTokensBackfill employeeSearchTokensBackfill;
+
+	@MockitoBean
+	private EmployeeEmailFilterLoader employeeEmailFilterLoader;
+
+	@MockitoBean
+	private EmployeeStatsLoader employeeStatsLoader;
+
+	@MockitoBean
+	private ReactiveEmployeeService reactiveEmployeeService;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final EmployeeService employeeService = mock(EmployeeService.class);
+
+	@Test
+	void streamedPageIsTheSameDocumentAsTheServletPage() throws Exception {
+		List<EmployeeDTO> employees = List.of(employee("EM0001", "Jane Doe"), employee("EM0002", "Jane \"JR\" Roe"));
+		when(reactiveEmployeeService.getAllEmployees(any(Pageable.class)))
+				.thenReturn(new APIResponse<>("Employees retrieved successfully.", Flux.fromIterable(employees), 200));
+		when(employeeService.getAllEmployees(any(Pageable.class)))
+				.thenReturn(new APIResponse<>("Employees retrieved successfully.", employees, 200));
+
+		webTestClient.get().uri("/api/employees?page=0&size=2")
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+				.expectBody().json(servletBody("/api/employees?page=0&size=2"), JsonCompareMode.STRICT);
+	}
+
+	@Test
+	void emptyPageIsTheSameNotFoundDocumentAsTheServletPage() throws Exception {
+		when(reactiveEmployeeService.getAllEmployeesByFullNameOrDepartment(any(), any(), any(Pageable.class)))
+				.thenReturn(new APIResponse<>("Retrieved employees successfully",
+						Flux.error(new ResourceNotFoundException("No employees found in the database")), 200));
+		when(employeeService.getAllEmployeesByFullNameOrDepartment(any(), any(), any(Pageable.class)))
+				.thenReturn(new APIResponse<>("No employees found in the database", null, 404));
+
+		webTestClient.get().uri("/api/employees/search?fullName=nobody")
+				.exchange()
+				.expectStatus().isNotFound()
+				.expectBody().json(servletBody("/api/employees/search?fullName=nobody"), JsonCompareMode.STRICT);
+	}
+
+	@Test
+	void employeeCarriesTheSameValidatorsAndIsNotModifiedWhileItsVersionMatches() {
+		EmployeeDTO employee = employee("EM0001", "Jane Doe");
+		employee.setVersion(3L);
+		when(reactiveEmployeeService.getEmployeeById("id-1"))
+				.thenAnswer(invocation -> Mono.just(new APIResponse<>("Employee details retrieved successfully", employee, 200)));
+
+		webTestClient.get().uri("/api/employees/id-1")
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"")
+				.expectBody().jsonPath("$.data.employeeId").isEqualTo("EM0001");
+		webTestClient.get().uri("/api/employees/id-1")
+				.header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+				.exchange()
+				.expectStatus().isNotModified()
+				.expectBody().isEmpty();
+	}
+
+	@Test
+	void missingEmployeeIsANotFoundResponse() {
+		when(reactiveEmployeeService.getEmployeeByEmployeeId("EM0404"))
+				.thenReturn(Mono.just(new APIResponse<>("No Employee found for the given id: EM0404", null, 404)));
+
+		webTestClient.get().uri("/api/employees?employeeId=EM0404")
+				.exchange()
+				.expectStatus().isNotFound()
+				.expectBody()
+				.jsonPath("$.message").isEqualTo("No Employee found for the given id: EM0404")
+				.jsonPath("$.statusCode").isEqualTo(404);
+	}
+
+	@Test
+	void cursorPaginationIsRejectedAsABadRequest() {
+		webTestClient.get().uri("/api/employees?cursor=")
+				.exchange()
+				.expectStatus().isBadRequest()
+				.expectBody().jsonPath("$.message").isEqualTo("Cursor pagination is not available in the reactive profile");
+	}
+
+	/**
+	 * Body EmployeeController writes for the request, given the same results from the servlet EmployeeService.
+	 */
+	private String servletBody(String uri) throws Exception {
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new EmployeeController(employeeService, mock(EmployeeExportService.class),
+						mock(EmployeeImportService.class), mock(EmployeeStatsService.class), mock(EmployeeChangeFeed.class), objectMapper))
+				.setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+				.setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+				.build();
+		MvcResult result = mockMvc.perform(get(uri)).andReturn();
+		return result.getResponse().getContentAsString();
+	}
+
+	private static EmployeeDTO employee(String employeeId, String fullName) {
+		return new EmployeeDTO(employeeId, fullName, employeeId.toLowerCase() + "@example.com", Department.HR);
+	}
+}
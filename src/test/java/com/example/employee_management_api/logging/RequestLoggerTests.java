@@ -0,0 +1,71 @@
+package com.example.employee_management_api.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestLoggerTests {
+
+	private final Logger requestLog = (Logger) LoggerFactory.getLogger("employee.requests");
+	private final ListAppender<ILoggingEvent> events = new ListAppender<>();
+
+	@BeforeEach
+	void captureEvents() {
+		events.start();
+		requestLog.addAppender(events);
+	}
+
+	@AfterEach
+	void releaseEvents() {
+		requestLog.detachAppender(events);
+	}
+
+	@Test
+	void unsampledFastRequestsAreNotLogged() {
+		RequestLogger requestLogger = new RequestLogger(0.0, Duration.ofMillis(500));
+
+		for (int i = 0; i < 100; i++) {
+			requestLogger.log("id", "GET", "/api/employees/{id}", null, 200, TimeUnit.MILLISECONDS.toNanos(5), 1, null);
+		}
+		assertEquals(0, events.list.size());
+	}
+
+	@Test
+	void slowAndFailedRequestsAreAlwaysLoggedWithDetail() {
+		RequestLogger requestLogger = new RequestLogger(0.0, Duration.ofMillis(500));
+
+		requestLogger.log("slow", "GET", "/api/employees/search", "fullName=jane", 200, TimeUnit.SECONDS.toNanos(1), 3, null);
+		requestLogger.log("failed", "POST", "/api/employees", null, 500, TimeUnit.MILLISECONDS.toNanos(5), 2,
+				new IllegalStateException("boom"));
+
+		assertEquals(2, events.list.size());
+		ILoggingEvent slow = events.list.get(0);
+		assertEquals(Level.WARN, slow.getLevel());
+		assertTrue(slow.getFormattedMessage().contains("/api/employees/search?fullName=jane"));
+		ILoggingEvent failed = events.list.get(1);
+		assertEquals(Level.WARN, failed.getLevel());
+		assertTrue(failed.getFormattedMessage().contains("boom"));
+	}
+
+	@Test
+	void sampledRequestsAreOneSummaryEvent() {
+		RequestLogger requestLogger = new RequestLogger(1.0, Duration.ofMillis(500));
+
+		requestLogger.log("id", "GET", "/api/employees/{id}", null, 200, TimeUnit.MILLISECONDS.toNanos(5), 1, null);
+
+		assertEquals(1, events.list.size());
+		assertEquals(Level.INFO, events.list.get(0).getLevel());
+		assertEquals("id", events.list.get(0).getKeyValuePairs().get(0).value);
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.employee_management_api.mapper;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmployeeMapperTests {
+
+	private final EmployeeMapper explicitMapper = new ExplicitEmployeeMapper();
+	private final EmployeeMapper modelMapper = new ModelMapperEmployeeMapper(new ModelMapper());
+
+	@Test
+	void explicitMapperMatchesModelMapperForEntityToDto() {
+		Employee employee = new Employee("65a1", "EM0001", "John Smith", "john@example.com", Department.ENGINEERING,
+				LocalDateTime.now(), LocalDateTime.now());
+
+		assertEquals(modelMapper.toDto(employee), explicitMapper.toDto(employee));
+	}
+
+	@Test
+	void explicitMapperMatchesModelMapperForDtoToEntity() {
+		EmployeeDTO employeeDTO = new EmployeeDTO("EM0002", "Jane Smith", "jane@example.com", Department.SALES);
+
+		Employee expected = modelMapper.toEntity(employeeDTO);
+		Employee actual = explicitMapper.toEntity(employeeDTO);
+
+		assertEquals(expected.getEmployeeId(), actual.getEmployeeId());
+		assertEquals(expected.getFullName(), actual.getFullName());
+		assertEquals(expected.getEmail(), actual.getEmail());
+		assertEquals(expected.getDepartment(), actual.getDepartment());
+	}
+}
@@ -0,0 +1,45 @@
+package com.example.employee_management_api.mapper;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmployeeProjectionTests {
+
+	@Test
+	void parsesFieldsInResponseOrderWithoutDuplicates() {
+		EmployeeProjection projection = EmployeeProjection.parse(" fullName, employeeId,fullName,");
+
+		assertEquals(List.of("employeeId", "fullName"), projection.fields());
+	}
+
+	@Test
+	void missingOrEmptyFieldsSelectWholeEmployees() {
+		assertNull(EmployeeProjection.parse(null));
+		assertNull(EmployeeProjection.parse(" , "));
+	}
+
+	@Test
+	void rejectsUnknownFields() {
+		assertThrows(IllegalArgumentException.class, () -> EmployeeProjection.parse("employeeId,createdAt"));
+	}
+
+	@Test
+	void viewHoldsOnlySelectedFields() {
+		Employee employee = new Employee("65a1", "EM0001", "John Smith", "john@example.com", Department.ENGINEERING,
+				LocalDateTime.now(), LocalDateTime.now());
+
+		Map<String, Object> view = EmployeeProjection.parse("fullName,department").toView(employee);
+
+		assertEquals(Map.of("fullName", "John Smith", "department", Department.ENGINEERING), view);
+		assertEquals(List.of("fullName", "department"), List.copyOf(view.keySet()));
+	}
+}
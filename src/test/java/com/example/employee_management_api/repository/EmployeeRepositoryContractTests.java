@@ -0,0 +1,316 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.util.PageCursor;
+import com.example.employee_management_api.util.SearchTokens;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Behaviour every EmployeeRepository backend must share, run against each backend by a subclass.
+ */
+abstract class EmployeeRepositoryContractTests {
+
+	protected abstract EmployeeRepository repository();
+
+	@BeforeEach
+	void clear() {
+		repository().deleteAll();
+	}
+
+	@Test
+	void savedEmployeeGetsIdVersionAndAuditDatesAndIsFoundByEveryKey() {
+		Employee saved = repository().save(employee("EM0001", "Jane Doe", "jane@example.com", Department.HR));
+
+		assertNotNull(saved.getId());
+		assertEquals(0L, saved.getVersion());
+		assertNotNull(saved.getCreatedAt());
+		assertNotNull(saved.getLastModifiedAt());
+		assertEquals(List.of("jane", "doe"), repository().findByEmployeeId("EM0001").getNameTokens());
+		assertEquals("EM0001", repository().findEmployeeByEmail("jane@example.com").getEmployeeId());
+		assertEquals("EM0001", repository().findById(saved.getId()).orElseThrow().getEmployeeId());
+		assertEquals(1, repository().findByEmailIn(List.of("jane@example.com", "nobody@example.com")).size());
+		assertEquals(1, repository().findByEmployeeIdIn(List.of("EM0001", "EM0404", "EM0001")).size());
+	}
+
+	@Test
+	void uniqueEmployeeIdAndEmailRejectDuplicates() {
+		repository().save(employee("EM0001", "Jane Doe", "jane@example.com", Department.HR));
+
+		assertThrows(DuplicateKeyException.class, () -> repository().save(employee("EM0002", "Jane Roe", "jane@example.com", Department.SALES)));
+		assertThrows(DuplicateKeyException.class, () -> repository().save(employee("EM0001", "John Roe", "john@example.com", Department.SALES)));
+		assertEquals(1, repository().count());
+	}
+
+	@Test
+	void savingAStaleVersionFails() {
+		repository().save(employee("EM0001", "Jane Doe", "jane@example.com", Department.HR));
+		Employee first = repository().findByEmployeeId("EM0001");
+		Employee second = repository().findByEmployeeId("EM0001");
+
+		first.setFullName("Jane Smith");
+		repository().save(first);
+		second.setFullName("Jane Roe");
+
+		assertThrows(OptimisticLockingFailureException.class, () -> repository().save(second));
+		Employee stored = repository().findByEmployeeId("EM0001");
+		assertEquals("Jane Smith", stored.getFullName());
+		assertEquals(1L, stored.getVersion());
+	}
+
+	@Test
+	void updateByEmployeeIdReturnsThePreviousEmployeeAndIncrementsTheVersion() {
+		repository().save(employee("EM0001", "Jane Doe", "jane@example.com", Department.HR));
+		Update update = new Update().set("fullName", "Jane Smith").set("nameTokens", SearchTokens.tokenize("Jane Smith"))
+				.set("department", Department.SALES);
+
+		Employee previous = repository().updateByEmployeeId("EM0001", 0L, update);
+
+		assertEquals("Jane Doe", previous.getFullName());
+		Employee updated = repository().findByEmployeeId("EM0001");
+		assertEquals("Jane Smith", updated.getFullName());
+		assertEquals(Department.SALES, updated.getDepartment());
+		assertEquals(1L, updated.getVersion());
+		assertEquals(1, repository().countByNameTokensOrDepartment(List.of("smith"), null));
+		assertNull(repository().updateByEmployeeId("EM0001", 0L, new Update().set("fullName", "Jane Roe")));
+		assertNull(repository().updateByEmployeeId("EM0404", null, new Update().set("fullName", "Jane Roe")));
+	}
+
+	@Test
+	void unorderedInsertReportsDuplicatesByIndexAndInsertsTheRest() {
+		repository().save(employee("EM0001", "Jane Doe", "jane@example.com", Department.HR));
+
+		Map<Integer, Integer> failures = repository().insertAllUnordered(List.of(
+				employee("EM0002", "John Roe", "john@example.com", Department.SALES),
+				employee("EM0003", "Jane Twin", "jane@example.com", Department.SALES),
+				employee("EM0004", "Ann Lee", "ann@example.com", Department.HR)));
+
+		assertEquals(Map.of(1, 11000), failures);
+		assertEquals(3, repository().count());
+		assertNotNull(repository().findByEmployeeId("EM0004"));
+	}
+
+	@Test
+	void bulkUpdatesAndDeletesOnlyMatchTheVersionTheyWereReadAt() {
+		repository().save(employee("EM0001", "Jane Doe", "jane@example.com", Department.HR));
+		repository().save(employee("EM0002", "John Roe", "john@example.com", Department.HR));
+		repository().save(employee("EM0003", "Ann Lee", "ann@example.com", Department.HR));
+		List<Employee> read = repository().findByEmployeeIdIn(List.of("EM0001", "EM0002", "EM0003")).stream()
+				.sorted(Comparator.comparing(Employee::getEmployeeId)).toList();
+		repository().updateByEmployeeId("EM0003", null, new Update().set("fullName", "Ann Smith"));
+
+		BulkWriteOutcome updated = repository().updateAllByIdAndVersion(read, List.of(
+				new Update().set("department", Department.SALES),
+				new Update().set("email", "jane@example.com"),
+				new Update().set("department", Department.SALES)));
+
+		assertEquals(1, updated.matchedCount());
+		assertEquals(1, updated.modifiedCount());
+		assertEquals(Map.of(1, 11000), updated.errors());
+		// EM0003 was updated once since it was read, so it is at the version this update would have written.
+		// A backend that only counts matches cannot tell it apart from EM0001
+		assertFalse(updated.matched(2));
+		assertFalse(updated.unmatched().contains(0));
+		assertEquals(Department.SALES, repository().findByEmployeeId("EM0001").getDepartment());
+		assertEquals(1L, repository().findByEmployeeId("EM0001").getVersion());
+		assertEquals(Department.HR, repository().findByEmployeeId("EM0003").getDepartment());
+
+		BulkWriteOutcome deleted = repository().deleteAllByIdAndVersion(read);
+		assertEquals(1, deleted.deletedCount());
+		assertEquals(Map.of(), deleted.errors());
+		assertFalse(deleted.matched(0));
+		assertFalse(deleted.matched(2));
+		assertNull(repository().findByEmployeeId("EM0002"));
+		assertEquals(2, repository().count());
+
+		// None matching and all matching are known exactly from the counts
+		BulkWriteOutcome stale = repository().deleteAllByIdAndVersion(read.subList(0, 1));
+		assertEquals(0, stale.deletedCount());
+		assertEquals(Set.of(0), stale.unmatched());
+		List<Employee> current = repository().findByEmployeeIdIn(List.of("EM0001", "EM0003"));
+		BulkWriteOutcome all = repository().deleteAllByIdAndVersion(current);
+		assertEquals(2, all.deletedCount());
+		assertTrue(all.matched(0) && all.matched(1));
+		assertEquals(0, repository().count());
+	}
+
+	@Test
+	void pagesFollowTheSortAndCountAllEmployees() {
+		repository().save(employee("EM0001", "Carl Diaz", "carl@example.com", Department.SALES));
+		repository().save(employee("EM0002", "Anna Berg", "anna@example.com", Department.HR));
+		repository().save(employee("EM0003", "Bob Chen", "bob@example.com", Department.HR));
+
+		Page<Employee> page = repository().findAll(PageRequest.of(1, 2, Sort.by("fullName")));
+		assertEquals(List.of("Carl Diaz"), page.getContent().stream().map(Employee::getFullName).toList());
+		assertEquals(3, page.getTotalElements());
+
+		Slice<Employee> projected = repository().findSlice(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "fullName")),
+				List.of("employeeId"));
+		assertEquals(List.of("EM0001", "EM0003"), projected.getContent().stream().map(Employee::getEmployeeId).toList());
+		assertNull(projected.getContent().get(0).getId());
+		assertNull(projected.getContent().get(0).getFullName());
+		assertTrue(projected.hasNext());
+
+		Slice<Employee> last = repository().findSlice(PageRequest.of(1, 2, Sort.by("fullName")), null);
+		assertEquals(List.of("Carl Diaz"), last.getContent().stream().map(Employee::getFullName).toList());
+		assertEquals("EM0001", last.getContent().get(0).getEmployeeId());
+		assertFalse(last.hasNext());
+	}
+
+	@Test
+	void keysetPagesContinueAfterTheCursor() {
+		repository().save(employee("EM0001", "Bob Chen", "bob@example.com", Department.HR));
+		repository().save(employee("EM0002", "Anna Berg", "anna@example.com", Department.HR));
+		repository().save(employee("EM0003", "Bob Chen", "bob.chen@example.com", Department.SALES));
+		repository().save(employee("EM0004", "Carl Diaz", "carl@example.com", Department.SALES));
+		PageCursor cursor = new PageCursor("fullName", Sort.Direction.ASC, null, null);
+
+		Slice<Employee> first = repository().findAllAfter(cursor, 2, null);
+		assertEquals(List.of("Anna Berg", "Bob Chen"), first.getContent().stream().map(Employee::getFullName).toList());
+		assertTrue(first.hasNext());
+
+		Employee last = first.getContent().get(1);
+		Slice<Employee> second = repository().findAllAfter(cursor.next(last.getFullName(), last.getId()), 2, List.of("employeeId"));
+		assertEquals(List.of("Bob Chen", "Carl Diaz"), second.getContent().stream().map(Employee::getFullName).toList());
+		assertNotEquals(last.getId(), second.getContent().get(0).getId());
+		assertNull(second.getContent().get(0).getEmail());
+		assertFalse(second.hasNext());
+	}
+
+	@Test
+	void keysetPagesByCreationDateIncludeEmployeesWithoutOne() {
+		for (int i = 1; i <= 5; i++) {
+			repository().save(employee("EM000" + i, "Jane Doe", "jane" + i + "@example.com", Department.HR));
+		}
+		// Documents written before creation dates were recorded
+		repository().updateByEmployeeId("EM0002", null, new Update().set("createdAt", null));
+		repository().updateByEmployeeId("EM0004", null, new Update().set("createdAt", null));
+
+		List<String> ascending = employeeIdsByCreationDate(Sort.Direction.ASC);
+		assertEquals(5, ascending.size());
+		assertEquals(5, Set.copyOf(ascending).size());
+		assertEquals(Set.of("EM0002", "EM0004"), Set.copyOf(ascending.subList(0, 2)));
+
+		List<String> descending = employeeIdsByCreationDate(Sort.Direction.DESC);
+		assertEquals(5, descending.size());
+		assertEquals(5, Set.copyOf(descending).size());
+		assertEquals(Set.of("EM0002", "EM0004"), Set.copyOf(descending.subList(3, 5)));
+	}
+
+	@Test
+	void keysetPageAfterAMalformedCreationDateIsRejected() {
+		PageCursor cursor = new PageCursor("createdAt", Sort.Direction.ASC, "yesterday", "65f0c0ffee0000000000abcd");
+
+		assertThrows(IllegalArgumentException.class, () -> repository().findAllAfter(cursor, 2, null));
+	}
+
+	@Test
+	void searchRanksExactNameMatchesFirstAndIncludesTheDepartment() {
+		repository().save(employee("EM0001", "Annabel Moss", "annabel@example.com", Department.HR));
+		repository().save(employee("EM0002", "Ann Lee", "ann@example.com", Department.HR));
+		repository().save(employee("EM0003", "Carl Diaz", "carl@example.com", Department.SALES));
+		repository().save(employee("EM0004", "Bob Chen", "bob@example.com", Department.ENGINEERING));
+
+		Slice<Employee> byName = repository().searchByNameTokensOrDepartment(List.of("ann"), null, PageRequest.of(0, 10), null);
+		assertEquals(List.of("Ann Lee", "Annabel Moss"), byName.getContent().stream().map(Employee::getFullName).toList());
+
+		Slice<Employee> byNameOrDepartment = repository().searchByNameTokensOrDepartment(List.of("ann"), Department.SALES,
+				PageRequest.of(0, 2), null);
+		assertEquals(List.of("Ann Lee", "Annabel Moss"), byNameOrDepartment.getContent().stream().map(Employee::getFullName).toList());
+		assertTrue(byNameOrDepartment.hasNext());
+		assertEquals(3, repository().countByNameTokensOrDepartment(List.of("ann"), Department.SALES));
+
+		Slice<Employee> allTokens = repository().searchByNameTokensOrDepartment(List.of("lee", "an"), null, PageRequest.of(0, 10),
+				List.of("employeeId"));
+		assertEquals(List.of("EM0002"), allTokens.getContent().stream().map(Employee::getEmployeeId).toList());
+	}
+
+	@Test
+	void streamsFilterByDepartmentAndCreationDate() {
+		repository().save(employee("EM0001", "Jane Doe", "jane@example.com", Department.HR));
+		repository().save(employee("EM0002", "John Roe", "john@example.com", Department.SALES));
+		repository().save(employee("EM0003", "Ann Lee", "ann@example.com", Department.HR));
+
+		try (Stream<Employee> employees = repository().streamEmployees(Department.HR, null, null)) {
+			assertEquals(List.of("EM0001", "EM0003"), employees.map(Employee::getEmployeeId).toList());
+		}
+		try (Stream<Employee> employees = repository().streamEmployees(null, LocalDateTime.now().plusDays(1), null)) {
+			assertEquals(0, employees.count());
+		}
+		try (Stream<String> emails = repository().streamEmails()) {
+			assertEquals(Set.of("jane@example.com", "john@example.com", "ann@example.com"), emails.collect(Collectors.toSet()));
+		}
+	}
+
+	@Test
+	void deletedEmployeeIsGoneFromEveryIndex() {
+		Employee saved = repository().save(employee("EM0001", "Jane Doe", "jane@example.com", Department.HR));
+
+		repository().delete(saved);
+
+		assertNull(repository().findByEmployeeId("EM0001"));
+		assertNull(repository().findEmployeeByEmail("jane@example.com"));
+		assertTrue(repository().findById(saved.getId()).isEmpty());
+		assertEquals(0, repository().countByNameTokensOrDepartment(List.of("jane"), Department.HR));
+		assertEquals(0, repository().count());
+		// The unique keys are free again
+		repository().save(employee("EM0001", "Jane Doe", "jane@example.com", Department.HR));
+	}
+
+	@Test
+	void collectionMetadataFollowsTheWrites() {
+		assertNull(repository().findLatestLastModifiedAt());
+
+		repository().save(employee("EM0001", "Jane Doe", "jane@example.com", Department.HR));
+		Employee latest = repository().save(employee("EM0002", "John Roe", "john@example.com", Department.SALES));
+
+		assertEquals(latest.getLastModifiedAt().truncatedTo(ChronoUnit.MILLIS), repository().findLatestLastModifiedAt());
+		assertEquals(2, repository().estimatedCount());
+	}
+
+	/**
+	 * Pages through all employees one at a time, building each cursor from the last employee as the service does.
+	 */
+	private List<String> employeeIdsByCreationDate(Sort.Direction direction) {
+		List<String> employeeIds = new ArrayList<>();
+		PageCursor cursor = new PageCursor("createdAt", direction, null, null);
+		Slice<Employee> page;
+		do {
+			page = repository().findAllAfter(cursor, 1, null);
+			Employee last = page.getContent().get(0);
+			employeeIds.add(last.getEmployeeId());
+			cursor = cursor.next(last.getCreatedAt() == null ? null : last.getCreatedAt().toString(), last.getId());
+		} while (page.hasNext() && employeeIds.size() <= 5);
+		return employeeIds;
+	}
+
+	protected static Employee employee(String employeeId, String fullName, String email, Department department) {
+		return new Employee(null, employeeId, fullName, email, department, null, null);
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.employee_management_api.repository;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InMemoryEmployeeRepositoryTests extends EmployeeRepositoryContractTests {
+
+	private final InMemoryEmployeeRepository repository = new InMemoryEmployeeRepository(null, Duration.ZERO);
+
+	@TempDir
+	private Path directory;
+
+	@Override
+	protected EmployeeRepository repository() {
+		return repository;
+	}
+
+	@Test
+	void recoversEmployeesAndCountersFromTheSnapshot() throws IOException {
+		Path snapshot = directory.resolve("employees.snapshot");
+		InMemoryEmployeeRepository first = new InMemoryEmployeeRepository(snapshot, Duration.ZERO);
+		first.recover();
+		first.save(employee("EM0001", "Zoë Ångström", "zoe@example.com", Department.HR));
+		Employee john = first.save(employee("EM0002", "John Roe", "john@example.com", Department.SALES));
+		first.incrementCounter("employeeId", 50);
+		first.shutdown();
+
+		InMemoryEmployeeRepository second = new InMemoryEmployeeRepository(snapshot, Duration.ZERO);
+		second.recover();
+
+		assertEquals(2, second.count());
+		Employee zoe = second.findEmployeeByEmail("zoe@example.com");
+		assertEquals("Zoë Ångström", zoe.getFullName());
+		assertEquals(List.of("zoe", "angstrom"), zoe.getNameTokens());
+		assertEquals(john.getLastModifiedAt().truncatedTo(ChronoUnit.MILLIS), second.findByEmployeeId("EM0002").getLastModifiedAt());
+		assertEquals(0L, second.findByEmployeeId("EM0002").getVersion());
+		assertEquals(1, second.countByNameTokensOrDepartment(List.of("ang"), null));
+		assertEquals(51, second.incrementCounter("employeeId", 1));
+	}
+
+	@Test
+	void corruptSnapshotFailsRecovery() throws IOException {
+		Path snapshot = directory.resolve("employees.snapshot");
+		InMemoryEmployeeRepository first = new InMemoryEmployeeRepository(snapshot, Duration.ZERO);
+		first.recover();
+		first.save(employee("EM0001", "Jane Doe", "jane@example.com", Department.HR));
+		first.shutdown();
+
+		byte[] bytes = Files.readAllBytes(snapshot);
+		bytes[bytes.length - 1] ^= 1;
+		Files.write(snapshot, bytes);
+
+		assertThrows(IOException.class, new InMemoryEmployeeRepository(snapshot, Duration.ZERO)::recover);
+	}
+}
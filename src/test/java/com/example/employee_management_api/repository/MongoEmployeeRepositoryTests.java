@@ -0,0 +1,37 @@
+package com.example.employee_management_api.repository;
+
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Runs the repository contract against MongoDB, in a database of its own. Needs a MongoDB on localhost:27017
+ * and is skipped when none is listening there.
+ */
+@DataMongoTest(properties = "spring.data.mongodb.uri=mongodb://localhost:27017/employee_management_test")
+@Import(EmployeeNameTokensCallback.class)
+@EnabledIf("mongoIsRunning")
+class MongoEmployeeRepositoryTests extends EmployeeRepositoryContractTests {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Override
+	protected EmployeeRepository repository() {
+		return employeeRepository;
+	}
+
+	static boolean mongoIsRunning() {
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress("localhost", 27017), 500);
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+}
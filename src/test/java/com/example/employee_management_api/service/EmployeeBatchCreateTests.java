@@ -0,0 +1,132 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.BatchItemResultDTO;
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.util.APIResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeBatchCreateTests {
+
+	private final EmployeeRepository repository = mock(EmployeeRepository.class);
+	private final SequenceBlockAllocator allocator = mock(SequenceBlockAllocator.class);
+	private final EmployeeEmailFilter emailFilter = new EmployeeEmailFilter(1_000, 0.01);
+	private final EmployeeService employeeService = EmployeeServiceTestBuilder.over(repository)
+			.allocator(allocator)
+			.emailFilter(emailFilter)
+			.maxBatchSize(10)
+			.build();
+
+	@BeforeEach
+	void reserveIdsFromOne() {
+		when(allocator.reserveRange(anyInt())).thenReturn(1);
+	}
+
+	@Test
+	void validBatchIsCreatedWithOneLookupOneIdRangeAndOneInsert() {
+		// Possibly taken according to the filter, but not in the database
+		emailFilter.put("roe@example.com");
+
+		APIResponse<List<BatchItemResultDTO>> response = employeeService.createEmployees(List.of(
+				new EmployeeDTO(null, "Jane Doe", "jane@example.com", Department.HR),
+				new EmployeeDTO(null, "Jane Roe", "roe@example.com", Department.SALES),
+				new EmployeeDTO(null, "John Smith", "john@example.com", Department.ENGINEERING)));
+
+		assertEquals(201, response.getStatusCode());
+		assertEquals(List.of(201, 201, 201), statusCodes(response));
+		assertEquals(List.of("EM0001", "EM0002", "EM0003"), response.getData().stream().map(result -> result.getEmployee().getEmployeeId()).toList());
+		verify(repository, times(1)).findByEmailIn(any());
+		verify(repository, never()).findEmployeeByEmail(anyString());
+		verify(allocator, times(1)).reserveRange(3);
+		verify(repository, times(1)).insertAllUnordered(argThat(employees -> employees.size() == 3
+				&& employees.stream().allMatch(employee -> employee.getVersion() == 0L && employee.getCreatedAt() != null)));
+		verify(repository, never()).save(any(Employee.class));
+	}
+
+	@Test
+	void invalidAndDuplicateItemsAreReportedPerItem() {
+		emailFilter.put("taken@example.com");
+		when(repository.findByEmailIn(any()))
+				.thenReturn(List.of(new Employee("id-1", "EM0100", "Taken Name", "taken@example.com", Department.HR, null, null)));
+
+		APIResponse<List<BatchItemResultDTO>> response = employeeService.createEmployees(List.of(
+				new EmployeeDTO(null, "Jane Doe", "jane@example.com", Department.HR),
+				new EmployeeDTO(null, null, "nameless@example.com", Department.HR),
+				new EmployeeDTO(null, "Jane Roe", "not-an-email", Department.HR),
+				new EmployeeDTO(null, "Jane Poe", "jane@example.com", Department.SALES),
+				new EmployeeDTO(null, "John Doe", "taken@example.com", Department.SALES),
+				new EmployeeDTO(null, "John Smith", "john@example.com", Department.SALES)));
+
+		assertEquals(207, response.getStatusCode());
+		assertEquals("Created 2 of 6 employees.", response.getMessage());
+		assertEquals(List.of(201, 400, 400, 409, 409, 201), statusCodes(response));
+		assertEquals(List.of(0, 1, 2, 3, 4, 5), response.getData().stream().map(BatchItemResultDTO::getIndex).toList());
+		assertEquals("Full name, email, and department cannot be empty", response.getData().get(1).getMessage());
+		assertEquals("Invalid email format: not-an-email", response.getData().get(2).getMessage());
+		assertEquals("Employee email is duplicated within the batch", response.getData().get(3).getMessage());
+		assertEquals("Employee email already exists", response.getData().get(4).getMessage());
+		assertEquals("EM0002", response.getData().get(5).getEmployee().getEmployeeId());
+		verify(allocator, times(1)).reserveRange(2);
+		verify(repository, times(1)).insertAllUnordered(argThat(employees ->
+				employees.stream().map(Employee::getEmail).toList().equals(List.of("jane@example.com", "john@example.com"))));
+	}
+
+	@Test
+	void itemsRejectedByTheDatabaseAreReportedPerItem() {
+		when(repository.insertAllUnordered(anyList())).thenReturn(Map.of(1, 11000, 2, 91));
+
+		APIResponse<List<BatchItemResultDTO>> response = employeeService.createEmployees(List.of(
+				new EmployeeDTO(null, "Jane Doe", "jane@example.com", Department.HR),
+				new EmployeeDTO(null, "Jane Roe", "roe@example.com", Department.HR),
+				new EmployeeDTO(null, "John Smith", "john@example.com", Department.HR)));
+
+		assertEquals(207, response.getStatusCode());
+		assertEquals(List.of(201, 409, 500), statusCodes(response));
+		assertEquals("Employee already exists", response.getData().get(1).getMessage());
+	}
+
+	@Test
+	void batchWithoutValidItemsIsRejected() {
+		APIResponse<List<BatchItemResultDTO>> response = employeeService.createEmployees(List.of(
+				new EmployeeDTO(null, "Jane Doe", "not-an-email", Department.HR),
+				new EmployeeDTO(null, "Jane Roe", "roe@example.com", null)));
+
+		assertEquals(400, response.getStatusCode());
+		assertEquals(List.of(400, 400), statusCodes(response));
+		verify(allocator, never()).reserveRange(anyInt());
+		verify(repository, never()).insertAllUnordered(anyList());
+	}
+
+	@Test
+	void emptyOrOversizedBatchIsRejected() {
+		List<EmployeeDTO> oversized = Collections.nCopies(11, new EmployeeDTO(null, "Jane Doe", "jane@example.com", Department.HR));
+
+		assertThrows(IllegalArgumentException.class, () -> employeeService.createEmployees(List.of()));
+		assertThrows(IllegalArgumentException.class, () -> employeeService.createEmployees(oversized));
+		verify(repository, never()).insertAllUnordered(anyList());
+	}
+
+	private static List<Integer> statusCodes(APIResponse<List<BatchItemResultDTO>> response) {
+		return response.getData().stream().map(BatchItemResultDTO::getStatusCode).toList();
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.BatchItemResultDTO;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.util.APIResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeBatchLookupTests {
+
+	private final EmployeeRepository repository = mock(EmployeeRepository.class);
+	private final EmployeeService employeeService = EmployeeServiceTestBuilder.over(repository).maxBatchSize(3).build();
+
+	@Test
+	void resultsFollowTheRequestOrderWithNotFoundItems() {
+		when(repository.findByEmployeeIdIn(anyCollection())).thenReturn(List.of(employee("EM0002"), employee("EM0001")));
+
+		APIResponse<List<BatchItemResultDTO>> response = employeeService.getEmployeesByEmployeeIds(List.of("EM0001", "EM0404", "EM0002"));
+
+		assertEquals(207, response.getStatusCode());
+		List<BatchItemResultDTO> results = response.getData();
+		assertEquals(List.of(200, 404, 200), results.stream().map(BatchItemResultDTO::getStatusCode).toList());
+		assertEquals("EM0001", results.get(0).getEmployee().getEmployeeId());
+		assertNull(results.get(1).getEmployee());
+		assertEquals("EM0002", results.get(2).getEmployee().getEmployeeId());
+		verify(repository).findByEmployeeIdIn(Set.of("EM0001", "EM0404", "EM0002"));
+	}
+
+	@Test
+	void cachedEmployeesAreNotQueriedAgain() {
+		when(repository.findByEmployeeId("EM0001")).thenReturn(employee("EM0001"));
+		when(repository.findByEmployeeIdIn(anyCollection())).thenReturn(List.of(employee("EM0002")));
+		employeeService.getEmployeeByEmployeeId("EM0001");
+
+		APIResponse<List<BatchItemResultDTO>> response = employeeService.getEmployeesByEmployeeIds(List.of("EM0001", "EM0002", "EM0001"));
+
+		assertEquals(200, response.getStatusCode());
+		assertEquals(3, response.getData().size());
+		verify(repository).findByEmployeeIdIn(Set.of("EM0002"));
+	}
+
+	@Test
+	void emptyAndOversizedListsAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeesByEmployeeIds(Collections.emptyList()));
+		assertThrows(IllegalArgumentException.class,
+				() -> employeeService.getEmployeesByEmployeeIds(List.of("EM0001", "EM0002", "EM0003", "EM0004")));
+		verify(repository, never()).findByEmployeeIdIn(anyCollection());
+	}
+
+	private static Employee employee(String employeeId) {
+		return new Employee("id-" + employeeId, employeeId, "Jane Doe", employeeId.toLowerCase() + "@example.com", Department.HR, null, null);
+	}
+}
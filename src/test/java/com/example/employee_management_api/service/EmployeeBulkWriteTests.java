@@ -0,0 +1,296 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.BatchItemResultDTO;
+import com.example.employee_management_api.dto.BulkWriteResultDTO;
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.model.EmployeeChange;
+import com.example.employee_management_api.repository.BulkWriteOutcome;
+import com.example.employee_management_api.repository.InMemoryEmployeeRepository;
+import com.example.employee_management_api.util.APIResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class EmployeeBulkWriteTests {
+
+	private final InMemoryEmployeeRepository repository = new InMemoryEmployeeRepository(null, Duration.ZERO);
+	private final EmployeeCache employeeCache = new EmployeeCache(100, Duration.ZERO);
+	private final EmployeeStatsService statsService = mock(EmployeeStatsService.class);
+	private final EmployeeChangeFeed changeFeed = mock(EmployeeChangeFeed.class);
+	private final EmployeeService employeeService = EmployeeServiceTestBuilder.over(repository)
+			.employeeCache(employeeCache)
+			.statsService(statsService)
+			.changeFeed(changeFeed)
+			.maxBatchSize(2)
+			.build();
+
+	@BeforeEach
+	void seed() {
+		repository.save(new Employee(null, "EM0001", "Jane Doe", "jane@example.com", Department.MARKETING, null, null));
+		repository.save(new Employee(null, "EM0002", "John Roe", "john@example.com", Department.MARKETING, null, null));
+		repository.save(new Employee(null, "EM0003", "Ann Lee", "ann@example.com", Department.MARKETING, null, null));
+		repository.save(new Employee(null, "EM0004", "Bob Chen", "bob@example.com", Department.HR, null, null));
+	}
+
+	@Test
+	void batchUpdateReportsEachItemAndWritesTheRest() {
+		// Cached before the update, so a stale entry would show up below
+		employeeService.getEmployeeByEmployeeId("EM0001");
+
+		APIResponse<BulkWriteResultDTO> response = employeeService.updateEmployees(List.of(
+				changes("EM0001", null, Department.SALES),
+				changes("EM0404", null, Department.SALES)));
+
+		assertEquals(207, response.getStatusCode());
+		assertEquals(1, response.getData().getMatchedCount());
+		assertEquals(List.of(200, 404), statusCodes(response));
+		EmployeeDTO updated = employeeService.getEmployeeByEmployeeId("EM0001").getData();
+		assertEquals(Department.SALES, updated.getDepartment());
+		assertEquals(Department.SALES, response.getData().getItems().get(0).getEmployee().getDepartment());
+		assertEquals(1L, repository.findByEmployeeId("EM0001").getVersion());
+		verify(statsService).recordDepartmentsChanged(anyList(), anyList());
+		verify(changeFeed).publish(eq(EmployeeChange.UPDATED), anyList());
+	}
+
+	@Test
+	void invalidAndConflictingItemsDoNotFailTheBatch() {
+		APIResponse<BulkWriteResultDTO> response = employeeService.updateEmployees(List.of(
+				changes("EM0002", "bob@example.com", null),
+				changes(null, null, Department.SALES)));
+		assertEquals(List.of(409, 400), statusCodes(response));
+		assertEquals(400, response.getStatusCode());
+
+		response = employeeService.updateEmployees(List.of(changes("EM0002", "new@example.com", null), changes("EM0002", null, Department.HR)));
+		assertEquals(List.of(200, 409), statusCodes(response));
+		assertEquals("new@example.com", repository.findByEmployeeId("EM0002").getEmail());
+		assertEquals(Department.MARKETING, repository.findByEmployeeId("EM0002").getDepartment());
+
+		assertThrows(IllegalArgumentException.class, () -> employeeService.updateEmployees(List.of(
+				changes("EM0001", null, Department.SALES), changes("EM0002", null, Department.SALES), changes("EM0003", null, Department.SALES))));
+	}
+
+	@Test
+	void departmentUpdateMovesEveryEmployeeInBulkWritesOfTheBatchSize() {
+		APIResponse<BulkWriteResultDTO> response = employeeService.updateEmployeesByDepartment(Department.MARKETING,
+				changes(null, null, Department.SALES));
+
+		assertEquals(200, response.getStatusCode());
+		assertEquals(3, response.getData().getMatchedCount());
+		// Two chunks of the batch size 2, numbered on across the chunks
+		assertEquals(List.of(0, 1, 2), response.getData().getItems().stream().map(BatchItemResultDTO::getIndex).toList());
+		try (var marketing = repository.streamEmployees(Department.MARKETING, null, null)) {
+			assertEquals(0, marketing.count());
+		}
+		try (var sales = repository.streamEmployees(Department.SALES, null, null)) {
+			assertEquals(3, sales.count());
+		}
+		assertThrows(IllegalArgumentException.class,
+				() -> employeeService.updateEmployeesByDepartment(Department.HR, changes(null, "hr@example.com", null)));
+	}
+
+	@Test
+	void batchDeleteRemovesFoundEmployeesAndReportsTheOthers() {
+		employeeService.getEmployeeByEmployeeId("EM0001");
+
+		APIResponse<BulkWriteResultDTO> response = employeeService.deleteEmployees(List.of("EM0001", "EM0404"));
+
+		assertEquals(207, response.getStatusCode());
+		assertEquals(1, response.getData().getDeletedCount());
+		assertEquals(List.of(200, 404), statusCodes(response));
+		assertNull(repository.findByEmployeeId("EM0001"));
+		assertEquals(404, employeeService.getEmployeesByEmployeeIds(List.of("EM0001")).getStatusCode());
+		verify(statsService).recordDeleted(anyList());
+		verify(changeFeed).publish(eq(EmployeeChange.DELETED), anyList());
+	}
+
+	@Test
+	void itemsWrittenConcurrentlyAreConflictsWithoutSideEffects() {
+		RacingRepository racing = new RacingRepository();
+		racing.save(new Employee(null, "EM0001", "Jane Doe", "jane@example.com", Department.MARKETING, null, null));
+		racing.save(new Employee(null, "EM0002", "John Roe", "john@example.com", Department.MARKETING, null, null));
+		EmployeeService racingService = service(racing);
+
+		// The concurrent patch takes the version the bulk update would have written
+		racing.concurrentWrite = () -> racing.updateByEmployeeId("EM0001", null, new Update().set("fullName", "Jane Smith"));
+		APIResponse<BulkWriteResultDTO> response = racingService.updateEmployees(List.of(
+				changes("EM0001", null, Department.SALES),
+				changes("EM0002", null, Department.SALES)));
+
+		assertEquals(List.of(409, 200), statusCodes(response));
+		assertEquals(Department.MARKETING, racing.findByEmployeeId("EM0001").getDepartment());
+		assertEquals("Jane Smith", racing.findByEmployeeId("EM0001").getFullName());
+		verify(statsService).recordDepartmentsChanged(argThat((List<Employee> previous) -> previous.size() == 1), anyList());
+		verify(changeFeed).publish(eq(EmployeeChange.UPDATED), argThat((List<EmployeeDTO> updated) -> updated.size() == 1));
+	}
+
+	@Test
+	void employeesDeletedConcurrentlyAreNotCountedTwice() {
+		RacingRepository racing = new RacingRepository();
+		racing.save(new Employee(null, "EM0001", "Jane Doe", "jane@example.com", Department.MARKETING, null, null));
+		racing.save(new Employee(null, "EM0002", "John Roe", "john@example.com", Department.MARKETING, null, null));
+		racing.save(new Employee(null, "EM0003", "Ann Lee", "ann@example.com", Department.MARKETING, null, null));
+		EmployeeService racingService = service(racing);
+
+		racing.concurrentWrite = () -> {
+			racing.delete(racing.findByEmployeeId("EM0001"));
+			racing.updateByEmployeeId("EM0002", null, new Update().set("fullName", "John Smith"));
+		};
+		APIResponse<BulkWriteResultDTO> response = racingService.deleteEmployees(List.of("EM0001", "EM0002", "EM0003"));
+
+		assertEquals(List.of(404, 409, 200), statusCodes(response));
+		assertEquals(1, response.getData().getDeletedCount());
+		assertNull(racing.findByEmployeeId("EM0003"));
+		verify(statsService).recordDeleted(argThat((Collection<Employee> deleted) -> deleted.size() == 1));
+		verify(changeFeed).publish(eq(EmployeeChange.DELETED), argThat((List<EmployeeDTO> deleted) -> deleted.size() == 1));
+	}
+
+	@Test
+	void updatesTheBulkResultCannotTellApartAreConflictsWithoutSideEffects() {
+		RacingRepository racing = new RacingRepository();
+		racing.countsOnly = true;
+		racing.save(new Employee(null, "EM0001", "Jane Doe", "jane@example.com", Department.MARKETING, null, null));
+		racing.save(new Employee(null, "EM0002", "John Roe", "john@example.com", Department.MARKETING, null, null));
+		EmployeeService racingService = service(racing);
+
+		racing.concurrentWrite = () -> racing.updateByEmployeeId("EM0001", null, new Update().set("fullName", "Jane Smith"));
+		APIResponse<BulkWriteResultDTO> response = racingService.updateEmployees(List.of(
+				changes("EM0001", null, Department.SALES),
+				changes("EM0002", null, Department.SALES)));
+
+		// One of the two matched, but not which one
+		assertEquals(List.of(409, 409), statusCodes(response));
+		assertEquals(1, response.getData().getMatchedCount());
+		assertEquals(Department.SALES, racing.findByEmployeeId("EM0002").getDepartment());
+		verify(statsService).recordDepartmentsChanged(argThat((List<Employee> previous) -> previous.isEmpty()), anyList());
+		verify(changeFeed).publish(eq(EmployeeChange.UPDATED), argThat((List<EmployeeDTO> updated) -> updated.isEmpty()));
+	}
+
+	@Test
+	void uncertainDeletesAreResolvedFromTheDeletedCountWhenItCoversThem() {
+		RacingRepository racing = new RacingRepository();
+		racing.countsOnly = true;
+		racing.save(new Employee(null, "EM0001", "Jane Doe", "jane@example.com", Department.MARKETING, null, null));
+		racing.save(new Employee(null, "EM0002", "John Roe", "john@example.com", Department.MARKETING, null, null));
+		racing.save(new Employee(null, "EM0003", "Ann Lee", "ann@example.com", Department.MARKETING, null, null));
+		EmployeeService racingService = service(racing);
+
+		// EM0002 is still stored, so the two deletes counted are EM0001 and EM0003
+		racing.concurrentWrite = () -> racing.updateByEmployeeId("EM0002", null, new Update().set("fullName", "John Smith"));
+		APIResponse<BulkWriteResultDTO> response = racingService.deleteEmployees(List.of("EM0001", "EM0002", "EM0003"));
+
+		assertEquals(List.of(200, 409, 200), statusCodes(response));
+		assertEquals(2, response.getData().getDeletedCount());
+		verify(statsService).recordDeleted(argThat((Collection<Employee> deleted) -> deleted.size() == 2));
+	}
+
+	@Test
+	void deletesRacingConcurrentDeletesAreNotCountedWhenTheResultCannotTellThemApart() {
+		RacingRepository racing = new RacingRepository();
+		racing.countsOnly = true;
+		racing.save(new Employee(null, "EM0001", "Jane Doe", "jane@example.com", Department.MARKETING, null, null));
+		racing.save(new Employee(null, "EM0002", "John Roe", "john@example.com", Department.MARKETING, null, null));
+		racing.save(new Employee(null, "EM0003", "Ann Lee", "ann@example.com", Department.MARKETING, null, null));
+		EmployeeService racingService = service(racing);
+
+		racing.concurrentWrite = () -> {
+			racing.delete(racing.findByEmployeeId("EM0001"));
+			racing.updateByEmployeeId("EM0002", null, new Update().set("fullName", "John Smith"));
+		};
+		APIResponse<BulkWriteResultDTO> response = racingService.deleteEmployees(List.of("EM0001", "EM0002", "EM0003"));
+
+		// EM0001 and EM0003 are both gone, but only one of them was removed by this request
+		assertEquals(List.of(200, 409, 200), statusCodes(response));
+		assertEquals("Employee deleted, possibly by another request.", response.getData().getItems().get(0).getMessage());
+		assertEquals(1, response.getData().getDeletedCount());
+		verify(statsService).recordDeleted(argThat((Collection<Employee> deleted) -> deleted.isEmpty()));
+		verify(changeFeed, never()).publish(eq(EmployeeChange.DELETED), argThat((List<EmployeeDTO> deleted) -> !deleted.isEmpty()));
+	}
+
+	private EmployeeService service(InMemoryEmployeeRepository repository) {
+		return EmployeeServiceTestBuilder.over(repository)
+				.statsService(statsService)
+				.changeFeed(changeFeed)
+				.maxBatchSize(2)
+				.build();
+	}
+
+	private static EmployeeDTO changes(String employeeId, String email, Department department) {
+		return new EmployeeDTO(employeeId, null, email, department);
+	}
+
+	private static List<Integer> statusCodes(APIResponse<BulkWriteResultDTO> response) {
+		List<Integer> statusCodes = new ArrayList<>();
+		for (BatchItemResultDTO item : response.getData().getItems()) {
+			statusCodes.add(item.getStatusCode());
+		}
+		return statusCodes;
+	}
+
+	/**
+	 * Runs a write of another request right after the service read the employees, before its bulk write.
+	 * With countsOnly, bulk writes report their outcome the way MongoDB does: errors by index, matches only counted.
+	 */
+	private static class RacingRepository extends InMemoryEmployeeRepository {
+
+		private Runnable concurrentWrite = () -> {
+		};
+		private boolean countsOnly;
+
+		RacingRepository() {
+			super(null, Duration.ZERO);
+		}
+
+		@Override
+		public List<Employee> findByEmployeeIdIn(Collection<String> employeeIds) {
+			List<Employee> employees = super.findByEmployeeIdIn(employeeIds);
+			Runnable write = concurrentWrite;
+			concurrentWrite = () -> {
+			};
+			write.run();
+			return employees;
+		}
+
+		@Override
+		public BulkWriteOutcome updateAllByIdAndVersion(List<Employee> employees, List<Update> updates) {
+			return reported(super.updateAllByIdAndVersion(employees, updates), employees.size());
+		}
+
+		@Override
+		public BulkWriteOutcome deleteAllByIdAndVersion(List<Employee> employees) {
+			return reported(super.deleteAllByIdAndVersion(employees), employees.size());
+		}
+
+		private BulkWriteOutcome reported(BulkWriteOutcome outcome, int operationCount) {
+			if (!countsOnly || outcome.unmatched().isEmpty() || outcome.matchedCount() + outcome.deletedCount() == 0) {
+				return outcome;
+			}
+			Set<Integer> uncertain = new HashSet<>();
+			for (int i = 0; i < operationCount; i++) {
+				if (!outcome.errors().containsKey(i)) {
+					uncertain.add(i);
+				}
+			}
+			return new BulkWriteOutcome(outcome.matchedCount(), outcome.modifiedCount(), outcome.deletedCount(), outcome.errors(),
+					Set.of(), uncertain);
+		}
+	}
+}
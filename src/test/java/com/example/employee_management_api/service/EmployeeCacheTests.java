@@ -0,0 +1,107 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmployeeCacheTests {
+
+	@Test
+	void readAfterInvalidateNeverReturnsStaleValueWhileReadsRace() throws Exception {
+		EmployeeCache cache = new EmployeeCache(100, Duration.ZERO);
+		AtomicReference<String> storedName = new AtomicReference<>("name-0");
+		Employee employee = new Employee("id-1", "EM0001", "name-0", "a@b.com", Department.HR, null, null);
+
+		// Reads the "database" first and returns late, so a racing load would otherwise cache a stale value
+		Function<String, EmployeeDTO> slowLoader = key -> {
+			String name = storedName.get();
+			Thread.onSpinWait();
+			return new EmployeeDTO(key, name, "a@b.com", Department.HR);
+		};
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		ExecutorService readers = Executors.newFixedThreadPool(8);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			futures.add(readers.submit(() -> {
+				while (running.get()) {
+					cache.getByEmployeeId("EM0001", slowLoader);
+				}
+			}));
+		}
+
+		try {
+			for (int version = 1; version <= 2_000; version++) {
+				storedName.set("name-" + version);
+				cache.invalidate(employee);
+				assertEquals("name-" + version, cache.getByEmployeeId("EM0001", slowLoader).getFullName());
+			}
+		} finally {
+			running.set(false);
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+			readers.shutdownNow();
+		}
+	}
+
+	@Test
+	void invalidationDoesNotWaitForAnInFlightLoadAndDropsIt() throws Exception {
+		EmployeeCache cache = new EmployeeCache(100, Duration.ZERO);
+		Employee employee = new Employee("id-1", "EM0001", "name-0", "a@b.com", Department.HR, null, null);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Thread slowReader = Thread.ofPlatform().start(() -> cache.getByEmployeeId("EM0001", key -> {
+			loading.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new EmployeeDTO(key, "name-0", "a@b.com", Department.HR);
+		}));
+		assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+		try {
+			// Neither the write's invalidation nor a read after it waits for the database call of the earlier read
+			EmployeeDTO reloaded = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+				cache.invalidate(employee);
+				return cache.getByEmployeeId("EM0001", key -> new EmployeeDTO(key, "name-1", "a@b.com", Department.HR));
+			});
+			assertEquals("name-1", reloaded.getFullName());
+		} finally {
+			release.countDown();
+			slowReader.join(10_000);
+		}
+		assertEquals("name-1", cache.getByEmployeeId("EM0001", key -> null).getFullName());
+	}
+
+	@Test
+	void notFoundLookupsAreNotCached() {
+		EmployeeCache cache = new EmployeeCache(100, Duration.ZERO);
+
+		assertNull(cache.getById("missing", key -> null));
+		EmployeeDTO loaded = cache.getById("missing", key -> new EmployeeDTO("EM0002", "Jane Doe", "j@d.com", Department.SALES));
+
+		assertEquals("EM0002", loaded.getEmployeeId());
+		assertEquals(2, cache.stats().getMissCount());
+	}
+}
@@ -0,0 +1,145 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.EmployeeChange;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeChangeFeedTests {
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+	private final List<Runnable> pendingDrains = new ArrayList<>();
+
+	@Test
+	void reconnectingClientResumesAfterLastEventIdFromTheBuffer() {
+		EmployeeChangeFeed feed = feed(16, Runnable::run);
+		for (int i = 1; i <= 3; i++) {
+			feed.publish(EmployeeChange.CREATED, employee(i));
+		}
+
+		RecordingEmitter emitter = new RecordingEmitter();
+		feed.subscribe("1", emitter);
+		feed.publish(EmployeeChange.DELETED, employee(1));
+
+		assertEquals(List.of("2 created", "3 created", "4 deleted"), emitter.events());
+		assertFalse(emitter.completed);
+	}
+
+	@Test
+	void clientOlderThanTheBufferIsReplayedFromTheLog() {
+		when(mongoTemplate.findOne(any(Query.class), eq(EmployeeChange.class))).thenReturn(change(6));
+		when(mongoTemplate.find(any(Query.class), eq(EmployeeChange.class))).thenReturn(List.of(change(5), change(6)));
+		EmployeeChangeFeed feed = feed(16, Runnable::run);
+		feed.openLog();
+
+		RecordingEmitter emitter = new RecordingEmitter();
+		feed.subscribe("4", emitter);
+		feed.publish(EmployeeChange.UPDATED, employee(7));
+
+		assertEquals(List.of("5 updated", "6 updated", "7 updated"), emitter.events());
+	}
+
+	@Test
+	void slowClientIsResyncedWithoutHoldingUpWriters() {
+		EmployeeChangeFeed feed = feed(4, pendingDrains::add);
+		RecordingEmitter emitter = new RecordingEmitter();
+		feed.subscribe(null, emitter);
+		feed.publish(EmployeeChange.CREATED, employee(1));
+		runPendingDrains();
+
+		// The client does not drain while the buffer wraps around
+		for (int i = 2; i <= 10; i++) {
+			feed.publish(EmployeeChange.CREATED, employee(i));
+		}
+		runPendingDrains();
+
+		assertEquals(List.of("1 created", "resync"), emitter.events());
+		assertTrue(emitter.completed);
+	}
+
+	@Test
+	void unknownEventIdIsAskedToResync() {
+		EmployeeChangeFeed feed = feed(16, Runnable::run);
+		RecordingEmitter emitter = new RecordingEmitter();
+
+		feed.subscribe("not-an-id", emitter);
+
+		assertEquals(List.of("resync"), emitter.events());
+		assertTrue(emitter.completed);
+	}
+
+	private EmployeeChangeFeed feed(int bufferSize, Executor drainExecutor) {
+		return new EmployeeChangeFeed(mongoTemplate, new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(),
+				bufferSize, 1_000, DataSize.ofMegabytes(1), drainExecutor);
+	}
+
+	private void runPendingDrains() {
+		while (!pendingDrains.isEmpty()) {
+			pendingDrains.remove(0).run();
+		}
+	}
+
+	private static EmployeeDTO employee(int sequence) {
+		return new EmployeeDTO(String.format("EM%04d", sequence), "Jane Roe", "jane" + sequence + "@example.com", Department.HR, 1L);
+	}
+
+	private static EmployeeChange change(long id) {
+		return new EmployeeChange(id, EmployeeChange.UPDATED, "EM0001", LocalDateTime.now(), "{}");
+	}
+
+	/**
+	 * Records each sent event as "id type" (or just the type when it has no ID).
+	 */
+	private static class RecordingEmitter extends SseEmitter {
+
+		private final List<String> events = new ArrayList<>();
+		private boolean completed;
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			StringBuilder text = new StringBuilder();
+			for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+				text.append(data.getData());
+			}
+			String id = null;
+			String name = null;
+			for (String line : text.toString().split("\n")) {
+				if (line.startsWith("id:")) {
+					id = line.substring(3);
+				} else if (line.startsWith("event:")) {
+					name = line.substring(6);
+				}
+			}
+			events.add(id == null ? name : id + " " + name);
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		List<String> events() {
+			return events;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmployeeCountCacheTests {
+
+	private final EmployeeCountCache cache = new EmployeeCountCache(1_000, Duration.ofSeconds(30));
+
+	@Test
+	void writesAdjustOnlyTheSearchesThatMatchTheEmployees() {
+		SearchQuery namePrefix = SearchQuery.parse("jo", null);
+		SearchQuery department = SearchQuery.parse(null, "HR");
+		SearchQuery fullName = SearchQuery.parse("jane smith", null);
+		SearchQuery other = SearchQuery.parse("ann", "SALES");
+		cache.put(namePrefix, 5);
+		cache.put(department, 3);
+		cache.put(fullName, 1);
+		cache.put(other, 2);
+
+		cache.recordCreated(List.of(employee("John Smith", Department.HR), employee("Jane Smithers", Department.ENGINEERING)));
+
+		assertEquals(6, cached(namePrefix));
+		assertEquals(4, cached(department));
+		assertEquals(2, cached(fullName));
+		assertEquals(2, cached(other));
+
+		cache.recordDeleted(List.of(employee("John Smith", Department.HR)));
+
+		assertEquals(5, cached(namePrefix));
+		assertEquals(3, cached(department));
+		assertEquals(2, cached(fullName));
+	}
+
+	@Test
+	void searchCountedOnAMissIsAdjustedAndNeverBelowZero() {
+		SearchQuery query = SearchQuery.parse("Zoë", null);
+		assertEquals(0, cache.get(query, key -> 0L));
+
+		cache.recordDeleted(List.of(employee("Zoe Roe", Department.HR)));
+		assertEquals(0, cached(query));
+
+		cache.recordCreated(List.of(employee("Zoe Roe", Department.HR), employee("Zoey Doe", Department.SALES)));
+		assertEquals(2, cached(query));
+	}
+
+	private long cached(SearchQuery query) {
+		return cache.get(query, key -> {
+			throw new AssertionError("Expected a cached count for " + key);
+		});
+	}
+
+	private static Employee employee(String fullName, Department department) {
+		return new Employee(null, null, fullName, null, department, null, null);
+	}
+}
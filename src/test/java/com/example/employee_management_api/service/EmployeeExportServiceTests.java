@@ -0,0 +1,93 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.mapper.ExplicitEmployeeMapper;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.InMemoryEmployeeRepository;
+import com.example.employee_management_api.util.FileFormat;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmployeeExportServiceTests {
+
+	private final InMemoryEmployeeRepository repository = new InMemoryEmployeeRepository(null, Duration.ZERO);
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final EmployeeExportService exportService = new EmployeeExportService(repository, new ExplicitEmployeeMapper(), objectMapper,
+			new EmployeeMetrics(meterRegistry, 2_000));
+
+	@Test
+	void ndjsonWritesOneEmployeePerLine() throws IOException {
+		seed();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		long exported = exportService.exportEmployees(FileFormat.NDJSON, null, null, null, out);
+
+		List<JsonNode> lines = new ArrayList<>();
+		for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+			lines.add(objectMapper.readTree(line));
+		}
+		assertEquals(3, exported);
+		assertEquals(List.of("EM0001", "EM0002", "EM0003"), lines.stream().map(line -> line.get("employeeId").asText()).toList());
+		assertEquals("Doe, Jane", lines.get(0).get("fullName").asText());
+		assertEquals("SALES", lines.get(1).get("department").asText());
+		assertEquals(1, meterRegistry.get("employee.export").tag("format", "ndjson").timer().count());
+	}
+
+	@Test
+	void csvQuotesOnlyTheFieldsThatNeedIt() throws IOException {
+		seed();
+
+		assertEquals("employeeId,fullName,email,department\n"
+				+ "EM0001,\"Doe, Jane\",jane@example.com,HR\n"
+				+ "EM0002,\"Jane \"\"JR\"\" Roe\",roe@example.com,SALES\n"
+				+ "EM0003,\"John\nSmith\",john@example.com,\n", export(FileFormat.CSV, null, null, null));
+	}
+
+	@Test
+	void departmentAndCreationDatesFilterTheExport() throws IOException {
+		seed();
+
+		assertEquals("employeeId,fullName,email,department\n"
+				+ "EM0002,\"Jane \"\"JR\"\" Roe\",roe@example.com,SALES\n", export(FileFormat.CSV, Department.SALES, null, null));
+		// The creation date range is inclusive on both days
+		assertEquals("employeeId,fullName,email,department\n"
+				+ "EM0002,\"Jane \"\"JR\"\" Roe\",roe@example.com,SALES\n"
+				+ "EM0003,\"John\nSmith\",john@example.com,\n",
+				export(FileFormat.CSV, null, LocalDate.of(2024, 3, 2), LocalDate.of(2024, 3, 3)));
+	}
+
+	@Test
+	void emptyCollectionExportsNothingButTheCsvHeader() throws IOException {
+		assertEquals("", export(FileFormat.NDJSON, null, null, null));
+		assertEquals("employeeId,fullName,email,department\n", export(FileFormat.CSV, null, null, null));
+	}
+
+	private String export(FileFormat format, Department department, LocalDate createdFrom, LocalDate createdTo) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.exportEmployees(format, department, createdFrom, createdTo, out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	private void seed() {
+		repository.save(new Employee("id-1", "EM0001", "Doe, Jane", "jane@example.com", Department.HR,
+				LocalDateTime.of(2024, 3, 1, 23, 59), null));
+		repository.save(new Employee("id-2", "EM0002", "Jane \"JR\" Roe", "roe@example.com", Department.SALES,
+				LocalDateTime.of(2024, 3, 2, 0, 0), null));
+		repository.save(new Employee("id-3", "EM0003", "John\nSmith", "john@example.com", null,
+				LocalDateTime.of(2024, 3, 3, 23, 59), null));
+	}
+}
@@ -0,0 +1,250 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.dto.ImportJobDTO;
+import com.example.employee_management_api.dto.ImportRowErrorDTO;
+import com.example.employee_management_api.exception.ResourceNotFoundException;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.util.FileFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeImportServiceTests {
+
+	private static final String HEADER = "fullName,email,department\n";
+
+	// Employees written through the repository, by email
+	private final Map<String, Employee> stored = new LinkedHashMap<>();
+	private final EmployeeRepository repository = mock(EmployeeRepository.class);
+	private final SequenceBlockAllocator allocator = mock(SequenceBlockAllocator.class);
+	private final EmployeeService employeeService = EmployeeServiceTestBuilder.over(repository).allocator(allocator).build();
+	// Background jobs wait here until the test runs them
+	private final List<Runnable> pendingJobs = new ArrayList<>();
+	private final List<ImportRowErrorDTO> errors = new ArrayList<>();
+	private final List<Long> writtenChunks = new ArrayList<>();
+
+	/**
+	 * Backs the email lookup and the bulk insert with the stored map, enforcing the unique email index.
+	 */
+	@BeforeEach
+	void storeInsertedEmployees() {
+		AtomicInteger sequence = new AtomicInteger(1);
+		when(allocator.reserveRange(anyInt())).thenAnswer(invocation -> sequence.getAndAdd(invocation.getArgument(0)));
+		when(repository.findByEmailIn(any())).thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0).stream()
+				.map(stored::get)
+				.filter(Objects::nonNull)
+				.toList());
+		when(repository.insertAllUnordered(anyList())).thenAnswer(invocation -> {
+			List<Employee> employees = invocation.getArgument(0);
+			Map<Integer, Integer> failures = new HashMap<>();
+			for (int i = 0; i < employees.size(); i++) {
+				if (stored.putIfAbsent(employees.get(i).getEmail(), employees.get(i)) != null) {
+					failures.put(i, 11000);
+				}
+			}
+			return failures;
+		});
+	}
+
+	@Test
+	void csvQuotedAndMultilineFieldsAreImported() throws IOException {
+		ImportJobDTO job = importEmployees(importService(500, 10), FileFormat.CSV,
+				"email,Department,FULLNAME\r\n"
+						+ "jane@example.com,hr,\"Doe, Jane\"\r\n"
+						+ "roe@example.com,SALES,\"Jane\nRoe\"\r\n");
+
+		assertEquals("COMPLETED", job.getStatus());
+		assertEquals(2, job.getProcessedRows());
+		assertEquals(2, job.getCreatedRows());
+		assertEquals(List.of(), errors);
+		assertEquals("Doe, Jane", stored.get("jane@example.com").getFullName());
+		assertEquals("Jane\nRoe", stored.get("roe@example.com").getFullName());
+		assertEquals(Department.SALES, stored.get("roe@example.com").getDepartment());
+	}
+
+	@Test
+	void csvMalformedRowsAreRejectedWithoutStoppingTheImport() throws IOException {
+		ImportJobDTO job = importEmployees(importService(500, 10), FileFormat.CSV, HEADER
+				+ "Jane Doe,jane@example.com,HR\n"
+				+ "Jane Roe,roe@example.com\n"
+				+ "\n"
+				+ "John Smith,john@example.com,Legal\n"
+				+ "John Doe,not-an-email,SALES\n"
+				+ "John Roe,john.roe@example.com,SALES\n");
+
+		assertEquals("COMPLETED", job.getStatus());
+		assertEquals(5, job.getProcessedRows());
+		assertEquals(2, job.getCreatedRows());
+		assertEquals(3, job.getFailedRows());
+		assertEquals(List.of(
+				new ImportRowErrorDTO(2, 400, "Expected 3 columns but found 2"),
+				new ImportRowErrorDTO(3, 400, "Invalid department: Legal"),
+				new ImportRowErrorDTO(4, 400, "Invalid email format: not-an-email")), errors);
+	}
+
+	@Test
+	void csvWithoutTheRequiredColumnsFailsTheImport() {
+		EmployeeImportService importService = importService(500, 10);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> importEmployees(importService, FileFormat.CSV, "fullName,email\nJane Doe,jane@example.com\n"));
+		assertEquals("CSV header must contain fullName, email and department columns", e.getMessage());
+		assertTrue(stored.isEmpty());
+	}
+
+	@Test
+	void ndjsonRowsAreImportedAndMalformedLinesRejected() throws IOException {
+		ImportJobDTO job = importEmployees(importService(500, 10), FileFormat.NDJSON,
+				"{\"fullName\":\"Jane Doe\",\"email\":\"jane@example.com\",\"department\":\"HR\"}\n"
+						+ "\n"
+						+ "{\"fullName\":\"Jane Roe\",\"email\":\n"
+						+ "{\"fullName\":\"John Smith\",\"email\":\"john@example.com\",\"department\":\"SALES\"}");
+
+		assertEquals("COMPLETED", job.getStatus());
+		assertEquals(3, job.getProcessedRows());
+		assertEquals(2, job.getCreatedRows());
+		assertEquals(1, errors.size());
+		assertEquals(2, errors.get(0).getRow());
+		assertEquals(400, errors.get(0).getStatusCode());
+		assertEquals(Department.SALES, stored.get("john@example.com").getDepartment());
+	}
+
+	@Test
+	void rowErrorsKeepTheirFileRowNumberAcrossChunks() throws IOException {
+		ImportJobDTO job = importEmployees(importService(2, 10), FileFormat.CSV, HEADER
+				+ "Jane Doe,jane@example.com,HR\n"
+				+ "Jane Roe,roe@example.com,HR\n"
+				+ "Jane Poe,poe@example.com\n"
+				+ "John Smith,john@example.com,SALES\n"
+				+ "John Doe,not-an-email,SALES\n"
+				+ "\n"
+				+ "John Roe,john.roe@example.com,SALES\n");
+
+		assertEquals(6, job.getProcessedRows());
+		assertEquals(4, job.getCreatedRows());
+		assertEquals(List.of(2L, 5L, 6L), writtenChunks);
+		assertEquals(List.of(3L, 5L), errors.stream().map(ImportRowErrorDTO::getRow).toList());
+	}
+
+	@Test
+	void duplicateEmailsInTheFileAndInTheDatabaseAreConflicts() throws IOException {
+		employeeService.createEmployees(List.of(new EmployeeDTO(null, "Taken Name", "taken@example.com", Department.HR)));
+
+		ImportJobDTO job = importEmployees(importService(2, 10), FileFormat.CSV, HEADER
+				+ "Jane Doe,jane@example.com,HR\n"
+				+ "Jane Roe,roe@example.com,HR\n"
+				+ "Jane Poe,taken@example.com,HR\n"
+				+ "John Smith,john@example.com,SALES\n"
+				+ "John Doe,doe@example.com,SALES\n"
+				+ "John Doe,doe@example.com,SALES\n"
+				+ "Jane Smith,john@example.com,SALES\n");
+
+		assertEquals(7, job.getProcessedRows());
+		assertEquals(4, job.getCreatedRows());
+		assertEquals(3, job.getFailedRows());
+		assertEquals(List.of(
+				new ImportRowErrorDTO(3, 409, "Employee email already exists"),
+				new ImportRowErrorDTO(6, 409, "Employee email is duplicated within the batch"),
+				new ImportRowErrorDTO(7, 409, "Employee email already exists")), errors);
+		assertEquals(5, stored.size());
+	}
+
+	@Test
+	void backgroundJobRunsThenCompletesWithItsFirstErrors() throws IOException {
+		EmployeeImportService importService = importService(500, 1);
+
+		ImportJobDTO started = importService.startImportJob(FileFormat.CSV, input(HEADER
+				+ "Jane Doe,jane@example.com,HR\n"
+				+ "Jane Roe,roe@example.com\n"
+				+ "John Smith,john@example.com,Legal\n"));
+		assertEquals("RUNNING", started.getStatus());
+		assertNull(started.getFinishedAt());
+		assertEquals("RUNNING", importService.getImportJob(started.getJobId()).getStatus());
+
+		pendingJobs.forEach(Runnable::run);
+
+		ImportJobDTO finished = importService.getImportJob(started.getJobId());
+		assertEquals("COMPLETED", finished.getStatus());
+		assertNotNull(finished.getFinishedAt());
+		assertEquals(3, finished.getProcessedRows());
+		assertEquals(1, finished.getCreatedRows());
+		assertEquals(2, finished.getFailedRows());
+		assertEquals(List.of(new ImportRowErrorDTO(2, 400, "Expected 3 columns but found 2")), finished.getErrors());
+	}
+
+	@Test
+	void backgroundJobFailsOnAnUnreadableFile() throws IOException {
+		EmployeeImportService importService = importService(500, 10);
+
+		ImportJobDTO started = importService.startImportJob(FileFormat.CSV, input(HEADER + "\"Jane Doe,jane@example.com,HR\n"));
+		pendingJobs.forEach(Runnable::run);
+
+		ImportJobDTO failed = importService.getImportJob(started.getJobId());
+		assertEquals("FAILED", failed.getStatus());
+		assertEquals("Unterminated quoted field", failed.getFailureMessage());
+		assertNotNull(failed.getFinishedAt());
+	}
+
+	@Test
+	void chunkSizeAboveTheBatchLimitIsRejectedAtStartup() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> importService(1_001, 10));
+		assertEquals("Import chunk size must be between 1 and the employee batch max size (1000), but was 1001", e.getMessage());
+		assertThrows(IllegalArgumentException.class, () -> importService(0, 10));
+	}
+
+	@Test
+	void unknownJobIsNotFound() {
+		assertThrows(ResourceNotFoundException.class, () -> importService(500, 10).getImportJob("missing"));
+	}
+
+	private EmployeeImportService importService(int chunkSize, int maxReportedErrors) {
+		return new EmployeeImportService(employeeService, new ObjectMapper(), new TaskExecutorAdapter(pendingJobs::add),
+				chunkSize, maxReportedErrors);
+	}
+
+	private ImportJobDTO importEmployees(EmployeeImportService importService, FileFormat format, String content) throws IOException {
+		return importService.importEmployees(format, input(content), new EmployeeImportService.ImportListener() {
+			@Override
+			public void onRowError(ImportRowErrorDTO error) {
+				errors.add(error);
+			}
+
+			@Override
+			public void onChunkWritten(long processedRows, long createdRows, long failedRows) {
+				writtenChunks.add(processedRows);
+			}
+		});
+	}
+
+	private static InputStream input(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+}
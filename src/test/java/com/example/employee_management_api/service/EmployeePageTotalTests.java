@@ -0,0 +1,79 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.dto.PageDTO;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.InMemoryEmployeeRepository;
+import com.example.employee_management_api.util.TotalCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeePageTotalTests {
+
+	private final InMemoryEmployeeRepository repository = new InMemoryEmployeeRepository(null, Duration.ZERO);
+	private final SequenceBlockAllocator allocator = mock(SequenceBlockAllocator.class);
+	private final EmployeeService employeeService = EmployeeServiceTestBuilder.over(repository)
+			.allocator(allocator)
+			.countCache(new EmployeeCountCache(1_000, Duration.ofMinutes(5)))
+			.build();
+
+	@BeforeEach
+	void seed() {
+		repository.save(new Employee(null, "EM0001", "Jane Doe", "jane.doe@example.com", Department.HR, null, null));
+		repository.save(new Employee(null, "EM0002", "Jane Roe", "jane.roe@example.com", Department.SALES, null, null));
+		repository.save(new Employee(null, "EM0003", "John Smith", "john@example.com", Department.SALES, null, null));
+	}
+
+	@Test
+	void approximateSearchTotalsFollowCreatesAndDeletes() {
+		PageDTO<EmployeeDTO> first = searchJane(TotalCount.APPROXIMATE);
+		assertEquals(2, first.getTotalElements());
+		assertTrue(first.isHasNext());
+		assertFalse(first.isTotalExact());
+
+		when(allocator.next()).thenReturn(4);
+		employeeService.createEmployee(new EmployeeDTO(null, "Jane Poe", "jane.poe@example.com", Department.ENGINEERING));
+		assertEquals(3, searchJane(TotalCount.APPROXIMATE).getTotalElements());
+
+		employeeService.deleteEmployee("EM0001");
+		assertEquals(2, searchJane(TotalCount.APPROXIMATE).getTotalElements());
+	}
+
+	@Test
+	void exactTotalsRefreshTheCachedCount() {
+		assertEquals(2, searchJane(TotalCount.APPROXIMATE).getTotalElements());
+
+		// Written around the service, so the cached count does not see it
+		repository.save(new Employee(null, "EM0005", "Jane Zed", "jane.zed@example.com", Department.ENGINEERING, null, null));
+		assertEquals(2, searchJane(TotalCount.APPROXIMATE).getTotalElements());
+
+		PageDTO<EmployeeDTO> exact = searchJane(TotalCount.EXACT);
+		assertEquals(3, exact.getTotalElements());
+		assertTrue(exact.isTotalExact());
+		assertEquals(3, searchJane(TotalCount.APPROXIMATE).getTotalElements());
+	}
+
+	@Test
+	void lastPageTotalIsExactWithoutCounting() {
+		PageDTO<EmployeeDTO> lastPage = employeeService.getAllEmployees(PageRequest.of(1, 2), TotalCount.APPROXIMATE).getData();
+
+		assertEquals(1, lastPage.getContent().size());
+		assertFalse(lastPage.isHasNext());
+		assertEquals(3, lastPage.getTotalElements());
+		assertTrue(lastPage.isTotalExact());
+	}
+
+	private PageDTO<EmployeeDTO> searchJane(TotalCount total) {
+		return employeeService.getAllEmployeesByFullNameOrDepartment("jane", null, PageRequest.of(0, 1), total).getData();
+	}
+}
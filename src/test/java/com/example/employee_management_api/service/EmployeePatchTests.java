@@ -0,0 +1,120 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.exception.PreconditionFailedException;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.util.APIResponse;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+class EmployeePatchTests {
+
+	private final ExecutorService workers = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void shutdown() {
+		workers.shutdownNow();
+	}
+
+	@Test
+	void patchTakesOneRoundTripWhereReadModifyWriteTakesTwo() {
+		EmployeeRepository repository = mock(EmployeeRepository.class);
+		Employee stored = new Employee("id-1", "EM0001", "Jane Doe", "jane@example.com", Department.HR, null, null);
+		stored.setVersion(0L);
+		when(repository.findByEmployeeId("EM0001")).thenReturn(stored);
+		when(repository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(repository.updateByEmployeeId(eq("EM0001"), isNull(), any(Update.class))).thenReturn(stored);
+		EmployeeService employeeService = employeeService(repository);
+
+		employeeService.patchEmployee("EM0001", new EmployeeDTO(null, null, null, Department.SALES), null);
+		assertEquals(1, mockingDetails(repository).getInvocations().size());
+
+		employeeService.updateEmployee("EM0001", new EmployeeDTO(null, null, null, Department.SALES));
+		assertEquals(1 + 2, mockingDetails(repository).getInvocations().size());
+	}
+
+	@Test
+	void concurrentPatchesOfTheSameVersionApplyExactlyOnce() throws Exception {
+		EmployeeRepository repository = mock(EmployeeRepository.class);
+		AtomicReference<Employee> stored = new AtomicReference<>(versioned(0L, "Jane Doe"));
+		when(repository.findByEmployeeId("EM0001")).thenAnswer(invocation -> stored.get());
+		// Conditional update on (employeeId, version), atomic like findAndModify, returning the replaced document
+		when(repository.updateByEmployeeId(eq("EM0001"), any(), any(Update.class))).thenAnswer(invocation -> {
+			Long expectedVersion = invocation.getArgument(1);
+			Update update = invocation.getArgument(2);
+			while (true) {
+				Employee current = stored.get();
+				if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+					return null;
+				}
+				Employee next = versioned(current.getVersion() + 1, (String) update.getUpdateObject().get("$set", Document.class).get("fullName"));
+				if (stored.compareAndSet(current, next)) {
+					return current;
+				}
+			}
+		});
+		EmployeeService employeeService = employeeService(repository);
+
+		int writers = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> futures = new ArrayList<>();
+		for (int i = 0; i < writers; i++) {
+			String fullName = "Writer " + i;
+			futures.add(workers.submit(() -> {
+				start.await();
+				try {
+					APIResponse<EmployeeDTO> response = employeeService.patchEmployee("EM0001", new EmployeeDTO(null, fullName, null, null), 0L);
+					return response.getStatusCode();
+				} catch (PreconditionFailedException e) {
+					return 412;
+				}
+			}));
+		}
+		start.countDown();
+
+		int applied = 0;
+		int rejected = 0;
+		for (Future<Integer> future : futures) {
+			int statusCode = future.get(10, TimeUnit.SECONDS);
+			if (statusCode == 200) {
+				applied++;
+			} else if (statusCode == 412) {
+				rejected++;
+			}
+		}
+		assertEquals(1, applied);
+		assertEquals(writers - 1, rejected);
+		assertEquals(1L, stored.get().getVersion());
+	}
+
+	private static Employee versioned(long version, String fullName) {
+		Employee employee = new Employee("id-1", "EM0001", fullName, "jane@example.com", Department.HR, null, null);
+		employee.setVersion(version);
+		return employee;
+	}
+
+	private static EmployeeService employeeService(EmployeeRepository repository) {
+		return EmployeeServiceTestBuilder.over(repository).build();
+	}
+}
@@ -0,0 +1,161 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeReadCoalescingTests {
+
+	private static final int READERS = 16;
+
+	private final EmployeeRepository repository = mock(EmployeeRepository.class);
+	private final EmployeeCache employeeCache = new EmployeeCache(100, Duration.ZERO);
+	private final EmployeeService employeeService = EmployeeServiceTestBuilder.over(repository).employeeCache(employeeCache).build();
+	private final List<Thread> readers = new ArrayList<>();
+
+	@Test
+	void concurrentReadsOfTheSameEmployeeShareOneRepositoryCall() throws Exception {
+		when(repository.findByEmployeeId("EM0001")).thenAnswer(invocation -> {
+			awaitOtherReadersWaiting();
+			return employee("EM0001");
+		});
+
+		List<Object> results = readConcurrently(() -> employeeService.getEmployeeByEmployeeId("EM0001").getData().getEmployeeId());
+
+		assertEquals(READERS, results.size());
+		assertTrue(results.stream().allMatch("EM0001"::equals));
+		verify(repository, times(1)).findByEmployeeId("EM0001");
+	}
+
+	@Test
+	void everyWaiterReceivesTheOutcomeOfTheSharedCall() throws Exception {
+		when(repository.findById("404")).thenAnswer(invocation -> {
+			awaitOtherReadersWaiting();
+			return Optional.empty();
+		});
+		when(repository.findByEmployeeId("EM0500")).thenAnswer(invocation -> {
+			awaitOtherReadersWaiting();
+			throw new DataAccessResourceFailureException("Timed out");
+		});
+
+		List<Object> notFound = readConcurrently(() -> employeeService.getEmployeeById("404").getStatusCode());
+		List<Object> failed = readConcurrently(() -> employeeService.getEmployeeByEmployeeId("EM0500"));
+
+		assertEquals(READERS, notFound.size());
+		assertTrue(notFound.stream().allMatch(Integer.valueOf(404)::equals));
+		assertTrue(failed.stream().allMatch(DataAccessResourceFailureException.class::isInstance));
+		verify(repository, times(1)).findById("404");
+		verify(repository, times(1)).findByEmployeeId("EM0500");
+	}
+
+	@Test
+	void readsOfOtherEmployeesDoNotWaitForASlowRead() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch slowReadStarted = new CountDownLatch(1);
+		when(repository.findByEmployeeId("EM0001")).thenAnswer(invocation -> {
+			slowReadStarted.countDown();
+			release.await();
+			return employee("EM0001");
+		});
+		when(repository.findByEmployeeId("EM0002")).thenReturn(employee("EM0002"));
+
+		Thread slowReader = Thread.ofPlatform().start(() -> employeeService.getEmployeeByEmployeeId("EM0001"));
+		assertTrue(slowReadStarted.await(10, TimeUnit.SECONDS));
+
+		assertEquals("EM0002", employeeService.getEmployeeByEmployeeId("EM0002").getData().getEmployeeId());
+		release.countDown();
+		slowReader.join(10_000);
+	}
+
+	@Test
+	void readsAfterAWriteDoNotJoinAnEarlierRead() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch staleReadStarted = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+		when(repository.findByEmployeeId("EM0001")).thenAnswer(invocation -> {
+			if (calls.getAndIncrement() > 0) {
+				return employee("EM0001", "Jane Smith");
+			}
+			staleReadStarted.countDown();
+			release.await();
+			return employee("EM0001", "Jane Doe");
+		});
+
+		Thread staleReader = Thread.ofPlatform().start(() -> employeeService.getEmployeeByEmployeeId("EM0001"));
+		assertTrue(staleReadStarted.await(10, TimeUnit.SECONDS));
+
+		// What a write does once the database has the new name
+		employeeCache.invalidate(employee("EM0001", "Jane Smith"));
+		assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+				assertEquals("Jane Smith", employeeService.getEmployeeByEmployeeId("EM0001").getData().getFullName()));
+
+		release.countDown();
+		staleReader.join(10_000);
+		assertEquals("Jane Smith", employeeService.getEmployeeByEmployeeId("EM0001").getData().getFullName());
+		verify(repository, times(2)).findByEmployeeId("EM0001");
+	}
+
+	/**
+	 * Runs the read on READERS threads and returns what each returned or threw.
+	 */
+	private List<Object> readConcurrently(Supplier<Object> read) throws InterruptedException {
+		readers.clear();
+		ConcurrentLinkedQueue<Object> results = new ConcurrentLinkedQueue<>();
+		for (int i = 0; i < READERS; i++) {
+			readers.add(Thread.ofPlatform().unstarted(() -> {
+				try {
+					results.add(read.get());
+				} catch (RuntimeException e) {
+					results.add(e);
+				}
+			}));
+		}
+		readers.forEach(Thread::start);
+		for (Thread reader : readers) {
+			reader.join(10_000);
+		}
+		return new ArrayList<>(results);
+	}
+
+	/**
+	 * Holds the repository call until every other reader is parked on the shared call.
+	 */
+	private void awaitOtherReadersWaiting() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!readers.stream().filter(reader -> reader != Thread.currentThread())
+				.allMatch(reader -> reader.getState() == Thread.State.WAITING)) {
+			if (System.nanoTime() > deadline) {
+				throw new IllegalStateException("Readers did not join the shared call");
+			}
+			Thread.sleep(1);
+		}
+	}
+
+	private static Employee employee(String employeeId) {
+		return employee(employeeId, "Jane Doe");
+	}
+
+	private static Employee employee(String employeeId, String fullName) {
+		return new Employee("id-" + employeeId, employeeId, fullName, "jane@example.com", Department.HR, null, null);
+	}
+}
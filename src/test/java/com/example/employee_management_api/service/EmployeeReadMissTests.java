@@ -0,0 +1,82 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import com.example.employee_management_api.repository.InMemoryEmployeeRepository;
+import com.example.employee_management_api.util.APIResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeReadMissTests {
+
+	private final InMemoryEmployeeRepository repository = new InMemoryEmployeeRepository(null, Duration.ZERO);
+	private final EmployeeService employeeService = service(repository);
+
+	@BeforeEach
+	void seed() {
+		repository.save(new Employee(null, "EM0001", "Jane Doe", "jane@example.com", Department.HR, null, null));
+	}
+
+	@Test
+	void missingEmployeesAreNotFoundResponses() {
+		APIResponse<EmployeeDTO> byEmployeeId = employeeService.getEmployeeByEmployeeId("EM0404");
+		assertEquals(404, byEmployeeId.getStatusCode());
+		assertEquals("No Employee found for the given id: EM0404", byEmployeeId.getMessage());
+		assertNull(byEmployeeId.getData());
+
+		APIResponse<EmployeeDTO> byId = employeeService.getEmployeeById("404");
+		assertEquals(404, byId.getStatusCode());
+		assertNull(byId.getData());
+
+		assertEquals(200, employeeService.getEmployeeByEmployeeId("EM0001").getStatusCode());
+	}
+
+	@Test
+	void updatingAMissingEmployeeIsANotFoundResponse() {
+		APIResponse<EmployeeDTO> response = employeeService.updateEmployee("EM0404", new EmployeeDTO(null, "Jane Roe", null, null));
+
+		assertEquals(404, response.getStatusCode());
+		assertEquals("No Employee found for the given id: EM0404", response.getMessage());
+		assertNull(response.getData());
+		assertEquals("Jane Doe", repository.findByEmployeeId("EM0001").getFullName());
+	}
+
+	@Test
+	void emptyPagesAreNotFoundResponses() {
+		Pageable secondPage = PageRequest.of(1, 20);
+
+		assertEquals(404, employeeService.getAllEmployees(secondPage).getStatusCode());
+		assertEquals(404, employeeService.getAllEmployeesByFullNameOrDepartment("nobody", null, PageRequest.of(0, 20)).getStatusCode());
+		assertEquals(200, employeeService.getAllEmployees(PageRequest.of(0, 20)).getStatusCode());
+	}
+
+	@Test
+	void databaseFailuresAreStillThrown() {
+		EmployeeRepository failing = mock(EmployeeRepository.class);
+		when(failing.findByEmployeeId("EM0001")).thenThrow(new QueryTimeoutException("Timed out"));
+		when(failing.findSlice(any(Pageable.class), any())).thenThrow(new QueryTimeoutException("Timed out"));
+		EmployeeService failingService = service(failing);
+
+		assertThrows(DataAccessResourceFailureException.class, () -> failingService.getEmployeeByEmployeeId("EM0001"));
+		assertThrows(DataAccessResourceFailureException.class, () -> failingService.getAllEmployees(PageRequest.of(0, 20)));
+	}
+
+	private static EmployeeService service(EmployeeRepository repository) {
+		return EmployeeServiceTestBuilder.over(repository).build();
+	}
+}
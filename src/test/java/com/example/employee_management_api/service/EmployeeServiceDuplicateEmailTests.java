@@ -0,0 +1,113 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.dto.EmployeeDTO;
+import com.example.employee_management_api.exception.DuplicateValueException;
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeServiceDuplicateEmailTests {
+
+	private final ExecutorService workers = Executors.newFixedThreadPool(8);
+
+	@AfterEach
+	void shutdown() {
+		workers.shutdownNow();
+	}
+
+	@Test
+	void concurrentCreatesWithTheSameEmailCreateExactlyOneEmployee() throws Exception {
+		EmployeeRepository repository = uniqueEmailRepository();
+		EmployeeService employeeService = employeeService(repository, new EmployeeEmailFilter(1_000, 0.01));
+
+		int attempts = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Integer>> futures = new ArrayList<>();
+		for (int i = 0; i < attempts; i++) {
+			futures.add(workers.submit(() -> {
+				start.await();
+				try {
+					return employeeService.createEmployee(new EmployeeDTO(null, "Jane Doe", "jane@example.com", Department.HR)).getStatusCode();
+				} catch (DuplicateValueException e) {
+					return 409;
+				}
+			}));
+		}
+		start.countDown();
+
+		int created = 0;
+		int conflicts = 0;
+		for (Future<Integer> future : futures) {
+			int statusCode = future.get(10, TimeUnit.SECONDS);
+			if (statusCode == 201) {
+				created++;
+			} else if (statusCode == 409) {
+				conflicts++;
+			}
+		}
+		assertEquals(1, created);
+		assertEquals(attempts - 1, conflicts);
+	}
+
+	@Test
+	void newEmailSkipsTheLookupAndKnownEmailIsRejected() {
+		EmployeeRepository repository = uniqueEmailRepository();
+		EmployeeEmailFilter emailFilter = new EmployeeEmailFilter(1_000, 0.01);
+		EmployeeService employeeService = employeeService(repository, emailFilter);
+
+		employeeService.createEmployee(new EmployeeDTO(null, "Jane Doe", "jane@example.com", Department.HR));
+		verify(repository, never()).findEmployeeByEmail(anyString());
+
+		when(repository.findEmployeeByEmail("jane@example.com")).thenReturn(new Employee());
+		assertThrows(DuplicateValueException.class,
+				() -> employeeService.createEmployee(new EmployeeDTO(null, "Jane Roe", "jane@example.com", Department.HR)));
+		assertTrue(emailFilter.stats().getSkippedLookupCount() >= 1);
+	}
+
+	private static EmployeeService employeeService(EmployeeRepository repository, EmployeeEmailFilter emailFilter) {
+		SequenceBlockAllocator allocator = mock(SequenceBlockAllocator.class);
+		AtomicInteger sequence = new AtomicInteger();
+		when(allocator.next()).thenAnswer(invocation -> sequence.incrementAndGet());
+		return EmployeeServiceTestBuilder.over(repository).allocator(allocator).emailFilter(emailFilter).build();
+	}
+
+	/**
+	 * Repository whose lookups never see concurrent inserts, with the unique email index enforced on save.
+	 */
+	private static EmployeeRepository uniqueEmailRepository() {
+		EmployeeRepository repository = mock(EmployeeRepository.class);
+		Map<String, Employee> byEmail = new ConcurrentHashMap<>();
+		when(repository.save(any(Employee.class))).thenAnswer(invocation -> {
+			Employee employee = invocation.getArgument(0);
+			if (byEmail.putIfAbsent(employee.getEmail(), employee) != null) {
+				throw new DuplicateKeyException("E11000 duplicate key error collection: employees index: email");
+			}
+			return employee;
+		});
+		return repository;
+	}
+}
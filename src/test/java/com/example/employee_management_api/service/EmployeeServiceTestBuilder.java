@@ -0,0 +1,73 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.mapper.ExplicitEmployeeMapper;
+import com.example.employee_management_api.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Builds an EmployeeService over the given repository for unit tests.
+ * Collaborators a test does not set are real caches and filters with small sizes, or Mockito mocks.
+ */
+class EmployeeServiceTestBuilder {
+
+	private final EmployeeRepository repository;
+	private SequenceBlockAllocator allocator = mock(SequenceBlockAllocator.class);
+	private EmployeeCache employeeCache = new EmployeeCache(100, Duration.ZERO);
+	private EmployeeCountCache countCache = new EmployeeCountCache(1_000, Duration.ofSeconds(30));
+	private EmployeeEmailFilter emailFilter = new EmployeeEmailFilter(1_000, 0.01);
+	private EmployeeStatsService statsService = mock(EmployeeStatsService.class);
+	private EmployeeChangeFeed changeFeed = mock(EmployeeChangeFeed.class);
+	private int maxBatchSize = 1_000;
+
+	private EmployeeServiceTestBuilder(EmployeeRepository repository) {
+		this.repository = repository;
+	}
+
+	static EmployeeServiceTestBuilder over(EmployeeRepository repository) {
+		return new EmployeeServiceTestBuilder(repository);
+	}
+
+	EmployeeServiceTestBuilder allocator(SequenceBlockAllocator allocator) {
+		this.allocator = allocator;
+		return this;
+	}
+
+	EmployeeServiceTestBuilder employeeCache(EmployeeCache employeeCache) {
+		this.employeeCache = employeeCache;
+		return this;
+	}
+
+	EmployeeServiceTestBuilder countCache(EmployeeCountCache countCache) {
+		this.countCache = countCache;
+		return this;
+	}
+
+	EmployeeServiceTestBuilder emailFilter(EmployeeEmailFilter emailFilter) {
+		this.emailFilter = emailFilter;
+		return this;
+	}
+
+	EmployeeServiceTestBuilder statsService(EmployeeStatsService statsService) {
+		this.statsService = statsService;
+		return this;
+	}
+
+	EmployeeServiceTestBuilder changeFeed(EmployeeChangeFeed changeFeed) {
+		this.changeFeed = changeFeed;
+		return this;
+	}
+
+	EmployeeServiceTestBuilder maxBatchSize(int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+		return this;
+	}
+
+	EmployeeService build() {
+		return new EmployeeService(repository, allocator, new ExplicitEmployeeMapper(), employeeCache, countCache, emailFilter,
+				statsService, changeFeed, new EmployeeMetrics(new SimpleMeterRegistry(), 2_000), maxBatchSize);
+	}
+}
@@ -0,0 +1,74 @@
+package com.example.employee_management_api.service;
+
+import com.example.employee_management_api.model.Department;
+import com.example.employee_management_api.model.Employee;
+import com.example.employee_management_api.model.EmployeeStat;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmployeeStatsServiceTests {
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+	private final BulkOperations bulkOperations = mock(BulkOperations.class);
+	private final Map<String, Long> upserts = new HashMap<>();
+	private final EmployeeStatsService statsService = new EmployeeStatsService(mongoTemplate);
+
+	EmployeeStatsServiceTests() {
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmployeeStat.class)).thenReturn(bulkOperations);
+		when(bulkOperations.upsert(any(Query.class), any(Update.class))).thenAnswer(invocation -> {
+			Query query = invocation.getArgument(0);
+			Update update = invocation.getArgument(1);
+			upserts.put(query.getQueryObject().getString("id"),
+					((Number) update.getUpdateObject().get("$inc", Document.class).get("count")).longValue());
+			return bulkOperations;
+		});
+	}
+
+	@Test
+	void batchOfCreatedEmployeesIsOneBulkWriteWithMergedDeltas() {
+		LocalDateTime createdAt = LocalDateTime.of(2026, 10, 17, 9, 30);
+		statsService.recordCreated(List.of(
+				employee(Department.HR, createdAt),
+				employee(Department.HR, createdAt.plusHours(1)),
+				employee(Department.SALES, createdAt.plusDays(1))));
+
+		verify(bulkOperations, times(1)).execute();
+		assertEquals(Map.of("department:HR", 2L, "department:SALES", 1L, "day:2026-10-17", 2L, "day:2026-10-18", 1L), upserts);
+	}
+
+	@Test
+	void departmentChangeMovesOneEmployeeBetweenCounters() {
+		statsService.recordDepartmentChanged(Department.HR, Department.SALES);
+
+		assertEquals(Map.of("department:HR", -1L, "department:SALES", 1L), upserts);
+	}
+
+	@Test
+	void unchangedDepartmentWritesNothing() {
+		statsService.recordDepartmentChanged(Department.HR, Department.HR);
+
+		verify(mongoTemplate, never()).bulkOps(eq(BulkOperations.BulkMode.UNORDERED), eq(EmployeeStat.class));
+	}
+
+	private static Employee employee(Department department, LocalDateTime createdAt) {
+		return new Employee(null, null, "Jane Doe", "jane@example.com", department, createdAt, null);
+	}
+}
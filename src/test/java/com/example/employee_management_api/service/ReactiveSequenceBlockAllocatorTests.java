@@ -0,0 +1,62 @@
+package com.example.employee_management_api.service;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReactiveSequenceBlockAllocatorTests {
+
+	@Test
+	void concurrentCallersShareOneRefill() {
+		InMemoryReactiveCounterService counter = new InMemoryReactiveCounterService(Duration.ofMillis(50));
+		ReactiveSequenceBlockAllocator allocator = new ReactiveSequenceBlockAllocator(counter, "employeeId", 200);
+
+		List<Integer> ids = Flux.range(0, 100)
+				.flatMap(i -> allocator.next())
+				.collectList()
+				.block(Duration.ofSeconds(10));
+
+		assertEquals(100, new HashSet<>(ids).size());
+		assertEquals(1, counter.reservations.get());
+	}
+
+	@Test
+	void reservesOneBlockPerBlockSizeIds() {
+		InMemoryReactiveCounterService counter = new InMemoryReactiveCounterService(Duration.ZERO);
+		ReactiveSequenceBlockAllocator allocator = new ReactiveSequenceBlockAllocator(counter, "employeeId", 50);
+
+		for (int i = 1; i <= 100; i++) {
+			assertEquals(i, allocator.next().block());
+		}
+		assertEquals(2, counter.reservations.get());
+	}
+
+	/**
+	 * Stand-in for the counters collection with a configurable round-trip delay.
+	 */
+	private static class InMemoryReactiveCounterService extends ReactiveCounterService {
+		private final AtomicInteger sequence = new AtomicInteger();
+		private final AtomicInteger reservations = new AtomicInteger();
+		private final Duration latency;
+
+		InMemoryReactiveCounterService(Duration latency) {
+			super(null);
+			this.latency = latency;
+		}
+
+		@Override
+		public Mono<Integer> reserveBlock(String counterName, int blockSize) {
+			return Mono.delay(latency).map(tick -> {
+				reservations.incrementAndGet();
+				return sequence.addAndGet(blockSize);
+			});
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.example.employee_management_api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SequenceBlockAllocatorTests {
+
+	private final ExecutorService prefetchExecutor = Executors.newFixedThreadPool(2);
+	private final ExecutorService workers = Executors.newFixedThreadPool(16);
+
+	@AfterEach
+	void shutdown() {
+		prefetchExecutor.shutdownNow();
+		workers.shutdownNow();
+	}
+
+	@Test
+	void idsAreUniqueAcrossThreadsAndInstancesSharingOneCounter() throws Exception {
+		StubCounterService sharedCounter = new StubCounterService();
+		SequenceBlockAllocator nodeA = new SequenceBlockAllocator(sharedCounter, "employeeId", 20, 5, prefetchExecutor);
+		SequenceBlockAllocator nodeB = new SequenceBlockAllocator(sharedCounter, "employeeId", 20, 5, prefetchExecutor);
+
+		int threads = 16;
+		int idsPerThread = 2_000;
+		Set<Integer> ids = ConcurrentHashMap.newKeySet();
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (int i = 0; i < threads; i++) {
+			SequenceBlockAllocator allocator = (i % 2 == 0) ? nodeA : nodeB;
+			futures.add(workers.submit(() -> {
+				start.await();
+				for (int j = 0; j < idsPerThread; j++) {
+					assertTrue(ids.add(allocator.next()), "Duplicate id allocated");
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get(30, TimeUnit.SECONDS);
+		}
+
+		assertEquals(threads * idsPerThread, ids.size());
+	}
+
+	@Test
+	void reservesOneBlockPerBlockSizeIds() {
+		StubCounterService counter = new StubCounterService();
+		SequenceBlockAllocator allocator = new SequenceBlockAllocator(counter, "employeeId", 50, 0, Runnable::run);
+
+		for (int i = 1; i <= 100; i++) {
+			assertEquals(i, allocator.next());
+		}
+		assertEquals(2, counter.reservations.get());
+	}
+
+	@Test
+	void refillStatisticsCountOnlyWaitsForExhaustedBlocks() {
+		StubCounterService counter = new StubCounterService();
+		SequenceBlockAllocator allocator = new SequenceBlockAllocator(counter, "employeeId", 50, 0, Runnable::run);
+
+		for (int i = 0; i < 100; i++) {
+			allocator.next();
+		}
+		assertEquals(2, allocator.getRefillWaitCount());
+		assertEquals(2, allocator.getFetchedBlockCount());
+		assertEquals(0, allocator.getPrefetchedBlockCount());
+		assertEquals(0, allocator.getContendedRefillCount());
+	}
+
+	/**
+	 * Stand-in for the counters collection: a single atomic $inc shared by all allocators.
+	 */
+	private static class StubCounterService extends CounterService {
+		private final AtomicInteger sequence = new AtomicInteger();
+		private final AtomicInteger reservations = new AtomicInteger();
+
+		@Override
+		public int reserveBlock(String counterName, int blockSize) {
+			reservations.incrementAndGet();
+			return sequence.addAndGet(blockSize);
+		}
+	}
+}
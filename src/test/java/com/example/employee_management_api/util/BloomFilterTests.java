@@ -0,0 +1,33 @@
+package com.example.employee_management_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTests {
+
+	@Test
+	void hasNoFalseNegativesAndStaysNearTheConfiguredFalsePositiveRate() {
+		int insertions = 10_000;
+		BloomFilter filter = BloomFilter.create(insertions, 0.01);
+		for (int i = 0; i < insertions; i++) {
+			filter.put("employee" + i + "@example.com");
+		}
+
+		for (int i = 0; i < insertions; i++) {
+			assertTrue(filter.mightContain("employee" + i + "@example.com"));
+		}
+
+		int probes = 100_000;
+		int falsePositives = 0;
+		for (int i = 0; i < probes; i++) {
+			if (filter.mightContain("candidate" + i + "@example.org")) {
+				falsePositives++;
+			}
+		}
+		double observedRate = (double) falsePositives / probes;
+		assertTrue(observedRate < 0.02, "Observed false-positive rate " + observedRate);
+		assertTrue(filter.expectedFalsePositiveProbability() < 0.02);
+		assertTrue(Math.abs(filter.approximateElementCount() - insertions) < insertions / 20);
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.employee_management_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvRecordReaderTests {
+
+	@Test
+	void quotedFieldsKeepSeparatorsEscapedQuotesAndLineBreaks() throws IOException {
+		List<List<String>> records = readAll("\"Doe, Jane\",\"say \"\"hi\"\"\",\"line 1\r\nline 2\"\nplain,,\n");
+
+		assertEquals(List.of(
+				List.of("Doe, Jane", "say \"hi\"", "line 1\r\nline 2"),
+				List.of("plain", "", "")), records);
+	}
+
+	@Test
+	void blankLinesAreEmptyRecordsForEveryLineEnding() throws IOException {
+		List<List<String>> records = readAll("a,b\r\n\r\nc\rd\n\ne");
+
+		assertEquals(List.of(List.of("a", "b"), List.of(), List.of("c"), List.of("d"), List.of(), List.of("e")), records);
+	}
+
+	@Test
+	void endOfInputIsNull() throws IOException {
+		CsvRecordReader reader = new CsvRecordReader(new StringReader("a\n"));
+
+		assertEquals(List.of("a"), reader.readRecord());
+		assertNull(reader.readRecord());
+		assertNull(reader.readRecord());
+	}
+
+	@Test
+	void unterminatedQuotedFieldIsRejected() throws IOException {
+		CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b\n\"open,c\n"));
+
+		assertEquals(List.of("a", "b"), reader.readRecord());
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::readRecord);
+		assertEquals("Unterminated quoted field", e.getMessage());
+	}
+
+	private static List<List<String>> readAll(String csv) throws IOException {
+		CsvRecordReader reader = new CsvRecordReader(new StringReader(csv));
+		List<List<String>> records = new ArrayList<>();
+		for (List<String> record = reader.readRecord(); record != null; record = reader.readRecord()) {
+			records.add(record);
+		}
+		return records;
+	}
+}
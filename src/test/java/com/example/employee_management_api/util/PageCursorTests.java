@@ -0,0 +1,53 @@
+package com.example.employee_management_api.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageCursorTests {
+
+	@Test
+	void encodedCursorDecodesToTheSameCursor() {
+		PageCursor cursor = new PageCursor("fullName", Sort.Direction.DESC, "Zoë Ångström", "65f0c0ffee0000000000abcd");
+
+		PageCursor decoded = PageCursor.decode(cursor.encode());
+
+		assertEquals(cursor, decoded);
+		assertFalse(decoded.isFirstPage());
+	}
+
+	@Test
+	void firstPageAndMissingValuesSurviveTheRoundTrip() {
+		PageCursor first = new PageCursor("createdAt", Sort.Direction.ASC, null, null);
+		PageCursor withoutValue = first.next(null, "65f0c0ffee0000000000abcd");
+
+		assertTrue(PageCursor.decode(first.encode()).isFirstPage());
+		assertEquals(withoutValue, PageCursor.decode(withoutValue.encode()));
+		assertNull(PageCursor.decode(withoutValue.encode()).lastDateTime());
+	}
+
+	@Test
+	void dateTimeValueIsParsedAndMalformedOnesAreRejected() {
+		LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_000_000);
+		PageCursor cursor = new PageCursor("createdAt", Sort.Direction.ASC, createdAt.toString(), "65f0c0ffee0000000000abcd");
+
+		assertEquals(createdAt, PageCursor.decode(cursor.encode()).lastDateTime());
+		assertThrows(IllegalArgumentException.class, () -> cursor.next("yesterday", "65f0c0ffee0000000000abcd").lastDateTime());
+	}
+
+	@Test
+	void malformedTokensAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor!"));
+		// "id", "ASC", "" without the last id
+		assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("aWQfQVNDHw"));
+		// "id", "UP", "", ""
+		assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("aWQfVVAfHw"));
+	}
+}
@@ -0,0 +1,27 @@
+package com.example.employee_management_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchTokensTests {
+
+	@Test
+	void tokenizeLowerCasesStripsDiacriticsAndSplitsOnSeparators() {
+		assertEquals(List.of("jose", "garcia", "lopez"), SearchTokens.tokenize("  José García-López "));
+	}
+
+	@Test
+	void tokenizeDropsRegexMetacharactersAndDuplicates() {
+		assertEquals(List.of("a", "b"), SearchTokens.tokenize("a.*(b)|a"));
+	}
+
+	@Test
+	void tokenizeBlankInputReturnsNoTokens() {
+		assertTrue(SearchTokens.tokenize("   ").isEmpty());
+		assertTrue(SearchTokens.tokenize(null).isEmpty());
+	}
+}